@@ -0,0 +1,77 @@
+package com.shiroyama.chess2.benchmarks;
+
+import com.shiroyama.chess2.arena.Arena;
+import com.shiroyama.chess2.arena.ProjectilePool;
+import com.shiroyama.chess2.chessboard.model.TargetPoint;
+import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+import com.shiroyama.chess2.chessboard.pieces.Team;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Arena#update(float)} with a number of projectiles in flight.
+ * The pieces never shoot and the arena is updated by no time, so the projectiles stay where they were spawned,
+ * between the pieces without touching them, and every call tests the same projectiles for hits and bounds.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ArenaBenchmark {
+
+    /**
+     * The width and height of the arena, the one of the default window.
+     */
+    private static final float WIDTH = 640 / 50f, HEIGHT = 480 / 50f;
+
+    /**
+     * The number of projectiles in flight.
+     */
+    @Param({"0", "16", "256", "1024"})
+    public int projectileCount;
+
+    /**
+     * The arena.
+     */
+    private Arena arena;
+
+    /**
+     * Creates the arena with the projectiles spread over the band between the pieces.
+     */
+    @Setup
+    public void setUp() {
+        PieceInfo attacker = new PieceInfo(Team.WHITE, PieceType.QUEEN, new TargetPoint(WIDTH / 2, HEIGHT * 0.8f),
+            Integer.MAX_VALUE, 0f);
+        PieceInfo defender = new PieceInfo(Team.BLACK, PieceType.QUEEN, new TargetPoint(WIDTH / 2, HEIGHT * 0.2f),
+            Integer.MAX_VALUE, 0f);
+        arena = new Arena(attacker, defender, new TargetPoint(WIDTH, HEIGHT));
+
+        ProjectilePool projectiles = arena.getProjectiles();
+        for (int i = 0; i < projectileCount; i++) {
+            float x = (i % 64 + 0.5f) * (WIDTH / 64);
+            float y = HEIGHT * 0.35f + (i / 64 % 16) * (HEIGHT * 0.3f / 16);
+            Team team = (i % 2 == 0) ? Team.WHITE : Team.BLACK;
+            projectiles.spawn(team, x, y, x, 0f);
+        }
+        arena.startCombat();
+    }
+
+    /**
+     * Updates the arena once.
+     *
+     * @return the arena, so the call is not eliminated
+     */
+    @Benchmark
+    public Arena update() {
+        arena.update(0f);
+        return arena;
+    }
+}
@@ -0,0 +1,77 @@
+package com.shiroyama.chess2.benchmarks;
+
+import com.shiroyama.chess2.chessboard.model.BoardState;
+import com.shiroyama.chess2.chessboard.model.TargetPoint;
+import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the piece lookups and moves of the board.
+ * {@link com.shiroyama.chess2.chessboard.model.ChessBoard} inherits both from {@link BoardState},
+ * which is measured directly as it needs no textures.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BoardStateBenchmark {
+
+    /**
+     * The board in its starting position.
+     */
+    private BoardState board;
+
+    /**
+     * Every square of the board.
+     */
+    private final TargetPoint[] squares = new TargetPoint[64];
+
+    /**
+     * The starting and the target square of the moved knight.
+     */
+    private final TargetPoint knightFrom = new TargetPoint(1, 7), knightTo = new TargetPoint(2, 5);
+
+    /**
+     * Creates the board.
+     */
+    @Setup
+    public void setUp() {
+        board = new BoardState();
+        for (int square = 0; square < 64; square++) {
+            squares[square] = new TargetPoint(square % 8, square / 8);
+        }
+    }
+
+    /**
+     * Looks up every square of the board.
+     *
+     * @param blackhole consumes the pieces
+     */
+    @Benchmark
+    public void getPieceAllSquares(Blackhole blackhole) {
+        for (TargetPoint square : squares) {
+            PieceInfo piece = board.getPiece(square);
+            blackhole.consume(piece);
+        }
+    }
+
+    /**
+     * Moves a knight out and back, so the board is the same after each call.
+     *
+     * @return the moved knight
+     */
+    @Benchmark
+    public PieceInfo movePieceRoundTrip() {
+        board.movePiece(knightFrom, knightTo);
+        board.movePiece(knightTo, knightFrom);
+        return board.getPiece(knightFrom);
+    }
+}
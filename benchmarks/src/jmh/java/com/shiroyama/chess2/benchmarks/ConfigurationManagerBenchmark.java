@@ -0,0 +1,100 @@
+package com.shiroyama.chess2.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+import com.shiroyama.chess2.utils.ConfigurationManager;
+import com.shiroyama.chess2.utils.PieceStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the stat lookups of {@link ConfigurationManager}, as done for every piece created.
+ * A headless libGDX application provides the files and preferences the manager reads at startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConfigurationManagerBenchmark {
+
+    /**
+     * Cached {@link PieceType} values.
+     */
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    /**
+     * The headless application backing the manager.
+     */
+    private HeadlessApplication application;
+
+    /**
+     * The manager.
+     */
+    private ConfigurationManager configurationManager;
+
+    /**
+     * Starts the headless application and loads the stats.
+     */
+    @Setup
+    public void setUp() {
+        application = new HeadlessApplication(new ApplicationAdapter() {
+        }, new HeadlessApplicationConfiguration());
+        configurationManager = ConfigurationManager.getInstance();
+    }
+
+    /**
+     * Stops the headless application.
+     */
+    @TearDown
+    public void tearDown() {
+        application.exit();
+    }
+
+    /**
+     * Looks up the HP of every piece type.
+     *
+     * @param blackhole consumes the HP
+     */
+    @Benchmark
+    public void getHp(Blackhole blackhole) {
+        for (PieceType pieceType : PIECE_TYPES) {
+            blackhole.consume(configurationManager.getHp(pieceType));
+        }
+    }
+
+    /**
+     * Looks up the attack rate of every piece type.
+     *
+     * @param blackhole consumes the attack rates
+     */
+    @Benchmark
+    public void getAttackRate(Blackhole blackhole) {
+        for (PieceType pieceType : PIECE_TYPES) {
+            blackhole.consume(configurationManager.getAttackRate(pieceType));
+        }
+    }
+
+    /**
+     * Looks up both stats of every piece type from one snapshot.
+     *
+     * @param blackhole consumes the stats
+     */
+    @Benchmark
+    public void getStatsSnapshot(Blackhole blackhole) {
+        PieceStats stats = configurationManager.getStats();
+        for (PieceType pieceType : PIECE_TYPES) {
+            blackhole.consume(stats.getHp(pieceType));
+            blackhole.consume(stats.getAttackRate(pieceType));
+        }
+    }
+}
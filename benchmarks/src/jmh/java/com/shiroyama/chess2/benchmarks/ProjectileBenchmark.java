@@ -0,0 +1,65 @@
+package com.shiroyama.chess2.benchmarks;
+
+import com.shiroyama.chess2.arena.Projectile;
+import com.shiroyama.chess2.chessboard.model.TargetPoint;
+import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+import com.shiroyama.chess2.chessboard.pieces.Team;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Projectile#hit(PieceInfo)} for a projectile missing and a projectile hitting a piece.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProjectileBenchmark {
+
+    /**
+     * A white projectile flying over the black piece, and one flying beside it.
+     */
+    private Projectile hitting, missing;
+
+    /**
+     * The black piece the projectiles are tested against.
+     */
+    private PieceInfo target;
+
+    /**
+     * Creates the projectiles and the piece.
+     */
+    @Setup
+    public void setUp() {
+        target = new PieceInfo(Team.BLACK, PieceType.ROOK, new TargetPoint(4, 4), 5, 1f);
+        hitting = new Projectile(Team.WHITE, new TargetPoint(4.5f, 4.5f), new TargetPoint(4.5f, 0));
+        missing = new Projectile(Team.WHITE, new TargetPoint(8, 8), new TargetPoint(8, 0));
+    }
+
+    /**
+     * Tests a projectile overlapping the piece.
+     *
+     * @return the result of the test
+     */
+    @Benchmark
+    public boolean hit() {
+        return hitting.hit(target);
+    }
+
+    /**
+     * Tests a projectile away from the piece.
+     *
+     * @return the result of the test
+     */
+    @Benchmark
+    public boolean miss() {
+        return missing.hit(target);
+    }
+}
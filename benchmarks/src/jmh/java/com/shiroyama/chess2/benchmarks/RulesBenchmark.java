@@ -0,0 +1,100 @@
+package com.shiroyama.chess2.benchmarks;
+
+import com.shiroyama.chess2.chessboard.model.BoardState;
+import com.shiroyama.chess2.chessboard.model.TargetPoint;
+import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+import com.shiroyama.chess2.chessboard.pieces.Rules;
+import com.shiroyama.chess2.chessboard.pieces.Team;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Rules#GetValidMoves(ArrayList, TargetPoint, PieceInfo, BoardState)} for each piece type.
+ * The white piece of the type is moved from its starting square to the middle of the starting board,
+ * where it has room to move and pieces of both teams to stop at.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RulesBenchmark {
+
+    /**
+     * The type of the piece whose moves are generated.
+     */
+    @Param({"PAWN", "KNIGHT", "BISHOP", "ROOK", "QUEEN", "KING"})
+    public PieceType pieceType;
+
+    /**
+     * The board the piece stands on.
+     */
+    private BoardState board;
+
+    /**
+     * The square of the piece.
+     */
+    private TargetPoint selection;
+
+    /**
+     * The piece whose moves are generated.
+     */
+    private PieceInfo piece;
+
+    /**
+     * The list the moves are added to, cleared before each call.
+     */
+    private final ArrayList<TargetPoint> moves = new ArrayList<>();
+
+    /**
+     * Places the white piece of the measured type in the middle of the starting board.
+     */
+    @Setup
+    public void setUp() {
+        board = new BoardState();
+        TargetPoint start = findWhitePiece(pieceType);
+        selection = new TargetPoint(4, 4);
+        board.movePiece(start, selection);
+        piece = board.getPiece(selection);
+    }
+
+    /**
+     * Generates the moves of the piece.
+     *
+     * @return the moves, so the call is not eliminated
+     */
+    @Benchmark
+    public ArrayList<TargetPoint> getValidMoves() {
+        moves.clear();
+        Rules.GetValidMoves(moves, selection, piece, board);
+        return moves;
+    }
+
+    /**
+     * Finds the starting square of a white piece of a type.
+     *
+     * @param type the type of the piece
+     * @return the square of the first white piece of the type
+     * @throws IllegalStateException if the board has no such piece
+     */
+    private TargetPoint findWhitePiece(PieceType type) {
+        for (int y = 7; y >= 0; y--) {
+            for (int x = 0; x < 8; x++) {
+                TargetPoint point = new TargetPoint(x, y);
+                PieceInfo candidate = board.getPiece(point);
+                if (candidate != null && candidate.getTeam() == Team.WHITE && candidate.getPieceType() == type) {
+                    return point;
+                }
+            }
+        }
+        throw new IllegalStateException("No white " + type + " on the board");
+    }
+}
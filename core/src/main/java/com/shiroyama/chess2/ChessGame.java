@@ -1,10 +1,26 @@
 package com.shiroyama.chess2;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.shiroyama.chess2.screens.LoadingScreen;
 import com.shiroyama.chess2.screens.MenuScreen;
+import com.shiroyama.chess2.screens.ProfilerOverlay;
+import com.shiroyama.chess2.utils.AssetCache;
+import com.shiroyama.chess2.utils.ConfigurationManager;
+import com.shiroyama.chess2.utils.FrameProfiler;
+import com.shiroyama.chess2.utils.FrameSection;
+import com.shiroyama.chess2.utils.GameEventSink;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
 /**
  * {@link com.badlogic.gdx.ApplicationListener} implementation shared by all platforms.
  * Represents the main game class for the chess application.
@@ -18,13 +34,128 @@ public class ChessGame extends Game {
      */
     private static final Logger logger = LoggerFactory.getLogger(ChessGame.class);
 
+    /**
+     * The {@link AssetCache} the screens share their textures and skins through.
+     */
+    private AssetCache assets;
+
+    /**
+     * The key turning the tracing of the {@link GameEventSink} on and off.
+     */
+    private static final int TRACING_KEY = Input.Keys.F2;
+
+    /**
+     * The key showing and hiding the frame timings.
+     */
+    private static final int PROFILER_KEY = Input.Keys.F3;
+
+    /**
+     * The key writing the frame timings to a file and starting them over.
+     */
+    private static final int PROFILE_DUMP_KEY = Input.Keys.F4;
+
+    /**
+     * The directory the frame timings are written to, relative to the working directory.
+     */
+    private static final String PROFILE_DIRECTORY = "profiles";
+
+    /**
+     * The {@link FrameProfiler} timing the frames and the subsystems.
+     */
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
+
+    /**
+     * The overlay showing the frame timings, created with the game.
+     */
+    private ProfilerOverlay profilerOverlay;
+
     /**
      * Called when the application is created.
-     * Initializes the game by setting the starting screen to the {@link MenuScreen}.
+     * Initializes the game by creating the asset cache, starting to watch the stats file and to log the game events,
+     * and setting the starting screen to the {@link LoadingScreen}, which moves on to the {@link MenuScreen}.
+     * Also called to return to the menu, in which case the loaded assets are kept and the menu is shown at once.
      */
     @Override
     public void create() {
         logger.info("Game started.");
-        setScreen(new MenuScreen(this));
+        ConfigurationManager.getInstance().startWatching();
+        GameEventSink.getInstance().start();
+        if (profilerOverlay == null) {
+            profilerOverlay = new ProfilerOverlay(profiler);
+        }
+        if (assets == null) {
+            assets = new AssetCache();
+            setScreen(new LoadingScreen(this));
+        } else {
+            setScreen(new MenuScreen(this));
+        }
+    }
+
+    /**
+     * Renders the current screen and times it, after handling the keys of the tracing and the profiler.
+     * The frame timings are drawn over the screen if their overlay is shown.
+     */
+    @Override
+    public void render() {
+        profiler.beginFrame();
+        if (Gdx.input.isKeyJustPressed(TRACING_KEY)) {
+            GameEventSink events = GameEventSink.getInstance();
+            events.setTracing(!events.isTracing());
+            logger.info("Game event tracing turned {}.", events.isTracing() ? "on" : "off");
+        }
+        if (Gdx.input.isKeyJustPressed(PROFILER_KEY)) {
+            profilerOverlay.setVisible(!profilerOverlay.isVisible());
+        }
+        if (Gdx.input.isKeyJustPressed(PROFILE_DUMP_KEY)) {
+            dumpProfile();
+        }
+
+        long renderStart = profiler.start();
+        super.render();
+        profiler.stop(FrameSection.RENDER, renderStart);
+
+        profilerOverlay.draw(Gdx.graphics.getDeltaTime());
+    }
+
+    /**
+     * Writes the frame timings to a new file in the {@link #PROFILE_DIRECTORY} and starts them over.
+     */
+    private void dumpProfile() {
+        String timestamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        FileHandle file = Gdx.files.local(PROFILE_DIRECTORY + "/frame-profile-" + timestamp + ".txt");
+        try (Writer writer = file.writer(false, "UTF-8")) {
+            profiler.writeReport(writer);
+            logger.info("Frame profile written to {}.", file.file().getAbsolutePath());
+        } catch (IOException | GdxRuntimeException e) {
+            logger.error("Could not write the frame profile: {}", e.getMessage());
+        }
+        profiler.reset();
+    }
+
+    /**
+     * Called when the application is destroyed.
+     * Stops watching the stats file and logging the game events, and disposes of the current screen,
+     * the profiler overlay and the shared assets.
+     */
+    @Override
+    public void dispose() {
+        ConfigurationManager.getInstance().stopWatching();
+        GameEventSink.getInstance().stop();
+        super.dispose();
+        if (profilerOverlay != null) {
+            profilerOverlay.dispose();
+        }
+        if (assets != null) {
+            assets.dispose();
+        }
+    }
+
+    /**
+     * Gets the asset cache shared by the screens.
+     *
+     * @return the {@link AssetCache}
+     */
+    public AssetCache getAssets() {
+        return assets;
     }
 }
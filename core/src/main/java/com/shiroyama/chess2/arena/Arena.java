@@ -3,14 +3,11 @@ package com.shiroyama.chess2.arena;
 import com.badlogic.gdx.Gdx;
 import com.shiroyama.chess2.chessboard.model.TargetPoint;
 import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
-
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import com.shiroyama.chess2.utils.GameEventSink;
 
 /**
  * Represents the combat area where the pieces fight each other.
- * Manages combat state, {@link Projectile} and interactions between the two pieces.
+ * Manages combat state, projectiles and interactions between the two pieces.
  */
 public class Arena {
 
@@ -25,9 +22,9 @@ public class Arena {
     private PieceInfo defender;
 
     /**
-     * List of active {@link Projectile} in the arena.
+     * The active projectiles in the arena.
      */
-    private List<Projectile> projectiles;
+    private ProjectilePool projectiles;
 
     /**
      * Flag indicating whether the combat started.
@@ -45,15 +42,52 @@ public class Arena {
     private float defenderTimeSinceLastShot;
 
     /**
-     * Constructor for the arena class.
+     * The width and height of the arena, or null if they follow the size of the screen.
+     */
+    private TargetPoint bounds;
+
+    /**
+     * The broad phase of the projectile hits, rebuilt when the size of the arena changes.
+     */
+    private CollisionGrid grid;
+
+    /**
+     * Ids of the attacker and the defender in the {@link CollisionGrid}, the attacker being hit first.
+     */
+    private static final int ATTACKER_ID = 0, DEFENDER_ID = 1;
+
+    /**
+     * The number of projectiles the pool holds before growing.
+     */
+    private static final int INITIAL_PROJECTILES = 64;
+
+    /**
+     * {@link GameEventSink} for recording projectile hits.
+     */
+    private static final GameEventSink events = GameEventSink.getInstance();
+
+    /**
+     * Constructor for the arena class, with the arena following the size of the screen.
      *
      * @param attacker the piece which initiated the start of the combat
      * @param defender the piece which got attacked
      */
     public Arena(PieceInfo attacker, PieceInfo defender){
+        this(attacker, defender, null);
+    }
+
+    /**
+     * Constructor for the arena class.
+     *
+     * @param attacker the piece which initiated the start of the combat
+     * @param defender the piece which got attacked
+     * @param bounds the width and height of the arena, or null to follow the size of the screen
+     */
+    public Arena(PieceInfo attacker, PieceInfo defender, TargetPoint bounds){
         this.attacker = attacker;
         this.defender = defender;
-        this.projectiles = new ArrayList<>();
+        this.bounds = bounds;
+        this.projectiles = new ProjectilePool(INITIAL_PROJECTILES);
         this.attackerTimeSinceLastShot = 0f;
         this.defenderTimeSinceLastShot = 0f;
     }
@@ -67,6 +101,9 @@ public class Arena {
 
         if (!combatStarted) return;
 
+        float width = (bounds != null) ? bounds.getX() : Gdx.graphics.getWidth() / 50f;
+        float height = (bounds != null) ? bounds.getY() : Gdx.graphics.getHeight() / 50f;
+
         attackerTimeSinceLastShot += deltaTime;
         defenderTimeSinceLastShot += deltaTime;
 
@@ -80,22 +117,27 @@ public class Arena {
             defenderTimeSinceLastShot = 0f;
         }
 
-        Iterator<Projectile> iterator = projectiles.iterator();
-        while (iterator.hasNext()){
-            Projectile projectile = iterator.next();
-            projectile.update(deltaTime);
-
-            if (projectile.hit(attacker)){
-                attacker.setHp(attacker.getHp() - 1);
-                iterator.remove();
-            } else if (projectile.hit(defender)) {
-                defender.setHp(defender.getHp() -1);
-                iterator.remove();
-            }
+        projectiles.update(deltaTime);
 
-            if (projectile.isOutOfBounds(new TargetPoint((float) Gdx.graphics.getWidth() / 50,
-                (float) Gdx.graphics.getHeight() / 50))){
-                iterator.remove();
+        if (grid == null || grid.getWidth() != width || grid.getHeight() != height){
+            grid = new CollisionGrid(width, height, ProjectilePool.PIECE_SIZE);
+        }
+        grid.clear();
+        grid.addPiece(ATTACKER_ID, attacker.getTeam(), attacker.getPosition().getX(), attacker.getPosition().getY());
+        grid.addPiece(DEFENDER_ID, defender.getTeam(), defender.getPosition().getX(), defender.getPosition().getY());
+
+        int i = 0;
+        while (i < projectiles.size()){
+            int hit = grid.findHit(projectiles, i);
+            if (hit != CollisionGrid.NO_HIT){
+                PieceInfo piece = (hit == ATTACKER_ID) ? attacker : defender;
+                piece.setHp(piece.getHp() - 1);
+                events.hit(piece, piece.getHp());
+                projectiles.remove(i);
+            } else if (projectiles.isOutOfBounds(i, width, height)){
+                projectiles.remove(i);
+            } else {
+                i++;
             }
         }
     }
@@ -126,11 +168,11 @@ public class Arena {
     }
 
     /**
-     * Gets the list of active {@link Projectile}.
+     * Gets the active projectiles.
      *
-     * @return a list containing the active projectiles
+     * @return the {@link ProjectilePool} holding the active projectiles
      */
-    public List<Projectile> getProjectiles(){
+    public ProjectilePool getProjectiles(){
         return projectiles;
     }
 
@@ -0,0 +1,78 @@
+package com.shiroyama.chess2.arena;
+
+import com.shiroyama.chess2.chessboard.utils.DuelResolver;
+
+/**
+ * How the captures of a game are fought out.
+ * Only {@link #INTERACTIVE} opens the arena screen, the other policies decide captures on the board
+ * without loading any arena textures or rendering a frame, for computer games, replays and servers.
+ */
+public enum ArenaPolicy {
+
+    /**
+     * Every capture is played in the arena screen by the players.
+     */
+    INTERACTIVE("Interactive"),
+
+    /**
+     * Every capture is simulated headlessly in an {@link ArenaSimulation}, with the pieces dodging at random.
+     */
+    SIMULATED("Simulated"),
+
+    /**
+     * Every capture is decided at once by the {@link DuelPredictor}, as if the pieces stood still.
+     */
+    INSTANT("Instant");
+
+    /**
+     * The name of the policy shown in the menu.
+     */
+    private final String displayName;
+
+    /**
+     * Constructor for the enum.
+     *
+     * @param displayName the name of the policy shown in the menu
+     */
+    ArenaPolicy(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Gets the name of the policy shown in the menu.
+     *
+     * @return the display name
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Gets the policy following this one, wrapping around after the last.
+     *
+     * @return the next policy
+     */
+    public ArenaPolicy next() {
+        ArenaPolicy[] policies = values();
+        return policies[(ordinal() + 1) % policies.length];
+    }
+
+    /**
+     * Creates the {@link DuelResolver} deciding the captures of a game under this policy.
+     *
+     * @param width the width of the arena in arena units, the screen width divided by 50
+     * @param height the height of the arena in arena units, the screen height divided by 50
+     * @param seed the seed of the simulated duels
+     * @return the resolver, or null if the captures are played in the arena screen
+     */
+    public DuelResolver createResolver(float width, float height, long seed) {
+        switch (this) {
+            case SIMULATED:
+                return new SimulatedDuelResolver(new ArenaSimulation(width, height, ArenaSimulation.DEFAULT_STEP), seed);
+            case INSTANT:
+                return new DuelPredictor(width, height);
+            default:
+                return null;
+        }
+    }
+}
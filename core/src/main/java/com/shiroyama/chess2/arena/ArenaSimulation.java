@@ -0,0 +1,248 @@
+package com.shiroyama.chess2.arena;
+
+import com.shiroyama.chess2.chessboard.pieces.Team;
+
+import java.util.Random;
+
+/**
+ * Headless, fixed-step simulation of an {@link Arena} duel.
+ * Follows the rules of the arena: each piece shoots at the other at its attack rate, a projectile hitting
+ * the other piece takes 1 HP, and the attacker wins if the defender runs out of HP, even if both do in the same step.
+ *
+ * <p>The simulation uses explicit arena bounds instead of the screen, and no libGDX calls, so it can run
+ * outside the game. The pieces dodge by a random walk at the speed of
+ * {@link com.shiroyama.chess2.utils.PieceMovementHandler}, and their first shots come at a random phase.
+ * Both come from the seed of the duel, so the same seed always gives the same result.
+ * An instance reuses its buffers between duels and is not thread-safe.
+ */
+public class ArenaSimulation {
+
+    /**
+     * The default length of a step in seconds.
+     */
+    public static final float DEFAULT_STEP = 1f / 120f;
+
+    /**
+     * The longest duel in seconds, after which the defender is considered to have held its square.
+     */
+    public static final float MAX_DURATION = 300f;
+
+    /**
+     * The size of a piece in arena units.
+     */
+    private static final float PIECE_SIZE = ProjectilePool.PIECE_SIZE;
+
+    /**
+     * The teams standing for the attacker and the defender in the projectile pool.
+     */
+    private static final Team ATTACKER_TEAM = Team.WHITE, DEFENDER_TEAM = Team.BLACK;
+
+    /**
+     * The time a piece keeps walking in one direction in seconds.
+     */
+    private static final float WALK_INTERVAL = 0.25f;
+
+    /**
+     * The width and height of the arena in arena units.
+     */
+    private final float width, height;
+
+    /**
+     * The length of a step in seconds.
+     */
+    private final float step;
+
+    /**
+     * The distance a piece walks in a step.
+     */
+    private final float walkStep;
+
+    /**
+     * The source of the random phases and walks, reseeded for every duel.
+     */
+    private final Random random = new Random();
+
+    /**
+     * Positions of the attacker and the defender.
+     */
+    private float attackerX, attackerY, defenderX, defenderY;
+
+    /**
+     * Walking directions of the attacker and the defender, each -1, 0 or 1.
+     */
+    private int attackerDx, attackerDy, defenderDx, defenderDy;
+
+    /**
+     * The live projectiles.
+     */
+    private final ProjectilePool projectiles = new ProjectilePool(64);
+
+    /**
+     * The HP the pieces ended the last duel with.
+     */
+    private int attackerHp, defenderHp;
+
+    /**
+     * The length of the last duel in seconds.
+     */
+    private float elapsed;
+
+    /**
+     * Constructor for the class.
+     *
+     * @param width the width of the arena in arena units, the screen width divided by 50
+     * @param height the height of the arena in arena units, the screen height divided by 50
+     * @param step the length of a step in seconds
+     * @throws IllegalArgumentException if the arena is smaller than a piece or the step is not positive
+     */
+    public ArenaSimulation(float width, float height, float step) {
+        if (!(width > 2 * PIECE_SIZE && height > 2 * PIECE_SIZE)) {
+            throw new IllegalArgumentException("Arena too small: " + width + " x " + height);
+        }
+        if (!(step > 0f)) {
+            throw new IllegalArgumentException("Step must be positive: " + step);
+        }
+        this.width = width;
+        this.height = height;
+        this.step = step;
+        this.walkStep = Math.min(width, height) * 0.3f * step;
+    }
+
+    /**
+     * Simulates a duel until a piece runs out of HP or {@link #MAX_DURATION} passes.
+     * The pieces start where {@link com.shiroyama.chess2.screens.ArenaScreen} places them.
+     *
+     * @param attackerHp the HP of the attacker
+     * @param attackerRate the attack rate of the attacker in shots per second
+     * @param defenderHp the HP of the defender
+     * @param defenderRate the attack rate of the defender in shots per second
+     * @param seed the seed of the random phases and walks
+     * @return true if the attacker won, false otherwise
+     */
+    public boolean run(int attackerHp, float attackerRate, int defenderHp, float defenderRate, long seed) {
+        random.setSeed(seed);
+        this.attackerHp = attackerHp;
+        this.defenderHp = defenderHp;
+        projectiles.clear();
+        elapsed = 0f;
+
+        attackerX = width / 2;
+        attackerY = height * 0.8f;
+        defenderX = width / 2;
+        defenderY = height * 0.2f;
+
+        float attackerInterval = 1f / attackerRate;
+        float defenderInterval = 1f / defenderRate;
+        float attackerTimer = random.nextFloat() * attackerInterval;
+        float defenderTimer = random.nextFloat() * defenderInterval;
+        float walkTimer = 0f;
+
+        while (this.attackerHp > 0 && this.defenderHp > 0 && elapsed < MAX_DURATION) {
+            elapsed += step;
+
+            walkTimer -= step;
+            if (walkTimer <= 0f) {
+                attackerDx = random.nextInt(3) - 1;
+                attackerDy = random.nextInt(3) - 1;
+                defenderDx = random.nextInt(3) - 1;
+                defenderDy = random.nextInt(3) - 1;
+                walkTimer = WALK_INTERVAL;
+            }
+            attackerX = clampX(attackerX + attackerDx * walkStep);
+            attackerY = clampY(attackerY + attackerDy * walkStep);
+            defenderX = clampX(defenderX + defenderDx * walkStep);
+            defenderY = clampY(defenderY + defenderDy * walkStep);
+
+            attackerTimer += step;
+            defenderTimer += step;
+            if (attackerTimer >= attackerInterval) {
+                projectiles.spawn(ATTACKER_TEAM, attackerX, attackerY,
+                    defenderX + PIECE_SIZE / 2, defenderY + PIECE_SIZE / 2);
+                attackerTimer = 0f;
+            }
+            if (defenderTimer >= defenderInterval) {
+                projectiles.spawn(DEFENDER_TEAM, defenderX, defenderY,
+                    attackerX + PIECE_SIZE / 2, attackerY + PIECE_SIZE / 2);
+                defenderTimer = 0f;
+            }
+
+            moveProjectiles();
+        }
+        return this.defenderHp <= 0;
+    }
+
+    /**
+     * Gets the HP the attacker ended the last duel with.
+     *
+     * @return the HP, 0 or less if it lost
+     */
+    public int getAttackerHp() {
+        return attackerHp;
+    }
+
+    /**
+     * Gets the HP the defender ended the last duel with.
+     *
+     * @return the HP, 0 or less if it lost
+     */
+    public int getDefenderHp() {
+        return defenderHp;
+    }
+
+    /**
+     * Gets the length of the last duel.
+     *
+     * @return the simulated time in seconds
+     */
+    public float getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Moves the projectiles, applies their hits and removes those that hit or left the arena.
+     */
+    private void moveProjectiles() {
+        projectiles.update(step);
+        int i = 0;
+        while (i < projectiles.size()) {
+            boolean remove;
+            if (projectiles.getTeam(i) == ATTACKER_TEAM) {
+                remove = projectiles.overlaps(i, defenderX, defenderY);
+                if (remove) {
+                    defenderHp--;
+                }
+            } else {
+                remove = projectiles.overlaps(i, attackerX, attackerY);
+                if (remove) {
+                    attackerHp--;
+                }
+            }
+
+            if (remove || projectiles.isOutOfBounds(i, width, height)) {
+                projectiles.remove(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Keeps an x-coordinate within the walkable area of {@link com.shiroyama.chess2.utils.PieceMovementHandler}.
+     *
+     * @param x the x-coordinate
+     * @return the clamped x-coordinate
+     */
+    private float clampX(float x) {
+        return Math.max(0.3f, Math.min(x, width - 1.15f));
+    }
+
+    /**
+     * Keeps a y-coordinate within the walkable area of {@link com.shiroyama.chess2.utils.PieceMovementHandler}.
+     *
+     * @param y the y-coordinate
+     * @return the clamped y-coordinate
+     */
+    private float clampY(float y) {
+        return Math.max(0.2f, Math.min(y, height - 1.3f));
+    }
+}
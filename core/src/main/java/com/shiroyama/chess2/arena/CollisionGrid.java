@@ -0,0 +1,209 @@
+package com.shiroyama.chess2.arena;
+
+import com.shiroyama.chess2.chessboard.pieces.Team;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid broad phase for projectile-versus-piece collisions.
+ * Pieces are registered in every cell their box overlaps, so a projectile is only tested against
+ * the pieces registered in the cells its own box overlaps, instead of against every piece.
+ *
+ * <p>The cells hold linked lists kept in primitive arrays, which are reused when the grid is cleared,
+ * so registering pieces and testing projectiles do not allocate once the arrays have grown.
+ * Positions outside the grid are clamped to the border cells.
+ */
+public class CollisionGrid {
+
+    /**
+     * Value of {@link #findHit(ProjectilePool, int)} when the projectile hits no piece.
+     */
+    public static final int NO_HIT = -1;
+
+    /**
+     * The width and height of the grid in arena units.
+     */
+    private final float width, height;
+
+    /**
+     * The size of a cell in arena units.
+     */
+    private final float cellSize;
+
+    /**
+     * The number of columns and rows of cells.
+     */
+    private final int columns, rows;
+
+    /**
+     * The first entry of each cell, or -1 if the cell is empty.
+     */
+    private final int[] cellHeads;
+
+    /**
+     * The next entry in the same cell, or -1, per entry.
+     */
+    private int[] entryNext;
+
+    /**
+     * The index of the piece of each entry.
+     */
+    private int[] entryPiece;
+
+    /**
+     * The number of used entries.
+     */
+    private int entryCount;
+
+    /**
+     * Positions of the registered pieces, indexed by piece id.
+     */
+    private float[] pieceX, pieceY;
+
+    /**
+     * {@link Team#ordinal()} of the registered pieces, -1 if the team is unknown, indexed by piece id.
+     */
+    private byte[] pieceTeam;
+
+    /**
+     * Constructor for the class.
+     *
+     * @param width the width of the grid in arena units
+     * @param height the height of the grid in arena units
+     * @param cellSize the size of a cell in arena units, best about the size of a piece
+     * @throws IllegalArgumentException if a size is not positive
+     */
+    public CollisionGrid(float width, float height, float cellSize) {
+        if (!(width > 0f && height > 0f && cellSize > 0f)) {
+            throw new IllegalArgumentException("Invalid grid: " + width + " x " + height + ", cell " + cellSize);
+        }
+        this.width = width;
+        this.height = height;
+        this.cellSize = cellSize;
+        this.columns = (int) Math.ceil(width / cellSize);
+        this.rows = (int) Math.ceil(height / cellSize);
+        this.cellHeads = new int[columns * rows];
+        this.entryNext = new int[16];
+        this.entryPiece = new int[16];
+        this.pieceX = new float[4];
+        this.pieceY = new float[4];
+        this.pieceTeam = new byte[4];
+        Arrays.fill(cellHeads, -1);
+    }
+
+    /**
+     * Gets the width of the grid.
+     *
+     * @return the width in arena units
+     */
+    public float getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the grid.
+     *
+     * @return the height in arena units
+     */
+    public float getHeight() {
+        return height;
+    }
+
+    /**
+     * Removes every registered piece.
+     */
+    public void clear() {
+        Arrays.fill(cellHeads, -1);
+        entryCount = 0;
+    }
+
+    /**
+     * Registers a piece in the cells its box overlaps.
+     * A piece id must be registered only once between two calls of {@link #clear()}.
+     *
+     * @param id the id of the piece, a small non-negative number
+     * @param team the team of the piece, or null if unknown
+     * @param x the x-coordinate of the piece
+     * @param y the y-coordinate of the piece
+     */
+    public void addPiece(int id, Team team, float x, float y) {
+        if (id >= pieceX.length) {
+            int capacity = Math.max(id + 1, pieceX.length * 2);
+            pieceX = Arrays.copyOf(pieceX, capacity);
+            pieceY = Arrays.copyOf(pieceY, capacity);
+            pieceTeam = Arrays.copyOf(pieceTeam, capacity);
+        }
+        pieceX[id] = x;
+        pieceY[id] = y;
+        pieceTeam[id] = (byte) ((team != null) ? team.ordinal() : -1);
+
+        int column0 = column(x);
+        int column1 = column(x + ProjectilePool.PIECE_SIZE);
+        int row0 = row(y);
+        int row1 = row(y + ProjectilePool.PIECE_SIZE);
+        for (int row = row0; row <= row1; row++) {
+            for (int column = column0; column <= column1; column++) {
+                if (entryCount == entryNext.length) {
+                    entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+                    entryPiece = Arrays.copyOf(entryPiece, entryCount * 2);
+                }
+                int cell = row * columns + column;
+                entryPiece[entryCount] = id;
+                entryNext[entryCount] = cellHeads[cell];
+                cellHeads[cell] = entryCount++;
+            }
+        }
+    }
+
+    /**
+     * Finds the piece of another team a projectile overlaps.
+     * If it overlaps several, the one with the lowest id is returned.
+     *
+     * @param projectiles the projectiles
+     * @param i the index of the projectile
+     * @return the id of the hit piece, or {@link #NO_HIT}
+     */
+    public int findHit(ProjectilePool projectiles, int i) {
+        float x = projectiles.getX(i);
+        float y = projectiles.getY(i);
+        int team = projectiles.getTeam(i).ordinal();
+
+        int hit = NO_HIT;
+        int column0 = column(x);
+        int column1 = column(x + ProjectilePool.PROJECTILE_SIZE);
+        int row0 = row(y);
+        int row1 = row(y + ProjectilePool.PROJECTILE_SIZE);
+        for (int row = row0; row <= row1; row++) {
+            for (int column = column0; column <= column1; column++) {
+                for (int entry = cellHeads[row * columns + column]; entry != -1; entry = entryNext[entry]) {
+                    int id = entryPiece[entry];
+                    if ((hit == NO_HIT || id < hit) && pieceTeam[id] != team
+                        && projectiles.overlaps(i, pieceX[id], pieceY[id])) {
+                        hit = id;
+                    }
+                }
+            }
+        }
+        return hit;
+    }
+
+    /**
+     * Gets the column of an x-coordinate, clamped to the grid.
+     *
+     * @param x the x-coordinate
+     * @return the column
+     */
+    private int column(float x) {
+        return Math.max(0, Math.min((int) (x / cellSize), columns - 1));
+    }
+
+    /**
+     * Gets the row of a y-coordinate, clamped to the grid.
+     *
+     * @param y the y-coordinate
+     * @return the row
+     */
+    private int row(float y) {
+        return Math.max(0, Math.min((int) (y / cellSize), rows - 1));
+    }
+}
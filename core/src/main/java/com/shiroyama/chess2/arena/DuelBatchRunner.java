@@ -0,0 +1,307 @@
+package com.shiroyama.chess2.arena;
+
+import com.shiroyama.chess2.chessboard.engine.DuelOdds;
+import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+import com.shiroyama.chess2.utils.PieceStats;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.stream.IntStream;
+
+/**
+ * Runs batches of simulated {@link ArenaSimulation} duels for every pair of piece types, spread over every core.
+ * The results are written as a CSV of win rates, mean duel lengths and HP left distributions, and as the
+ * {@link DuelOdds} table the computer player prices captures by.
+ *
+ * <p>Each duel has its own seed derived from the batch seed, the matchup and the duel number, so the results
+ * do not depend on how the duels are split between the threads.
+ */
+public class DuelBatchRunner {
+
+    /**
+     * The width of the arena in arena units, the default window width divided by 50.
+     */
+    public static final float ARENA_WIDTH = 640 / 50f;
+
+    /**
+     * The height of the arena in arena units, the default window height divided by 50.
+     */
+    public static final float ARENA_HEIGHT = 480 / 50f;
+
+    /**
+     * The number of duels a parallel task simulates at most.
+     */
+    private static final int CHUNK_SIZE = 256;
+
+    /**
+     * Cached {@link PieceType} values.
+     */
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    /**
+     * The HP of the piece types, indexed by {@link PieceType#ordinal()}.
+     */
+    private final int[] hp;
+
+    /**
+     * The attack rates of the piece types, indexed by {@link PieceType#ordinal()}.
+     */
+    private final float[] attackRates;
+
+    /**
+     * One reusable simulation per worker thread.
+     */
+    private final ThreadLocal<ArenaSimulation> simulations;
+
+    /**
+     * Constructor for the class.
+     *
+     * @param hp the HP of the piece types, indexed by {@link PieceType#ordinal()}
+     * @param attackRates the attack rates of the piece types, indexed by {@link PieceType#ordinal()}
+     * @param width the width of the arena in arena units
+     * @param height the height of the arena in arena units
+     */
+    public DuelBatchRunner(int[] hp, float[] attackRates, float width, float height) {
+        this.hp = hp.clone();
+        this.attackRates = attackRates.clone();
+        this.simulations = ThreadLocal.withInitial(() -> new ArenaSimulation(width, height, ArenaSimulation.DEFAULT_STEP));
+    }
+
+    /**
+     * Creates a runner from piece stats in the format of {@code stats.cfg}.
+     * Missing stats fall back to the defaults of {@link PieceInfo}.
+     *
+     * @param stats the stats, with {@code <TYPE>.hp} and {@code <TYPE>.attackRate} keys
+     * @return the runner, with the arena of the default window size
+     */
+    public static DuelBatchRunner fromStats(Properties stats) {
+        return fromStats(PieceStats.fromProperties(stats));
+    }
+
+    /**
+     * Creates a runner from a snapshot of the piece stats.
+     *
+     * @param stats the {@link PieceStats}
+     * @return the runner, with the arena of the default window size
+     */
+    public static DuelBatchRunner fromStats(PieceStats stats) {
+        return new DuelBatchRunner(stats.getHpArray(), stats.getAttackRateArray(), ARENA_WIDTH, ARENA_HEIGHT);
+    }
+
+    /**
+     * Simulates duels of every pair of piece types at their full HP.
+     *
+     * @param duels the number of duels per matchup
+     * @param seed the seed of the batch
+     * @return the results, the attacker type varying slowest
+     * @throws IllegalArgumentException if the number of duels is not positive
+     */
+    public List<DuelStats> runAll(int duels, long seed) {
+        requirePositive(duels);
+        int types = PIECE_TYPES.length;
+        int chunks = (duels + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        DuelStats[] results = IntStream.range(0, types * types * chunks).parallel()
+            .mapToObj(task -> {
+                int matchup = task / chunks;
+                int first = (task % chunks) * CHUNK_SIZE;
+                PieceType attacker = PIECE_TYPES[matchup / types];
+                PieceType defender = PIECE_TYPES[matchup % types];
+                return simulate(attacker, hp[attacker.ordinal()], defender, hp[defender.ordinal()],
+                    first, Math.min(first + CHUNK_SIZE, duels), seed, matchup);
+            })
+            .toArray(DuelStats[]::new);
+
+        List<DuelStats> merged = new ArrayList<>(types * types);
+        for (int matchup = 0; matchup < types * types; matchup++) {
+            DuelStats stats = results[matchup * chunks];
+            for (int chunk = 1; chunk < chunks; chunk++) {
+                stats.merge(results[matchup * chunks + chunk]);
+            }
+            merged.add(stats);
+        }
+        return merged;
+    }
+
+    /**
+     * Builds a {@link DuelOdds} table by simulating every pair of piece types at every HP up to their configured HP.
+     * Entries above the configured HP, which no piece can reach, keep the analytic estimate.
+     *
+     * @param duels the number of duels per entry
+     * @param seed the seed of the batch
+     * @return the table
+     * @throws IllegalArgumentException if the number of duels is not positive
+     */
+    public DuelOdds buildOdds(int duels, long seed) {
+        requirePositive(duels);
+        DuelOdds odds = DuelOdds.analytic(attackRates);
+        int types = PIECE_TYPES.length;
+        int maxHp = DuelOdds.MAX_HP;
+        IntStream.range(0, types * maxHp * types * maxHp).parallel().forEach(entry -> {
+            int defenderHp = entry % maxHp + 1;
+            int defenderType = (entry / maxHp) % types;
+            int attackerHp = (entry / (maxHp * types)) % maxHp + 1;
+            int attackerType = entry / (maxHp * types * maxHp);
+            if (attackerHp > hp[attackerType] || defenderHp > hp[defenderType]) {
+                return;
+            }
+            DuelStats stats = simulate(PIECE_TYPES[attackerType], attackerHp, PIECE_TYPES[defenderType], defenderHp,
+                0, duels, seed, entry);
+            odds.set(attackerType, attackerHp, defenderType, defenderHp, (float) stats.getAttackerWinRate(),
+                (int) Math.round(stats.getMeanAttackerHpLeft()), (int) Math.round(stats.getMeanDefenderHpLeft()));
+        });
+        return odds;
+    }
+
+    /**
+     * Simulates a range of the duels of a matchup on the current thread.
+     *
+     * @param attacker the piece type of the attacker
+     * @param attackerHp the starting HP of the attacker
+     * @param defender the piece type of the defender
+     * @param defenderHp the starting HP of the defender
+     * @param first the number of the first duel
+     * @param end the number after the last duel
+     * @param seed the seed of the batch
+     * @param matchup the number of the matchup in the batch
+     * @return the results of the duels
+     */
+    private DuelStats simulate(PieceType attacker, int attackerHp, PieceType defender, int defenderHp,
+                               int first, int end, long seed, int matchup) {
+        ArenaSimulation simulation = simulations.get();
+        DuelStats stats = new DuelStats(attacker, attackerHp, defender, defenderHp);
+        float attackerRate = attackRates[attacker.ordinal()];
+        float defenderRate = attackRates[defender.ordinal()];
+        for (int duel = first; duel < end; duel++) {
+            boolean won = simulation.run(attackerHp, attackerRate, defenderHp, defenderRate,
+                duelSeed(seed, matchup, duel));
+            stats.record(won, simulation.getAttackerHp(), simulation.getDefenderHp(), simulation.getElapsed());
+        }
+        return stats;
+    }
+
+    /**
+     * Checks the number of duels of a batch.
+     *
+     * @param duels the number of duels per matchup or entry
+     * @throws IllegalArgumentException if the number is not positive
+     */
+    private static void requirePositive(int duels) {
+        if (duels <= 0) {
+            throw new IllegalArgumentException("The number of duels must be positive: " + duels);
+        }
+    }
+
+    /**
+     * Derives the seed of a duel with the SplitMix64 finalizer.
+     *
+     * @param seed the seed of the batch
+     * @param matchup the number of the matchup
+     * @param duel the number of the duel
+     * @return the seed of the duel
+     */
+    private static long duelSeed(long seed, int matchup, int duel) {
+        long z = seed + ((long) matchup << 32 | duel) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Writes results as CSV, one line per matchup.
+     * The HP left columns list {@code hp:count} pairs of the winners, separated by spaces.
+     *
+     * @param results the results
+     * @param out the writer, flushed but not closed
+     */
+    public static void writeCsv(List<DuelStats> results, Writer out) {
+        PrintWriter writer = new PrintWriter(out);
+        writer.println("attacker,defender,attacker_hp,defender_hp,duels,attacker_win_rate,mean_duration_s,"
+            + "attacker_hp_left,defender_hp_left");
+        for (DuelStats stats : results) {
+            writer.printf(Locale.ROOT, "%s,%s,%d,%d,%d,%.4f,%.3f,%s,%s%n",
+                stats.getAttackerType(), stats.getDefenderType(), stats.getAttackerHp(), stats.getDefenderHp(),
+                stats.getDuels(), stats.getAttackerWinRate(), stats.getMeanDuration(),
+                histogram(stats, true), histogram(stats, false));
+        }
+        writer.flush();
+    }
+
+    /**
+     * Formats the HP left distribution of the winners on one side.
+     *
+     * @param stats the results
+     * @param attacker true for the attacker, false for the defender
+     * @return the {@code hp:count} pairs of the non-empty HP values
+     */
+    private static String histogram(DuelStats stats, boolean attacker) {
+        StringBuilder builder = new StringBuilder();
+        int maxHp = attacker ? stats.getAttackerHp() : stats.getDefenderHp();
+        for (int hp = 1; hp <= maxHp; hp++) {
+            int count = attacker ? stats.getAttackerHpLeftCount(hp) : stats.getDefenderHpLeftCount(hp);
+            if (count > 0) {
+                if (builder.length() > 0) {
+                    builder.append(' ');
+                }
+                builder.append(hp).append(':').append(count);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Runs a sweep of every matchup and builds the duel odds table, writing
+     * {@code duel_stats.csv} and {@link DuelOdds#FILE_NAME} next to the stats file.
+     *
+     * @param args the duels per matchup (10000 by default), the duels per odds entry (200 by default),
+     *             and the stats file ({@code stats.cfg} by default)
+     * @throws IOException if the stats cannot be read or the results cannot be written
+     * @throws IllegalArgumentException if the number of duels per matchup is not positive
+     */
+    public static void main(String[] args) throws IOException {
+        int duels = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int oddsDuels = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        Path statsFile = Paths.get(args.length > 2 ? args[2] : "stats.cfg");
+        Path directory = statsFile.toAbsolutePath().getParent();
+
+        Properties stats = new Properties();
+        if (Files.exists(statsFile)) {
+            try (Reader reader = Files.newBufferedReader(statsFile, StandardCharsets.ISO_8859_1)) {
+                stats.load(reader);
+            }
+        } else {
+            System.out.println("No " + statsFile + ", using the default stats.");
+        }
+        DuelBatchRunner runner = fromStats(stats);
+
+        long start = System.nanoTime();
+        List<DuelStats> results = runner.runAll(duels, 0L);
+        Path csvFile = directory.resolve("duel_stats.csv");
+        try (Writer writer = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8)) {
+            writeCsv(results, writer);
+        }
+        System.out.printf("%d duels per matchup in %.1f s, written to %s%n", duels, (System.nanoTime() - start) / 1e9, csvFile);
+
+        if (oddsDuels > 0) {
+            start = System.nanoTime();
+            DuelOdds odds = runner.buildOdds(oddsDuels, 1L);
+            Path oddsFile = directory.resolve(DuelOdds.FILE_NAME);
+            try (OutputStream out = Files.newOutputStream(oddsFile)) {
+                odds.save(out);
+            }
+            System.out.printf("Duel odds with %d duels per entry in %.1f s, written to %s%n",
+                oddsDuels, (System.nanoTime() - start) / 1e9, oddsFile);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.shiroyama.chess2.arena;
+
+/**
+ * The outcome of a duel predicted by {@link DuelPredictor}: the winner, the HP both pieces end with,
+ * and the time it takes the winner to kill the loser.
+ */
+public class DuelPrediction {
+
+    /**
+     * Flag indicating whether the attacker wins.
+     */
+    private final boolean attackerWon;
+
+    /**
+     * The HP of the attacker and the defender at the end of the duel.
+     */
+    private final int attackerHp, defenderHp;
+
+    /**
+     * The length of the duel in seconds.
+     */
+    private final float duration;
+
+    /**
+     * Constructor for the class.
+     *
+     * @param attackerWon true if the attacker wins
+     * @param attackerHp the HP of the attacker at the end of the duel
+     * @param defenderHp the HP of the defender at the end of the duel
+     * @param duration the length of the duel in seconds, infinite if neither piece can kill the other
+     */
+    public DuelPrediction(boolean attackerWon, int attackerHp, int defenderHp, float duration) {
+        this.attackerWon = attackerWon;
+        this.attackerHp = attackerHp;
+        this.defenderHp = defenderHp;
+        this.duration = duration;
+    }
+
+    /**
+     * Checks whether the attacker wins.
+     *
+     * @return true if the attacker wins, false otherwise
+     */
+    public boolean attackerWon() {
+        return attackerWon;
+    }
+
+    /**
+     * Gets the HP of the attacker at the end of the duel.
+     *
+     * @return the HP, 0 or less if the attacker dies
+     */
+    public int getAttackerHp() {
+        return attackerHp;
+    }
+
+    /**
+     * Gets the HP of the defender at the end of the duel.
+     *
+     * @return the HP, 0 or less if the defender dies
+     */
+    public int getDefenderHp() {
+        return defenderHp;
+    }
+
+    /**
+     * Gets the time it takes the winner to kill the loser.
+     *
+     * @return the length of the duel in seconds, infinite if neither piece can kill the other
+     */
+    public float getDuration() {
+        return duration;
+    }
+}
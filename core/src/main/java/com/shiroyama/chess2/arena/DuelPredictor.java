@@ -0,0 +1,180 @@
+package com.shiroyama.chess2.arena;
+
+import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+import com.shiroyama.chess2.chessboard.utils.DuelResolver;
+
+/**
+ * Computes the outcome of a duel between two pieces that stand still, without stepping an {@link Arena}.
+ *
+ * <p>A piece with attack rate {@code r} fires its {@code k}-th projectile {@code k / r} seconds into the duel,
+ * and every projectile flies the same time to the other piece, found by intersecting its path with the box of
+ * the target. A piece with {@code hp} HP therefore dies when the {@code hp}-th projectile of the other piece
+ * lands, and the piece that dies first loses. As in the {@link Arena}, the attacker wins if both die together.
+ *
+ * <p>As a {@link DuelResolver}, it decides captures on the board at once, with the pieces at the
+ * start positions of the arena screen.
+ */
+public class DuelPredictor implements DuelResolver {
+
+    /**
+     * Kill times closer than this many seconds count as the same moment.
+     */
+    private static final double TIE_EPSILON = 1e-6;
+
+    /**
+     * The start positions of the attacker and the defender in arena units.
+     */
+    private final float attackerX, attackerY, defenderX, defenderY;
+
+    /**
+     * Constructor for the class, with the pieces where the arena screen places them.
+     *
+     * @param width the width of the arena in arena units
+     * @param height the height of the arena in arena units
+     */
+    public DuelPredictor(float width, float height) {
+        this.attackerX = width / 2f;
+        this.attackerY = height * 0.8f;
+        this.defenderX = width / 2f;
+        this.defenderY = height * 0.2f;
+    }
+
+    /**
+     * Decides the duel of two pieces and sets their HP to what they end with.
+     * A winner that died in the same moment as the loser keeps 1 HP, so it can stay on the board.
+     *
+     * @param attacker the piece that is attacking
+     * @param defender the piece that is being attacked
+     * @return the winner of the duel
+     */
+    @Override
+    public PieceInfo resolve(PieceInfo attacker, PieceInfo defender) {
+        DuelPrediction prediction = predict(attacker.getHp(), attacker.getAttackRate(),
+            defender.getHp(), defender.getAttackRate());
+        PieceInfo winner = prediction.attackerWon() ? attacker : defender;
+        PieceInfo loser = prediction.attackerWon() ? defender : attacker;
+        int winnerHp = prediction.attackerWon() ? prediction.getAttackerHp() : prediction.getDefenderHp();
+        winner.setHp(Math.max(1, winnerHp));
+        loser.setHp(0);
+        return winner;
+    }
+
+    /**
+     * Predicts a duel with the pieces at the start positions of the arena.
+     *
+     * @param attackerHp the starting HP of the attacker
+     * @param attackerRate the attack rate of the attacker
+     * @param defenderHp the starting HP of the defender
+     * @param defenderRate the attack rate of the defender
+     * @return the outcome of the duel
+     */
+    public DuelPrediction predict(int attackerHp, float attackerRate, int defenderHp, float defenderRate) {
+        return predict(attackerHp, attackerRate, attackerX, attackerY, defenderHp, defenderRate, defenderX, defenderY);
+    }
+
+    /**
+     * Predicts a duel between two pieces standing at the given positions.
+     *
+     * @param attackerHp the starting HP of the attacker
+     * @param attackerRate the attack rate of the attacker
+     * @param attackerX the x-coordinate of the attacker
+     * @param attackerY the y-coordinate of the attacker
+     * @param defenderHp the starting HP of the defender
+     * @param defenderRate the attack rate of the defender
+     * @param defenderX the x-coordinate of the defender
+     * @param defenderY the y-coordinate of the defender
+     * @return the outcome of the duel
+     */
+    public static DuelPrediction predict(int attackerHp, float attackerRate, float attackerX, float attackerY,
+                                         int defenderHp, float defenderRate, float defenderX, float defenderY) {
+        double attackerFlight = flightTime(attackerX, attackerY, defenderX, defenderY);
+        double defenderFlight = flightTime(defenderX, defenderY, attackerX, attackerY);
+        double defenderDies = killTime(defenderHp, attackerRate, attackerFlight);
+        double attackerDies = killTime(attackerHp, defenderRate, defenderFlight);
+
+        if (Double.isInfinite(defenderDies) && Double.isInfinite(attackerDies)) {
+            return new DuelPrediction(false, attackerHp, defenderHp, Float.POSITIVE_INFINITY);
+        }
+        boolean attackerWon = defenderDies <= attackerDies + TIE_EPSILON;
+        double duration = attackerWon ? defenderDies : attackerDies;
+        int attackerHpLeft = attackerHp - hitsLanded(defenderRate, defenderFlight, duration);
+        int defenderHpLeft = defenderHp - hitsLanded(attackerRate, attackerFlight, duration);
+        return new DuelPrediction(attackerWon, attackerHpLeft, defenderHpLeft, (float) duration);
+    }
+
+    /**
+     * Calculates when a piece dies.
+     *
+     * @param hp the HP of the piece
+     * @param shooterRate the attack rate of the other piece
+     * @param flight the flight time of the projectiles of the other piece
+     * @return the time of the death in seconds, 0 if the piece has no HP, infinite if it is never killed
+     */
+    private static double killTime(int hp, float shooterRate, double flight) {
+        if (hp <= 0) {
+            return 0.0;
+        }
+        if (!(shooterRate > 0f) || Double.isInfinite(flight)) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return hp / (double) shooterRate + flight;
+    }
+
+    /**
+     * Counts the projectiles that hit a piece until a moment of the duel.
+     *
+     * @param shooterRate the attack rate of the other piece
+     * @param flight the flight time of the projectiles of the other piece
+     * @param time the moment in seconds
+     * @return the number of hits
+     */
+    private static int hitsLanded(float shooterRate, double flight, double time) {
+        if (!(shooterRate > 0f) || Double.isInfinite(flight) || time < flight) {
+            return 0;
+        }
+        return (int) Math.floor((time - flight) * shooterRate + TIE_EPSILON);
+    }
+
+    /**
+     * Calculates how long a projectile flies from a shooter until it first overlaps the target.
+     * The projectile starts at the position of the shooter and aims at the center of the target,
+     * as fired by {@link PieceInfo#shoot}.
+     *
+     * @param shooterX the x-coordinate of the shooter
+     * @param shooterY the y-coordinate of the shooter
+     * @param targetX the x-coordinate of the target
+     * @param targetY the y-coordinate of the target
+     * @return the flight time in seconds, infinite if the projectile cannot be fired
+     */
+    static double flightTime(float shooterX, float shooterY, float targetX, float targetY) {
+        double dx = targetX + ProjectilePool.PIECE_SIZE / 2.0 - shooterX;
+        double dy = targetY + ProjectilePool.PIECE_SIZE / 2.0 - shooterY;
+        double length = Math.sqrt(dx * dx + dy * dy);
+        if (length == 0.0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double vx = dx / length * ProjectilePool.PROJECTILE_SPEED;
+        double vy = dy / length * ProjectilePool.PROJECTILE_SPEED;
+        return Math.max(0.0, Math.max(entryTime(shooterX, vx, targetX), entryTime(shooterY, vy, targetY)));
+    }
+
+    /**
+     * Calculates when a projectile starts to overlap a piece along one axis.
+     *
+     * @param start the coordinate of the projectile at the start
+     * @param velocity the velocity of the projectile along the axis
+     * @param target the coordinate of the piece
+     * @return the time of the entry in seconds, negative if they overlap from the start
+     */
+    private static double entryTime(double start, double velocity, double target) {
+        double low = target - ProjectilePool.PROJECTILE_SIZE;
+        double high = target + ProjectilePool.PIECE_SIZE;
+        if (velocity > 0.0) {
+            return (low - start) / velocity;
+        }
+        if (velocity < 0.0) {
+            return (high - start) / velocity;
+        }
+        return (start > low && start < high) ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+    }
+}
@@ -0,0 +1,229 @@
+package com.shiroyama.chess2.arena;
+
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+
+/**
+ * Aggregated results of simulated duels of one matchup: the piece types and starting HP of the attacker and the defender.
+ * Counts the wins, the total duel length, and the HP the winners kept.
+ */
+public class DuelStats {
+
+    /**
+     * The piece types of the attacker and the defender.
+     */
+    private final PieceType attackerType, defenderType;
+
+    /**
+     * The starting HP of the attacker and the defender.
+     */
+    private final int attackerHp, defenderHp;
+
+    /**
+     * The number of simulated duels.
+     */
+    private int duels;
+
+    /**
+     * The number of duels the attacker won.
+     */
+    private int attackerWins;
+
+    /**
+     * The total simulated length of the duels in seconds.
+     */
+    private double totalDuration;
+
+    /**
+     * The number of duels the attacker won with each HP left, indexed by HP.
+     */
+    private final int[] attackerHpLeft;
+
+    /**
+     * The number of duels the defender won with each HP left, indexed by HP.
+     */
+    private final int[] defenderHpLeft;
+
+    /**
+     * Constructor for the class.
+     *
+     * @param attackerType the piece type of the attacker
+     * @param attackerHp the starting HP of the attacker
+     * @param defenderType the piece type of the defender
+     * @param defenderHp the starting HP of the defender
+     */
+    public DuelStats(PieceType attackerType, int attackerHp, PieceType defenderType, int defenderHp) {
+        this.attackerType = attackerType;
+        this.attackerHp = attackerHp;
+        this.defenderType = defenderType;
+        this.defenderHp = defenderHp;
+        this.attackerHpLeft = new int[attackerHp + 1];
+        this.defenderHpLeft = new int[defenderHp + 1];
+    }
+
+    /**
+     * Records the result of a duel.
+     *
+     * @param attackerWon true if the attacker won
+     * @param attackerHpAfter the HP of the attacker after the duel
+     * @param defenderHpAfter the HP of the defender after the duel
+     * @param duration the length of the duel in seconds
+     */
+    public void record(boolean attackerWon, int attackerHpAfter, int defenderHpAfter, float duration) {
+        duels++;
+        totalDuration += duration;
+        if (attackerWon) {
+            attackerWins++;
+            attackerHpLeft[Math.max(0, Math.min(attackerHpAfter, attackerHp))]++;
+        } else {
+            defenderHpLeft[Math.max(0, Math.min(defenderHpAfter, defenderHp))]++;
+        }
+    }
+
+    /**
+     * Adds the results of another batch of the same matchup.
+     *
+     * @param other the other results
+     * @throws IllegalArgumentException if the other results are of another matchup
+     */
+    public void merge(DuelStats other) {
+        if (other.attackerType != attackerType || other.defenderType != defenderType
+            || other.attackerHp != attackerHp || other.defenderHp != defenderHp) {
+            throw new IllegalArgumentException("Cannot merge different matchups");
+        }
+        duels += other.duels;
+        attackerWins += other.attackerWins;
+        totalDuration += other.totalDuration;
+        for (int hp = 0; hp < attackerHpLeft.length; hp++) {
+            attackerHpLeft[hp] += other.attackerHpLeft[hp];
+        }
+        for (int hp = 0; hp < defenderHpLeft.length; hp++) {
+            defenderHpLeft[hp] += other.defenderHpLeft[hp];
+        }
+    }
+
+    /**
+     * Gets the piece type of the attacker.
+     *
+     * @return the piece type
+     */
+    public PieceType getAttackerType() {
+        return attackerType;
+    }
+
+    /**
+     * Gets the piece type of the defender.
+     *
+     * @return the piece type
+     */
+    public PieceType getDefenderType() {
+        return defenderType;
+    }
+
+    /**
+     * Gets the starting HP of the attacker.
+     *
+     * @return the HP
+     */
+    public int getAttackerHp() {
+        return attackerHp;
+    }
+
+    /**
+     * Gets the starting HP of the defender.
+     *
+     * @return the HP
+     */
+    public int getDefenderHp() {
+        return defenderHp;
+    }
+
+    /**
+     * Gets the number of simulated duels.
+     *
+     * @return the number of duels
+     */
+    public int getDuels() {
+        return duels;
+    }
+
+    /**
+     * Gets the number of duels the attacker won.
+     *
+     * @return the number of wins
+     */
+    public int getAttackerWins() {
+        return attackerWins;
+    }
+
+    /**
+     * Gets the share of the duels the attacker won.
+     *
+     * @return the win rate between 0 and 1, 0 if no duel was simulated
+     */
+    public double getAttackerWinRate() {
+        return (duels > 0) ? (double) attackerWins / duels : 0.0;
+    }
+
+    /**
+     * Gets the mean length of the duels.
+     *
+     * @return the mean length in seconds, 0 if no duel was simulated
+     */
+    public double getMeanDuration() {
+        return (duels > 0) ? totalDuration / duels : 0.0;
+    }
+
+    /**
+     * Gets the mean HP the attacker kept in the duels it won.
+     *
+     * @return the mean HP, 0 if it won none
+     */
+    public double getMeanAttackerHpLeft() {
+        return meanHp(attackerHpLeft);
+    }
+
+    /**
+     * Gets the mean HP the defender kept in the duels it won.
+     *
+     * @return the mean HP, 0 if it won none
+     */
+    public double getMeanDefenderHpLeft() {
+        return meanHp(defenderHpLeft);
+    }
+
+    /**
+     * Gets the number of duels the attacker won with an amount of HP left.
+     *
+     * @param hp the HP left
+     * @return the number of duels
+     */
+    public int getAttackerHpLeftCount(int hp) {
+        return (hp >= 0 && hp < attackerHpLeft.length) ? attackerHpLeft[hp] : 0;
+    }
+
+    /**
+     * Gets the number of duels the defender won with an amount of HP left.
+     *
+     * @param hp the HP left
+     * @return the number of duels
+     */
+    public int getDefenderHpLeftCount(int hp) {
+        return (hp >= 0 && hp < defenderHpLeft.length) ? defenderHpLeft[hp] : 0;
+    }
+
+    /**
+     * Calculates the mean of an HP histogram.
+     *
+     * @param histogram the number of duels indexed by HP
+     * @return the mean HP, 0 if the histogram is empty
+     */
+    private static double meanHp(int[] histogram) {
+        long count = 0;
+        long sum = 0;
+        for (int hp = 0; hp < histogram.length; hp++) {
+            count += histogram[hp];
+            sum += (long) hp * histogram[hp];
+        }
+        return (count > 0) ? (double) sum / count : 0.0;
+    }
+}
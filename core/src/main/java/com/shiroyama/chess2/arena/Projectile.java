@@ -3,8 +3,7 @@ package com.shiroyama.chess2.arena;
 import com.shiroyama.chess2.chessboard.model.TargetPoint;
 import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
 import com.shiroyama.chess2.chessboard.pieces.Team;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.shiroyama.chess2.utils.GameEventSink;
 
 
 /**
@@ -34,9 +33,9 @@ public class Projectile {
     private static final float PROJECTILE_SIZE = 10;
 
     /**
-     * {@link Logger} for logging projectile hits.
+     * {@link GameEventSink} for recording projectile hits.
      */
-    private static final Logger logger = LoggerFactory.getLogger(Projectile.class);
+    private static final GameEventSink events = GameEventSink.getInstance();
 
     /**
      * Constructor for the Projectile class.
@@ -48,20 +47,18 @@ public class Projectile {
      */
     public Projectile(Team shooterTeam, TargetPoint startPosition, TargetPoint targetPosition){
         this.shooterTeam = shooterTeam;
-        this.position = startPosition;
+        this.position = new TargetPoint(startPosition.getX(), startPosition.getY());
         this.velocity = calculateVelocity(startPosition, targetPosition);
     }
 
     /**
-     * Updated the projectile's position based on its velocity.
+     * Updated the projectile's position based on its velocity, in place.
      *
      * @param deltaTime the time elapsed since the last update
      */
     public void update(float deltaTime){
-        position = new TargetPoint(
-            position.getX() + velocity.getX() * deltaTime,
-            position.getY() + velocity.getY() * deltaTime
-        );
+        position.setX(position.getX() + velocity.getX() * deltaTime);
+        position.setY(position.getY() + velocity.getY() * deltaTime);
     }
 
     /**
@@ -95,8 +92,7 @@ public class Projectile {
             && projectileX + PROJECTILE_SIZE > pieceX
             && projectileY < pieceY + pieceSize
             && projectileY + PROJECTILE_SIZE > pieceY){
-            logger.info("{} hit, losing 1 HP", piece.getName());
-            logger.info("Current HP: {}", piece.getHp() - 1);
+            events.hit(piece, piece.getHp() - 1);
         }
 
         return piece.getTeam() != shooterTeam
@@ -0,0 +1,238 @@
+package com.shiroyama.chess2.arena;
+
+import com.shiroyama.chess2.chessboard.pieces.Team;
+
+import java.util.Arrays;
+
+/**
+ * Pooled storage of the live projectiles of an arena, kept as parallel primitive arrays.
+ * A projectile is identified by its index, which is valid until a projectile is removed.
+ * Removing swaps the last projectile into the freed index, so updating, hit testing and removing
+ * are linear passes that do not allocate. The arrays only grow, and are reused across frames.
+ *
+ * <p>Projectiles follow the rules of {@link Projectile}: they are squares of {@link #PROJECTILE_SIZE},
+ * fly at {@link #PROJECTILE_SPEED}, and positions are in arena units of 50 pixels.
+ */
+public class ProjectilePool {
+
+    /**
+     * The size of a projectile in arena units.
+     */
+    public static final float PROJECTILE_SIZE = 0.2f;
+
+    /**
+     * The size of a piece in arena units.
+     */
+    public static final float PIECE_SIZE = 1f;
+
+    /**
+     * The speed of a projectile in arena units per second.
+     */
+    public static final float PROJECTILE_SPEED = 5f;
+
+    /**
+     * Cached {@link Team} values, indexed by the stored team bytes.
+     */
+    private static final Team[] TEAMS = Team.values();
+
+    /**
+     * Positions of the projectiles.
+     */
+    private float[] x, y;
+
+    /**
+     * Velocities of the projectiles.
+     */
+    private float[] vx, vy;
+
+    /**
+     * {@link Team#ordinal()} of the shooters of the projectiles.
+     */
+    private byte[] team;
+
+    /**
+     * The number of live projectiles.
+     */
+    private int size;
+
+    /**
+     * Constructor for the class.
+     *
+     * @param initialCapacity the number of projectiles the pool holds before growing
+     */
+    public ProjectilePool(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        team = new byte[capacity];
+    }
+
+    /**
+     * Adds a projectile flying from a start position towards a target position.
+     *
+     * @param shooterTeam the team of the piece that fired the projectile
+     * @param startX the x-coordinate of the start position
+     * @param startY the y-coordinate of the start position
+     * @param targetX the x-coordinate of the target position
+     * @param targetY the y-coordinate of the target position
+     * @return the index of the projectile, or -1 if the start and target positions are the same
+     */
+    public int spawn(Team shooterTeam, float startX, float startY, float targetX, float targetY) {
+        float dx = targetX - startX;
+        float dy = targetY - startY;
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
+        if (length == 0f) {
+            return -1;
+        }
+        if (size == x.length) {
+            grow();
+        }
+        int i = size++;
+        x[i] = startX;
+        y[i] = startY;
+        vx[i] = dx / length * PROJECTILE_SPEED;
+        vy[i] = dy / length * PROJECTILE_SPEED;
+        team[i] = (byte) shooterTeam.ordinal();
+        return i;
+    }
+
+    /**
+     * Moves every projectile by its velocity.
+     *
+     * @param deltaTime the time elapsed since the last update
+     */
+    public void update(float deltaTime) {
+        for (int i = 0; i < size; i++) {
+            x[i] += vx[i] * deltaTime;
+            y[i] += vy[i] * deltaTime;
+        }
+    }
+
+    /**
+     * Checks whether a projectile overlaps a piece.
+     *
+     * @param i the index of the projectile
+     * @param pieceX the x-coordinate of the piece
+     * @param pieceY the y-coordinate of the piece
+     * @return true if they overlap, false otherwise
+     */
+    public boolean overlaps(int i, float pieceX, float pieceY) {
+        return x[i] < pieceX + PIECE_SIZE && x[i] + PROJECTILE_SIZE > pieceX
+            && y[i] < pieceY + PIECE_SIZE && y[i] + PROJECTILE_SIZE > pieceY;
+    }
+
+    /**
+     * Checks whether a projectile left the arena.
+     *
+     * @param i the index of the projectile
+     * @param width the width of the arena
+     * @param height the height of the arena
+     * @return true if the projectile is out of bounds, false otherwise
+     */
+    public boolean isOutOfBounds(int i, float width, float height) {
+        return x[i] < 0 || x[i] > width || y[i] < 0 || y[i] > height;
+    }
+
+    /**
+     * Removes a projectile by moving the last projectile into its index.
+     *
+     * @param i the index of the projectile
+     */
+    public void remove(int i) {
+        int last = --size;
+        x[i] = x[last];
+        y[i] = y[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        team[i] = team[last];
+    }
+
+    /**
+     * Removes every projectile, keeping the capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Gets the number of live projectiles.
+     *
+     * @return the number of projectiles
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether there are no live projectiles.
+     *
+     * @return true if the pool is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the x-coordinate of a projectile.
+     *
+     * @param i the index of the projectile
+     * @return the x-coordinate
+     */
+    public float getX(int i) {
+        return x[i];
+    }
+
+    /**
+     * Gets the y-coordinate of a projectile.
+     *
+     * @param i the index of the projectile
+     * @return the y-coordinate
+     */
+    public float getY(int i) {
+        return y[i];
+    }
+
+    /**
+     * Gets the x-component of the velocity of a projectile.
+     *
+     * @param i the index of the projectile
+     * @return the x-component of the velocity
+     */
+    public float getVelocityX(int i) {
+        return vx[i];
+    }
+
+    /**
+     * Gets the y-component of the velocity of a projectile.
+     *
+     * @param i the index of the projectile
+     * @return the y-component of the velocity
+     */
+    public float getVelocityY(int i) {
+        return vy[i];
+    }
+
+    /**
+     * Gets the team of the piece that fired a projectile.
+     *
+     * @param i the index of the projectile
+     * @return the shooter's team
+     */
+    public Team getTeam(int i) {
+        return TEAMS[team[i]];
+    }
+
+    /**
+     * Doubles the capacity of the arrays.
+     */
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        team = Arrays.copyOf(team, capacity);
+    }
+}
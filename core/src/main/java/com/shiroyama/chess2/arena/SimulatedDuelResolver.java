@@ -0,0 +1,53 @@
+package com.shiroyama.chess2.arena;
+
+import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+import com.shiroyama.chess2.chessboard.utils.DuelResolver;
+
+import java.util.Random;
+
+/**
+ * Decides captures by running the duel in a headless {@link ArenaSimulation}, with the pieces dodging at random.
+ * Every capture is simulated with the next seed of the resolver, so a game can be replayed from its seed.
+ */
+public class SimulatedDuelResolver implements DuelResolver {
+
+    /**
+     * The simulation the duels are run in.
+     */
+    private final ArenaSimulation simulation;
+
+    /**
+     * The source of the seeds of the duels.
+     */
+    private final Random seeds;
+
+    /**
+     * Constructor for the class.
+     *
+     * @param simulation the simulation the duels are run in
+     * @param seed the seed of the duels of the game
+     */
+    public SimulatedDuelResolver(ArenaSimulation simulation, long seed) {
+        this.simulation = simulation;
+        this.seeds = new Random(seed);
+    }
+
+    /**
+     * Simulates the duel of two pieces and sets their HP to what they end with.
+     * A winner that died in the same step as the loser keeps 1 HP, so it can stay on the board.
+     *
+     * @param attacker the piece that is attacking
+     * @param defender the piece that is being attacked
+     * @return the winner of the duel
+     */
+    @Override
+    public PieceInfo resolve(PieceInfo attacker, PieceInfo defender) {
+        boolean attackerWon = simulation.run(attacker.getHp(), attacker.getAttackRate(),
+            defender.getHp(), defender.getAttackRate(), seeds.nextLong());
+        PieceInfo winner = attackerWon ? attacker : defender;
+        PieceInfo loser = attackerWon ? defender : attacker;
+        winner.setHp(Math.max(1, attackerWon ? simulation.getAttackerHp() : simulation.getDefenderHp()));
+        loser.setHp(0);
+        return winner;
+    }
+}
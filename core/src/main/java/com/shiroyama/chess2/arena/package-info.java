@@ -12,6 +12,18 @@
  * <ul>
  *   <li>{@link com.shiroyama.chess2.arena.Arena} - Manages the combat area where pieces fight</li>
  *   <li>{@link com.shiroyama.chess2.arena.Projectile} - Represents projectiles fired by chess pieces</li>
+ *   <li>{@link com.shiroyama.chess2.arena.ProjectilePool} - Stores the live projectiles in pooled parallel arrays</li>
+ *   <li>{@link com.shiroyama.chess2.arena.CollisionGrid} - Uniform grid broad phase for projectile hits</li>
+ *   <li>{@link com.shiroyama.chess2.arena.ArenaSimulation} - Simulates duels headlessly with a fixed step,
+ *       for balancing the stats and precomputing capture odds</li>
+ *   <li>{@link com.shiroyama.chess2.arena.DuelBatchRunner} - Runs simulated duels of every matchup in parallel</li>
+ *   <li>{@link com.shiroyama.chess2.arena.DuelStats} - Aggregated results of the duels of one matchup</li>
+ *   <li>{@link com.shiroyama.chess2.arena.DuelPredictor} - Computes the outcome of a duel of standing pieces
+ *       directly, and decides captures at once</li>
+ *   <li>{@link com.shiroyama.chess2.arena.DuelPrediction} - The predicted winner, HP and length of a duel</li>
+ *   <li>{@link com.shiroyama.chess2.arena.SimulatedDuelResolver} - Decides captures with headless simulated duels</li>
+ *   <li>{@link com.shiroyama.chess2.arena.ArenaPolicy} - Chooses whether the captures of a game are played,
+ *       simulated or predicted</li>
  * </ul>
  *
  * @author Vajas Benjámin - shiroyama42
@@ -6,11 +6,16 @@ import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.shiroyama.chess2.chessboard.engine.ComputerPlayer;
+import com.shiroyama.chess2.chessboard.engine.SearchEngine;
 import com.shiroyama.chess2.chessboard.model.TargetPoint;
 import com.shiroyama.chess2.chessboard.model.ChessBoard;
+import com.shiroyama.chess2.chessboard.pieces.MoveGenerator;
 import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
 import com.shiroyama.chess2.chessboard.pieces.Rules;
 import com.shiroyama.chess2.chessboard.pieces.Team;
+import com.shiroyama.chess2.utils.GameEventSink;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,11 +37,6 @@ public class GameState implements InputProcessor {
      */
     private int size;
 
-    /**
-     * Team which can move in the round.
-     */
-    private Team currentTurn;
-
     /**
      * Represents an {@link ArrayList} for storing valid moves of specified piece.
      */
@@ -63,10 +63,25 @@ public class GameState implements InputProcessor {
     private float centerX, centerY;
 
     /**
-     * {@link Logger} for logging clicked square.
+     * The {@link ComputerPlayer} playing one of the teams, or null if both teams are played by users.
+     */
+    private ComputerPlayer computerPlayer;
+
+    /**
+     * The piece type the last move of the computer promotes to, or null if it was not a promotion.
+     */
+    private PieceType computerPromotion;
+
+    /**
+     * {@link Logger} for logging passed turns of the computer.
      */
     private static final Logger logger = LoggerFactory.getLogger(GameState.class);
 
+    /**
+     * {@link GameEventSink} for recording clicked squares.
+     */
+    private static final GameEventSink events = GameEventSink.getInstance();
+
     /**
      * Constructor for the class
      *
@@ -77,7 +92,6 @@ public class GameState implements InputProcessor {
      */
     public GameState(int size, ChessBoard board, float centerX, float centerY) {
         validMoves = new ArrayList<TargetPoint>();
-        currentTurn = Team.WHITE;
 
         this.size = size;
         this.centerX = centerX;
@@ -122,6 +136,73 @@ public class GameState implements InputProcessor {
         }
     }
 
+    /**
+     * Lets the computer play when its team is to move.
+     * Starts a search on the first call of the turn, and makes the found move once the search has finished,
+     * so the search never blocks the render thread.
+     */
+    public void update() {
+        if (computerPlayer == null || board.isGameOver() || board.isPromoting() || !isComputer(board.getSideToMove())) {
+            return;
+        }
+        if (!computerPlayer.isThinking()) {
+            computerPlayer.startThinking(board);
+            return;
+        }
+        if (!computerPlayer.hasResult()) {
+            return;
+        }
+
+        int move = computerPlayer.takeResult();
+        if (move == SearchEngine.NO_MOVE) {
+            logger.info("{} has no moves, passing the turn.", computerPlayer.getTeam());
+        } else {
+            int from = MoveGenerator.getFrom(move);
+            int to = MoveGenerator.getTo(move);
+            computerPromotion = MoveGenerator.getPromotion(move);
+            board.movePiece(new TargetPoint(from % 8, from / 8), new TargetPoint(to % 8, to / 8));
+        }
+        board.setSideToMove((board.getSideToMove() == Team.WHITE) ? Team.BLACK : Team.WHITE);
+    }
+
+    /**
+     * Sets the computer player playing one of the teams.
+     *
+     * @param computerPlayer the {@link ComputerPlayer}, or null if both teams are played by users
+     */
+    public void setComputerPlayer(ComputerPlayer computerPlayer) {
+        this.computerPlayer = computerPlayer;
+    }
+
+    /**
+     * Checks whether a team is played by the computer.
+     *
+     * @param team the team
+     * @return true if the computer plays the team, false otherwise
+     */
+    public boolean isComputer(Team team) {
+        return computerPlayer != null && computerPlayer.getTeam() == team;
+    }
+
+    /**
+     * Gets the piece type the last move of the computer promotes to.
+     *
+     * @return the promotion piece type, {@link PieceType#QUEEN} if the last move was not a promotion
+     */
+    public PieceType getComputerPromotion() {
+        return (computerPromotion != null) ? computerPromotion : PieceType.QUEEN;
+    }
+
+    /**
+     * Releases the resources of the game state, such as the overlay texture and the computer player.
+     */
+    public void dispose() {
+        overlayBoxTexture.dispose();
+        if (computerPlayer != null) {
+            computerPlayer.dispose();
+        }
+    }
+
     @Override
     public boolean keyDown(int i) {
         return false;
@@ -151,19 +232,22 @@ public class GameState implements InputProcessor {
         if (button != 0 && board.isPromoting()) {
             return false;
         }
+        if (board.isGameOver() || isComputer(board.getSideToMove())) {
+            return false;
+        }
 
         int adjustedX = x - (int)centerX;
         int adjustedY = y - (int)centerY;
 
         TargetPoint tileIdx = board.getPoint(adjustedX, adjustedY);
-        logger.info("{} - {} clicked.", tileIdx.getX(), tileIdx.getY());
+        events.click(tileIdx);
 
         boolean moved = false;
 
         for (TargetPoint move : validMoves) {
             if (tileIdx.equals(move)) {
                 board.movePiece(selected, tileIdx);
-                currentTurn = (currentTurn == Team.WHITE) ? Team.BLACK : Team.WHITE;
+                board.setSideToMove((board.getSideToMove() == Team.WHITE) ? Team.BLACK : Team.WHITE);
                 moved = true;
             }
         }
@@ -173,7 +257,7 @@ public class GameState implements InputProcessor {
 
         if (!moved) {
             PieceInfo piece = board.getPiece(tileIdx);
-            if (piece != null && piece.getTeam() == currentTurn) {
+            if (piece != null && piece.getTeam() == board.getSideToMove()) {
                 selected = tileIdx;
                 Rules.GetValidMoves(validMoves, tileIdx, piece, board);
             }
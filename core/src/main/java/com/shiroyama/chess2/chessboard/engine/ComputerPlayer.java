@@ -0,0 +1,149 @@
+package com.shiroyama.chess2.chessboard.engine;
+
+import com.shiroyama.chess2.chessboard.model.BoardState;
+import com.shiroyama.chess2.chessboard.pieces.Team;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Represents a computer opponent playing one team.
+ * Searches its moves with a {@link SearchEngine} on a background thread, so the render thread
+ * only starts a search and polls for its result.
+ */
+public class ComputerPlayer {
+
+    /**
+     * The size of the transposition table in megabytes.
+     */
+    private static final int TABLE_SIZE_MB = 16;
+
+    /**
+     * The team played by the computer.
+     */
+    private final Team team;
+
+    /**
+     * The time a search may take in milliseconds.
+     */
+    private final long budgetMillis;
+
+    /**
+     * The engine searching the moves, only used on the search thread.
+     */
+    private final SearchEngine engine;
+
+    /**
+     * The single thread running the searches.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The running or finished search, or null if no search was started since the last result was taken.
+     */
+    private Future<Integer> pending;
+
+    /**
+     * {@link Logger} for logging the searches.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(ComputerPlayer.class);
+
+    /**
+     * Constructor for the class.
+     *
+     * @param team the {@link Team} played by the computer
+     * @param budgetMillis the time a search may take in milliseconds
+     * @param duelOdds the outcomes of the arena duels the search prices captures by
+     */
+    public ComputerPlayer(Team team, long budgetMillis, DuelOdds duelOdds) {
+        this.team = team;
+        this.budgetMillis = budgetMillis;
+        this.engine = new SearchEngine(new TranspositionTable(TABLE_SIZE_MB), duelOdds);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "computer-player");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the team played by the computer.
+     *
+     * @return the team
+     */
+    public Team getTeam() {
+        return team;
+    }
+
+    /**
+     * Starts searching a move for a position.
+     * The position is copied on the calling thread, so the board can be changed while the search runs.
+     *
+     * @param board the position, with the computer's team to move
+     */
+    public void startThinking(BoardState board) {
+        BoardState copy = new BoardState(board);
+        pending = executor.submit(() -> {
+            long start = System.nanoTime();
+            int move = engine.findBestMove(copy, budgetMillis);
+            logger.info("Computer searched {} nodes to depth {} in {} ms.", engine.getNodes(),
+                engine.getCompletedDepth(), (System.nanoTime() - start) / 1_000_000);
+            return move;
+        });
+    }
+
+    /**
+     * Checks whether a search was started and its result was not taken yet.
+     *
+     * @return true if the computer is thinking or has a result, false otherwise
+     */
+    public boolean isThinking() {
+        return pending != null;
+    }
+
+    /**
+     * Checks whether the started search has finished.
+     *
+     * @return true if a result can be taken, false otherwise
+     */
+    public boolean hasResult() {
+        return pending != null && pending.isDone();
+    }
+
+    /**
+     * Takes the result of the finished search.
+     *
+     * @return the move encoded like {@link com.shiroyama.chess2.chessboard.pieces.MoveGenerator},
+     * or {@link SearchEngine#NO_MOVE} if there was no move or the search failed
+     * @throws IllegalStateException if there is no finished search
+     */
+    public int takeResult() {
+        if (!hasResult()) {
+            throw new IllegalStateException("No finished search");
+        }
+        Future<Integer> result = pending;
+        pending = null;
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return SearchEngine.NO_MOVE;
+        } catch (ExecutionException e) {
+            logger.error("Computer search failed.", e.getCause());
+            return SearchEngine.NO_MOVE;
+        }
+    }
+
+    /**
+     * Stops the running search and the search thread.
+     */
+    public void dispose() {
+        engine.stop();
+        executor.shutdownNow();
+        pending = null;
+    }
+}
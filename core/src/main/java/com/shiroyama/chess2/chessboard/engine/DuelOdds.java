@@ -0,0 +1,269 @@
+package com.shiroyama.chess2.chessboard.engine;
+
+import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Lookup table of arena duel outcomes, indexed by attacker type, attacker HP, defender type and defender HP.
+ * Each entry holds the chance that the attacker wins, and the HP the winner is expected to keep on either outcome,
+ * so the search can price a capture in constant time instead of counting it as a certain win.
+ *
+ * <p>The table is filled by offline arena simulation and stored with {@link #save(OutputStream)}.
+ * When no stored table is available, {@link #analytic(float[])} estimates it from the attack rates alone.
+ * HP above {@link #MAX_HP} shares the entries of {@link #MAX_HP}.
+ */
+public final class DuelOdds {
+
+    /**
+     * The name of the file the table is stored in, relative to the assets.
+     */
+    public static final String FILE_NAME = "duel_odds.bin";
+
+    /**
+     * The highest HP with its own entries.
+     */
+    public static final int MAX_HP = 31;
+
+    /**
+     * Marks the start of a stored table.
+     */
+    private static final int MAGIC = 0x44554F44;
+
+    /**
+     * The number of piece types.
+     */
+    private static final int TYPES = PieceType.values().length;
+
+    /**
+     * The number of entries of the table.
+     */
+    private static final int SIZE = TYPES * (MAX_HP + 1) * TYPES * (MAX_HP + 1);
+
+    /**
+     * The table built from the default attack rates, created on first use.
+     */
+    private static DuelOdds defaults;
+
+    /**
+     * The chance of the attacker winning, per entry.
+     */
+    private final float[] winChances = new float[SIZE];
+
+    /**
+     * The expected HP of the attacker when it wins, per entry.
+     */
+    private final byte[] attackerHps = new byte[SIZE];
+
+    /**
+     * The expected HP of the defender when it wins, per entry.
+     */
+    private final byte[] defenderHps = new byte[SIZE];
+
+    /**
+     * Constructor for the class, creating a table where every duel is a certain win of the attacker at full HP.
+     */
+    public DuelOdds() {
+        for (int attackerType = 0; attackerType < TYPES; attackerType++) {
+            for (int attackerHp = 0; attackerHp <= MAX_HP; attackerHp++) {
+                for (int defenderType = 0; defenderType < TYPES; defenderType++) {
+                    for (int defenderHp = 0; defenderHp <= MAX_HP; defenderHp++) {
+                        set(attackerType, attackerHp, defenderType, defenderHp, 1f, attackerHp, defenderHp);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Estimates the table from the attack rates of the piece types.
+     * Each piece is modelled as landing hits at random times, at its attack rate on average, so the attacker wins
+     * if it lands as many hits as the defender has HP before the defender does the same.
+     *
+     * @param attackRates the attack rates, indexed by {@link PieceType#ordinal()}
+     * @return the estimated table
+     * @throws IllegalArgumentException if an attack rate is missing or not positive
+     */
+    public static DuelOdds analytic(float[] attackRates) {
+        if (attackRates.length != TYPES) {
+            throw new IllegalArgumentException("Expected " + TYPES + " attack rates: " + attackRates.length);
+        }
+        for (float attackRate : attackRates) {
+            if (!(attackRate > 0f)) {
+                throw new IllegalArgumentException("Attack rate must be positive: " + attackRate);
+            }
+        }
+
+        DuelOdds odds = new DuelOdds();
+        double[][] win = new double[MAX_HP + 1][MAX_HP + 1];
+        double[][] attackerHp = new double[MAX_HP + 1][MAX_HP + 1];
+        double[][] defenderHp = new double[MAX_HP + 1][MAX_HP + 1];
+        for (int attackerType = 0; attackerType < TYPES; attackerType++) {
+            for (int defenderType = 0; defenderType < TYPES; defenderType++) {
+                double hitFirst = attackRates[attackerType] / (double) (attackRates[attackerType] + attackRates[defenderType]);
+
+                for (int a = 0; a <= MAX_HP; a++) {
+                    for (int d = 0; d <= MAX_HP; d++) {
+                        if (d == 0) {
+                            win[a][d] = 1.0;
+                            attackerHp[a][d] = a;
+                            defenderHp[a][d] = 0.0;
+                        } else if (a == 0) {
+                            win[a][d] = 0.0;
+                            attackerHp[a][d] = 0.0;
+                            defenderHp[a][d] = d;
+                        } else {
+                            win[a][d] = hitFirst * win[a][d - 1] + (1 - hitFirst) * win[a - 1][d];
+                            attackerHp[a][d] = hitFirst * attackerHp[a][d - 1] + (1 - hitFirst) * attackerHp[a - 1][d];
+                            defenderHp[a][d] = hitFirst * defenderHp[a][d - 1] + (1 - hitFirst) * defenderHp[a - 1][d];
+                        }
+                    }
+                }
+
+                for (int a = 1; a <= MAX_HP; a++) {
+                    for (int d = 1; d <= MAX_HP; d++) {
+                        double chance = win[a][d];
+                        int attackerLeft = (chance > 0) ? (int) Math.round(attackerHp[a][d] / chance) : 1;
+                        int defenderLeft = (chance < 1) ? (int) Math.round(defenderHp[a][d] / (1 - chance)) : 1;
+                        odds.set(attackerType, a, defenderType, d, (float) chance, attackerLeft, defenderLeft);
+                    }
+                }
+            }
+        }
+        return odds;
+    }
+
+    /**
+     * Gets the table estimated from the default attack rates of {@link PieceInfo}.
+     *
+     * @return the shared table, which must not be changed
+     */
+    public static synchronized DuelOdds defaults() {
+        if (defaults == null) {
+            float[] attackRates = new float[TYPES];
+            for (PieceType pieceType : PieceType.values()) {
+                attackRates[pieceType.ordinal()] = PieceInfo.getDefaultAttackRate(pieceType);
+            }
+            defaults = analytic(attackRates);
+        }
+        return defaults;
+    }
+
+    /**
+     * Reads a table written by {@link #save(OutputStream)}.
+     *
+     * @param in the stream to read, not closed
+     * @return the table
+     * @throws IOException if the stream cannot be read or does not hold a table of this layout
+     */
+    public static DuelOdds load(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC || data.readInt() != TYPES || data.readInt() != MAX_HP) {
+            throw new IOException("Not a duel odds table of " + TYPES + " types and " + MAX_HP + " HP");
+        }
+        DuelOdds odds = new DuelOdds();
+        for (int i = 0; i < SIZE; i++) {
+            odds.winChances[i] = data.readFloat();
+            odds.attackerHps[i] = data.readByte();
+            odds.defenderHps[i] = data.readByte();
+        }
+        return odds;
+    }
+
+    /**
+     * Writes the table in a compact binary form.
+     *
+     * @param out the stream to write, not closed
+     * @throws IOException if the stream cannot be written
+     */
+    public void save(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(TYPES);
+        data.writeInt(MAX_HP);
+        for (int i = 0; i < SIZE; i++) {
+            data.writeFloat(winChances[i]);
+            data.writeByte(attackerHps[i]);
+            data.writeByte(defenderHps[i]);
+        }
+        data.flush();
+    }
+
+    /**
+     * Sets the outcome of a duel.
+     *
+     * @param attackerType the {@link PieceType#ordinal()} of the attacker
+     * @param attackerHp the HP of the attacker
+     * @param defenderType the {@link PieceType#ordinal()} of the defender
+     * @param defenderHp the HP of the defender
+     * @param winChance the chance of the attacker winning, between 0 and 1
+     * @param attackerLeft the expected HP of the attacker when it wins
+     * @param defenderLeft the expected HP of the defender when it wins
+     */
+    public void set(int attackerType, int attackerHp, int defenderType, int defenderHp,
+                    float winChance, int attackerLeft, int defenderLeft) {
+        int index = index(attackerType, attackerHp, defenderType, defenderHp);
+        winChances[index] = Math.max(0f, Math.min(winChance, 1f));
+        attackerHps[index] = (byte) Math.max(1, Math.min(attackerLeft, MAX_HP));
+        defenderHps[index] = (byte) Math.max(1, Math.min(defenderLeft, MAX_HP));
+    }
+
+    /**
+     * Gets the chance of the attacker winning a duel.
+     *
+     * @param attackerType the {@link PieceType#ordinal()} of the attacker
+     * @param attackerHp the HP of the attacker
+     * @param defenderType the {@link PieceType#ordinal()} of the defender
+     * @param defenderHp the HP of the defender
+     * @return the chance, between 0 and 1
+     */
+    public float getWinChance(int attackerType, int attackerHp, int defenderType, int defenderHp) {
+        return winChances[index(attackerType, attackerHp, defenderType, defenderHp)];
+    }
+
+    /**
+     * Gets the expected HP of the attacker after winning a duel.
+     *
+     * @param attackerType the {@link PieceType#ordinal()} of the attacker
+     * @param attackerHp the HP of the attacker
+     * @param defenderType the {@link PieceType#ordinal()} of the defender
+     * @param defenderHp the HP of the defender
+     * @return the HP, at least 1
+     */
+    public int getAttackerHp(int attackerType, int attackerHp, int defenderType, int defenderHp) {
+        return attackerHps[index(attackerType, attackerHp, defenderType, defenderHp)];
+    }
+
+    /**
+     * Gets the expected HP of the defender after winning a duel.
+     *
+     * @param attackerType the {@link PieceType#ordinal()} of the attacker
+     * @param attackerHp the HP of the attacker
+     * @param defenderType the {@link PieceType#ordinal()} of the defender
+     * @param defenderHp the HP of the defender
+     * @return the HP, at least 1
+     */
+    public int getDefenderHp(int attackerType, int attackerHp, int defenderType, int defenderHp) {
+        return defenderHps[index(attackerType, attackerHp, defenderType, defenderHp)];
+    }
+
+    /**
+     * Gets the index of an entry, clamping the HP to the table.
+     *
+     * @param attackerType the {@link PieceType#ordinal()} of the attacker
+     * @param attackerHp the HP of the attacker
+     * @param defenderType the {@link PieceType#ordinal()} of the defender
+     * @param defenderHp the HP of the defender
+     * @return the index
+     */
+    private static int index(int attackerType, int attackerHp, int defenderType, int defenderHp) {
+        attackerHp = Math.max(0, Math.min(attackerHp, MAX_HP));
+        defenderHp = Math.max(0, Math.min(defenderHp, MAX_HP));
+        return ((attackerType * (MAX_HP + 1) + attackerHp) * TYPES + defenderType) * (MAX_HP + 1) + defenderHp;
+    }
+}
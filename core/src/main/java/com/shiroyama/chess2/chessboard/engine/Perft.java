@@ -0,0 +1,231 @@
+package com.shiroyama.chess2.chessboard.engine;
+
+import com.shiroyama.chess2.chessboard.model.BitBoard;
+import com.shiroyama.chess2.chessboard.model.BoardState;
+import com.shiroyama.chess2.chessboard.pieces.MoveGenerator;
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+import com.shiroyama.chess2.chessboard.pieces.Team;
+
+/**
+ * Counts the leaf nodes of the move tree up to a fixed depth (perft).
+ * Used to verify move generation against known node counts and to measure its throughput.
+ *
+ * <p>The tree is the one {@link MoveGenerator} produces, which follows {@link com.shiroyama.chess2.chessboard.pieces.Rules}.
+ * A capture is counted as the attacker winning the arena fight, and the search does not stop when a king is taken,
+ * because the rules have no check or checkmate.
+ *
+ * <p>Positions are written like the piece placement of a FEN string, followed by the team to move:
+ * the rows from y = 0 (black home row) to y = 7 separated by {@code /}, upper case letters for white pieces,
+ * lower case letters for black pieces and digits for empty squares, e.g.
+ * {@code rnbkqbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBKQBNR w}.
+ */
+public class Perft {
+
+    /**
+     * The deepest search supported.
+     */
+    public static final int MAX_DEPTH = 16;
+
+    /**
+     * The starting position of the game.
+     */
+    public static final String START_POSITION = "rnbkqbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBKQBNR w";
+
+    /**
+     * One board per ply, the position after the move of the previous ply is copied into it.
+     */
+    private final BitBoard[] boards;
+
+    /**
+     * One move buffer per ply.
+     */
+    private final int[][] moves;
+
+    /**
+     * Constructor for the class.
+     * Allocates the boards and buffers of every ply up front, so a search does not allocate.
+     */
+    public Perft() {
+        boards = new BitBoard[MAX_DEPTH];
+        moves = new int[MAX_DEPTH][MoveGenerator.MAX_MOVES];
+        for (int i = 0; i < MAX_DEPTH; i++) {
+            boards[i] = new BitBoard();
+        }
+    }
+
+    /**
+     * Counts the leaf nodes from the position of a board.
+     *
+     * @param board the board
+     * @param team the team to move
+     * @param depth the number of plies to search
+     * @return the number of leaf nodes
+     */
+    public long perft(BoardState board, Team team, int depth) {
+        return perft(board.getBitBoard(), team, depth);
+    }
+
+    /**
+     * Counts the leaf nodes from a position.
+     *
+     * @param board the position, left unchanged
+     * @param team the team to move
+     * @param depth the number of plies to search
+     * @return the number of leaf nodes
+     * @throws IllegalArgumentException if the depth is negative or larger than {@link #MAX_DEPTH}
+     */
+    public long perft(BitBoard board, Team team, int depth) {
+        if (depth < 0 || depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Depth must be between 0 and " + MAX_DEPTH + ": " + depth);
+        }
+        if (depth == 0) {
+            return 1;
+        }
+        boards[0].copyFrom(board);
+        return search(0, team, depth);
+    }
+
+    /**
+     * Counts the leaf nodes below the board of a ply.
+     * The last ply is counted from the number of generated moves without making them.
+     *
+     * @param ply the index of the current board
+     * @param team the team to move
+     * @param depth the remaining depth, at least 1
+     * @return the number of leaf nodes
+     */
+    private long search(int ply, Team team, int depth) {
+        BitBoard board = boards[ply];
+        int[] buffer = moves[ply];
+        int count = MoveGenerator.generateMoves(board, team, buffer);
+        if (depth == 1) {
+            return count;
+        }
+
+        long nodes = 0;
+        BitBoard child = boards[ply + 1];
+        Team opponent = (team == Team.WHITE) ? Team.BLACK : Team.WHITE;
+        for (int i = 0; i < count; i++) {
+            child.copyFrom(board);
+            makeMove(child, buffer[i]);
+            nodes += search(ply + 1, opponent, depth - 1);
+        }
+        return nodes;
+    }
+
+    /**
+     * Applies a move to a board, the attacker winning if it is a capture.
+     *
+     * @param board the position
+     * @param move the encoded move
+     */
+    static void makeMove(BitBoard board, int move) {
+        int from = MoveGenerator.getFrom(move);
+        int to = MoveGenerator.getTo(move);
+        int pieceKind = board.getPieceKind(from);
+
+        if (MoveGenerator.isCapture(move)) {
+            board.removePiece(board.getPieceKind(to), to);
+        }
+        board.movePiece(pieceKind, from, to);
+
+        PieceType promotion = MoveGenerator.getPromotion(move);
+        if (promotion != null) {
+            board.removePiece(pieceKind, to);
+            board.addPiece(BitBoard.pieceKind(BitBoard.teamOf(pieceKind), promotion), to);
+        }
+    }
+
+    /**
+     * Reads the pieces of a position.
+     *
+     * @param position the position, in the format described on the class
+     * @return the board holding the pieces
+     * @throws IllegalArgumentException if the placement is malformed
+     */
+    public static BitBoard parseBoard(String position) {
+        String[] rows = position.trim().split("\\s+")[0].split("/");
+        if (rows.length != 8) {
+            throw new IllegalArgumentException("Expected 8 rows: " + position);
+        }
+
+        BitBoard board = new BitBoard();
+        for (int y = 0; y < 8; y++) {
+            int x = 0;
+            for (char c : rows[y].toCharArray()) {
+                if (Character.isDigit(c)) {
+                    x += c - '0';
+                } else {
+                    if (x > 7) {
+                        throw new IllegalArgumentException("Row " + y + " is too long: " + position);
+                    }
+                    Team team = Character.isUpperCase(c) ? Team.WHITE : Team.BLACK;
+                    board.addPiece(BitBoard.pieceKind(team, parsePieceType(c)), BitBoard.square(x, y));
+                    x++;
+                }
+            }
+            if (x != 8) {
+                throw new IllegalArgumentException("Row " + y + " does not have 8 squares: " + position);
+            }
+        }
+        return board;
+    }
+
+    /**
+     * Reads the team to move of a position.
+     *
+     * @param position the position, in the format described on the class
+     * @return the team to move, {@link Team#WHITE} if the position does not specify it
+     */
+    public static Team parseTeam(String position) {
+        String[] fields = position.trim().split("\\s+");
+        return (fields.length > 1 && fields[1].equalsIgnoreCase("b")) ? Team.BLACK : Team.WHITE;
+    }
+
+    /**
+     * Gets the piece type of a letter of the placement.
+     *
+     * @param c the letter, in either case
+     * @return the piece type
+     * @throws IllegalArgumentException if the letter is not a piece
+     */
+    private static PieceType parsePieceType(char c) {
+        switch (Character.toLowerCase(c)) {
+            case 'p': return PieceType.PAWN;
+            case 'b': return PieceType.BISHOP;
+            case 'n': return PieceType.KNIGHT;
+            case 'r': return PieceType.ROOK;
+            case 'q': return PieceType.QUEEN;
+            case 'k': return PieceType.KING;
+            default: throw new IllegalArgumentException("Unknown piece: " + c);
+        }
+    }
+
+    /**
+     * Runs perft from depth 1 up to the requested depth and prints the node counts and nodes per second.
+     *
+     * @param args the depth (5 by default), optionally followed by a position
+     */
+    public static void main(String[] args) {
+        int depth = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        String position = START_POSITION;
+        if (args.length > 1) {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 1; i < args.length; i++) {
+                builder.append(args[i]).append(' ');
+            }
+            position = builder.toString();
+        }
+
+        BitBoard board = parseBoard(position);
+        Team team = parseTeam(position);
+        Perft perft = new Perft();
+        System.out.println("Position: " + position.trim());
+        for (int d = 1; d <= depth; d++) {
+            long start = System.nanoTime();
+            long nodes = perft.perft(board, team, d);
+            long elapsed = Math.max(System.nanoTime() - start, 1);
+            System.out.printf("perft(%d) = %d  %.1f ms  %.0f nodes/s%n", d, nodes, elapsed / 1e6, nodes * 1e9 / elapsed);
+        }
+    }
+}
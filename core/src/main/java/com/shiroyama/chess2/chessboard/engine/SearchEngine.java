@@ -0,0 +1,489 @@
+package com.shiroyama.chess2.chessboard.engine;
+
+import com.shiroyama.chess2.chessboard.model.BitBoard;
+import com.shiroyama.chess2.chessboard.model.BoardState;
+import com.shiroyama.chess2.chessboard.pieces.MoveGenerator;
+import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+import com.shiroyama.chess2.chessboard.pieces.Team;
+
+/**
+ * Finds the best move of a position with an iterative deepening alpha-beta search.
+ * Searches the moves of {@link MoveGenerator}, which follow {@link com.shiroyama.chess2.chessboard.pieces.Rules},
+ * with {@link BoardState#makeMove(int, boolean, int)} and {@link BoardState#unmakeMove()}.
+ * Results are kept in a {@link TranspositionTable} between the iterations and moves.
+ *
+ * <p>A capture starts an arena duel, so it is searched as a chance node: both outcomes are searched and
+ * their scores are weighted by the chance of the attacker winning from {@link DuelOdds}. The windows of the
+ * outcomes are narrowed from the parent window and {@link #EVAL_BOUND}, so the chance nodes still prune.
+ *
+ * <p>The search deepens one ply at a time until the time budget runs out, and returns the best move of the
+ * deepest completed iteration. An instance is not thread-safe; use one instance per searching thread.
+ */
+public class SearchEngine {
+
+    /**
+     * Value of {@link #findBestMove(BoardState, long)} when the side to move has no moves.
+     */
+    public static final int NO_MOVE = 0;
+
+    /**
+     * The deepest ply the search reaches, including the capture search.
+     */
+    private static final int MAX_PLY = 64;
+
+    /**
+     * Score bound larger than any evaluation.
+     */
+    private static final int INFINITY = 1_000_000;
+
+    /**
+     * Bound of the absolute value of every evaluation, a king and fifteen queens.
+     */
+    private static final int EVAL_BOUND = 40_000;
+
+    /**
+     * Material values of the piece types, indexed by {@link PieceType#ordinal()}.
+     * The king is worth more than every other piece together, since losing it decides the game.
+     */
+    private static final int[] PIECE_VALUES = new int[PieceType.values().length];
+
+    /**
+     * Cached {@link PieceType} values, so the evaluation does not copy the array.
+     */
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    static {
+        PIECE_VALUES[PieceType.PAWN.ordinal()] = 100;
+        PIECE_VALUES[PieceType.KNIGHT.ordinal()] = 300;
+        PIECE_VALUES[PieceType.BISHOP.ordinal()] = 320;
+        PIECE_VALUES[PieceType.ROOK.ordinal()] = 500;
+        PIECE_VALUES[PieceType.QUEEN.ordinal()] = 900;
+        PIECE_VALUES[PieceType.KING.ordinal()] = 20000;
+    }
+
+    /**
+     * The number of nodes between two checks of the clock.
+     */
+    private static final int CLOCK_CHECK_INTERVAL = 1024;
+
+    /**
+     * The transposition table shared by the searches of this engine.
+     */
+    private final TranspositionTable table;
+
+    /**
+     * The outcomes of the arena duels started by captures.
+     */
+    private final DuelOdds duelOdds;
+
+    /**
+     * One move buffer per ply.
+     */
+    private final int[][] moves = new int[MAX_PLY][MoveGenerator.MAX_MOVES];
+
+    /**
+     * One buffer of move ordering scores per ply.
+     */
+    private final int[][] scores = new int[MAX_PLY][MoveGenerator.MAX_MOVES];
+
+    /**
+     * Set when the search has to stop, by the clock or by {@link #stop()}.
+     */
+    private volatile boolean stopped;
+
+    /**
+     * The time the current search has to stop, from {@link System#nanoTime()}.
+     */
+    private long deadline;
+
+    /**
+     * The number of nodes visited by the current search.
+     */
+    private long nodes;
+
+    /**
+     * The depth of the last completed iteration.
+     */
+    private int completedDepth;
+
+    /**
+     * Constructor for the class, pricing the duels by {@link DuelOdds#defaults()}.
+     *
+     * @param table the transposition table used by the searches
+     */
+    public SearchEngine(TranspositionTable table) {
+        this(table, DuelOdds.defaults());
+    }
+
+    /**
+     * Constructor for the class.
+     *
+     * @param table the transposition table used by the searches
+     * @param duelOdds the outcomes of the arena duels started by captures
+     */
+    public SearchEngine(TranspositionTable table, DuelOdds duelOdds) {
+        this.table = table;
+        this.duelOdds = duelOdds;
+    }
+
+    /**
+     * Searches the best move of the side to move of a board.
+     * The board is used for making and unmaking moves, and is left in its original state.
+     *
+     * @param board the position, not shared with other threads during the search
+     * @param budgetMillis the time the search may take in milliseconds
+     * @return the best move, encoded like {@link MoveGenerator}, or {@link #NO_MOVE} if there is none
+     */
+    public int findBestMove(BoardState board, long budgetMillis) {
+        stopped = false;
+        nodes = 0;
+        completedDepth = 0;
+        deadline = System.nanoTime() + budgetMillis * 1_000_000L;
+        table.newSearch();
+
+        int[] rootMoves = moves[0];
+        int count = MoveGenerator.generateMoves(board, board.getSideToMove(), rootMoves);
+        if (count == 0) {
+            return NO_MOVE;
+        }
+        int bestMove = rootMoves[0];
+
+        for (int depth = 1; depth < MAX_PLY; depth++) {
+            int move = searchRoot(board, depth);
+            if (stopped) {
+                break;
+            }
+            bestMove = move;
+            completedDepth = depth;
+        }
+        return bestMove;
+    }
+
+    /**
+     * Stops the running search, which then returns the best move found so far.
+     * Can be called from any thread.
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * Gets the number of nodes visited by the last search.
+     *
+     * @return the node count
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Gets the depth of the last iteration the last search completed.
+     *
+     * @return the completed depth, 0 if not even the first iteration completed
+     */
+    public int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    /**
+     * Searches the root moves to a fixed depth.
+     *
+     * @param board the position
+     * @param depth the depth of the iteration
+     * @return the best move of the iteration, only valid if the search was not stopped
+     */
+    private int searchRoot(BoardState board, int depth) {
+        int[] rootMoves = moves[0];
+        int count = MoveGenerator.generateMoves(board, board.getSideToMove(), rootMoves);
+        orderMoves(board, rootMoves, scores[0], count, TranspositionTable.getMove(table.probe(board.getHash())));
+
+        int alpha = -INFINITY;
+        int bestMove = rootMoves[0];
+        for (int i = 0; i < count; i++) {
+            int score = searchMove(board, rootMoves[i], depth - 1, alpha, INFINITY, 0);
+            if (stopped) {
+                return bestMove;
+            }
+            if (score > alpha) {
+                alpha = score;
+                bestMove = rootMoves[i];
+            }
+        }
+        table.store(board.getHash(), depth, alpha, TranspositionTable.EXACT, bestMove);
+        return bestMove;
+    }
+
+    /**
+     * Searches a position with negamax alpha-beta.
+     *
+     * @param board the position
+     * @param depth the remaining depth
+     * @param alpha the lower bound of the window
+     * @param beta the upper bound of the window
+     * @param ply the distance from the root
+     * @return the score of the position from the side to move's view
+     */
+    private int search(BoardState board, int depth, int alpha, int beta, int ply) {
+        if (depth <= 0) {
+            return quiescence(board, alpha, beta, ply);
+        }
+        if (checkClock()) {
+            return 0;
+        }
+
+        long key = board.getHash();
+        long entry = table.probe(key);
+        int hashMove = 0;
+        if (entry != TranspositionTable.MISS) {
+            hashMove = TranspositionTable.getMove(entry);
+            if (TranspositionTable.getDepth(entry) >= depth) {
+                int score = TranspositionTable.getScore(entry);
+                int bound = TranspositionTable.getBound(entry);
+                if (bound == TranspositionTable.EXACT
+                    || (bound == TranspositionTable.LOWER && score >= beta)
+                    || (bound == TranspositionTable.UPPER && score <= alpha)) {
+                    return score;
+                }
+            }
+        }
+
+        int[] buffer = moves[ply];
+        int count = MoveGenerator.generateMoves(board, board.getSideToMove(), buffer);
+        if (count == 0) {
+            return evaluate(board.getBitBoard(), board.getSideToMove());
+        }
+        orderMoves(board, buffer, scores[ply], count, hashMove);
+
+        int originalAlpha = alpha;
+        int bestScore = -INFINITY;
+        int bestMove = 0;
+        for (int i = 0; i < count; i++) {
+            int score = searchMove(board, buffer[i], depth - 1, alpha, beta, ply);
+            if (stopped) {
+                return 0;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = buffer[i];
+            }
+            if (score > alpha) {
+                alpha = score;
+            }
+            if (alpha >= beta) {
+                break;
+            }
+        }
+
+        int bound = (bestScore <= originalAlpha) ? TranspositionTable.UPPER
+            : (bestScore >= beta) ? TranspositionTable.LOWER : TranspositionTable.EXACT;
+        table.store(key, depth, bestScore, bound, bestMove);
+        return bestScore;
+    }
+
+    /**
+     * Searches only the captures of a position, so the evaluation is not taken in the middle of an exchange.
+     *
+     * @param board the position
+     * @param alpha the lower bound of the window
+     * @param beta the upper bound of the window
+     * @param ply the distance from the root
+     * @return the score of the position from the side to move's view
+     */
+    private int quiescence(BoardState board, int alpha, int beta, int ply) {
+        if (checkClock()) {
+            return 0;
+        }
+        int standPat = evaluate(board.getBitBoard(), board.getSideToMove());
+        if (standPat >= beta || ply >= MAX_PLY - 1) {
+            return standPat;
+        }
+        if (standPat > alpha) {
+            alpha = standPat;
+        }
+
+        int[] buffer = moves[ply];
+        int count = MoveGenerator.generateMoves(board, board.getSideToMove(), buffer);
+        orderMoves(board, buffer, scores[ply], count, 0);
+        for (int i = 0; i < count; i++) {
+            if (!MoveGenerator.isCapture(buffer[i])) {
+                break;
+            }
+            int score = searchMove(board, buffer[i], -1, alpha, beta, ply);
+            if (stopped) {
+                return 0;
+            }
+            if (score >= beta) {
+                return score;
+            }
+            if (score > alpha) {
+                alpha = score;
+            }
+        }
+        return alpha;
+    }
+
+    /**
+     * Makes a move, searches the position after it and takes it back.
+     * A capture is searched as a chance node of its two duel outcomes. In the capture search only the
+     * attacker winning is searched, the attacker losing is scored by the evaluation without the attacker.
+     *
+     * @param board the position
+     * @param move the move
+     * @param depth the remaining depth after the move, below 1 for the capture search
+     * @param alpha the lower bound of the window
+     * @param beta the upper bound of the window
+     * @param ply the distance of the position from the root
+     * @return the score of the move from the view of the side making it, a bound if outside the window
+     */
+    private int searchMove(BoardState board, int move, int depth, int alpha, int beta, int ply) {
+        if (!MoveGenerator.isCapture(move)) {
+            board.makeMove(move);
+            int score = -search(board, depth, -beta, -alpha, ply + 1);
+            board.unmakeMove();
+            return score;
+        }
+
+        int from = MoveGenerator.getFrom(move);
+        int to = MoveGenerator.getTo(move);
+        PieceInfo attacker = board.pieces[BitBoard.squareX(from)][BitBoard.squareY(from)];
+        PieceInfo defender = board.pieces[BitBoard.squareX(to)][BitBoard.squareY(to)];
+        int attackerType = attacker.getPieceType().ordinal();
+        int defenderType = defender.getPieceType().ordinal();
+        float chance = duelOdds.getWinChance(attackerType, attacker.getHp(), defenderType, defender.getHp());
+        int attackerHp = duelOdds.getAttackerHp(attackerType, attacker.getHp(), defenderType, defender.getHp());
+        int defenderHp = duelOdds.getDefenderHp(attackerType, attacker.getHp(), defenderType, defender.getHp());
+
+        if (chance >= 1f || chance <= 0f) {
+            board.makeMove(move, chance >= 1f, (chance >= 1f) ? attackerHp : defenderHp);
+            int score = -search(board, depth, -beta, -alpha, ply + 1);
+            board.unmakeMove();
+            return score;
+        }
+
+        double lose = 1.0 - chance;
+        if (depth < 0) {
+            int loseScore = evaluate(board.getBitBoard(), board.getSideToMove()) - PIECE_VALUES[attackerType];
+            int winAlpha = clampWindow(Math.floor((alpha - lose * loseScore) / chance));
+            int winBeta = clampWindow(Math.ceil((beta - lose * loseScore) / chance));
+            board.makeMove(move, true, attackerHp);
+            int winScore = -search(board, depth, -winBeta, -winAlpha, ply + 1);
+            board.unmakeMove();
+            return (int) Math.round(chance * winScore + lose * loseScore);
+        }
+
+        int winAlpha = clampWindow(Math.floor((alpha - lose * EVAL_BOUND) / chance));
+        int winBeta = clampWindow(Math.ceil((beta + lose * EVAL_BOUND) / chance));
+        board.makeMove(move, true, attackerHp);
+        int winScore = -search(board, depth, -winBeta, -winAlpha, ply + 1);
+        board.unmakeMove();
+        if (stopped || winScore >= winBeta) {
+            return beta;
+        }
+        if (winScore <= winAlpha) {
+            return alpha;
+        }
+
+        int loseAlpha = clampWindow(Math.floor((alpha - chance * winScore) / lose));
+        int loseBeta = clampWindow(Math.ceil((beta - chance * winScore) / lose));
+        board.makeMove(move, false, defenderHp);
+        int loseScore = -search(board, depth, -loseBeta, -loseAlpha, ply + 1);
+        board.unmakeMove();
+        return (int) Math.round(chance * winScore + lose * loseScore);
+    }
+
+    /**
+     * Clamps a window bound of a chance node outcome to the score range.
+     *
+     * @param bound the bound
+     * @return the clamped bound
+     */
+    private static int clampWindow(double bound) {
+        return (int) Math.max(-INFINITY, Math.min(bound, INFINITY));
+    }
+
+    /**
+     * Counts a node and checks whether the search has to stop.
+     *
+     * @return true if the search has to stop, false otherwise
+     */
+    private boolean checkClock() {
+        if ((++nodes & (CLOCK_CHECK_INTERVAL - 1)) == 0 && System.nanoTime() - deadline > 0) {
+            stopped = true;
+        }
+        return stopped;
+    }
+
+    /**
+     * Orders moves so the likely best ones are searched first: the hash move, then the captures
+     * by their expected material gain, then the quiet moves.
+     *
+     * @param board the position
+     * @param buffer the moves
+     * @param moveScores the buffer which the ordering scores are written to
+     * @param count the number of moves
+     * @param hashMove the best move stored for the position, or 0
+     */
+    private void orderMoves(BoardState board, int[] buffer, int[] moveScores, int count, int hashMove) {
+        for (int i = 0; i < count; i++) {
+            moveScores[i] = moveScore(board, buffer[i], hashMove);
+        }
+        for (int i = 1; i < count; i++) {
+            int move = buffer[i];
+            int score = moveScores[i];
+            int j = i - 1;
+            while (j >= 0 && moveScores[j] < score) {
+                buffer[j + 1] = buffer[j];
+                moveScores[j + 1] = moveScores[j];
+                j--;
+            }
+            buffer[j + 1] = move;
+            moveScores[j + 1] = score;
+        }
+    }
+
+    /**
+     * Gets the ordering score of a move.
+     * A capture scores the value of the victim weighted by the chance of winning the duel,
+     * minus the value of the attacker weighted by the chance of losing it.
+     *
+     * @param board the position
+     * @param move the move
+     * @param hashMove the best move stored for the position, or 0
+     * @return the ordering score, higher is searched first
+     */
+    private int moveScore(BoardState board, int move, int hashMove) {
+        if (move == hashMove) {
+            return Integer.MAX_VALUE;
+        }
+        if (!MoveGenerator.isCapture(move)) {
+            return 0;
+        }
+        int from = MoveGenerator.getFrom(move);
+        int to = MoveGenerator.getTo(move);
+        PieceInfo attacker = board.pieces[BitBoard.squareX(from)][BitBoard.squareY(from)];
+        PieceInfo defender = board.pieces[BitBoard.squareX(to)][BitBoard.squareY(to)];
+        int attackerType = attacker.getPieceType().ordinal();
+        int defenderType = defender.getPieceType().ordinal();
+        float chance = duelOdds.getWinChance(attackerType, attacker.getHp(), defenderType, defender.getHp());
+        float gain = chance * PIECE_VALUES[defenderType] - (1f - chance) * PIECE_VALUES[attackerType];
+        return Math.max(1, (int) gain + EVAL_BOUND);
+    }
+
+    /**
+     * Evaluates a position by the material of the teams.
+     *
+     * @param board the position
+     * @param team the team whose view the score is from
+     * @return the score, positive if the team is ahead
+     */
+    static int evaluate(BitBoard board, Team team) {
+        int score = 0;
+        for (PieceType pieceType : PIECE_TYPES) {
+            int value = PIECE_VALUES[pieceType.ordinal()];
+            score += value * (Long.bitCount(board.getPieces(Team.WHITE, pieceType))
+                - Long.bitCount(board.getPieces(Team.BLACK, pieceType)));
+        }
+        return (team == Team.WHITE) ? score : -score;
+    }
+}
@@ -0,0 +1,200 @@
+package com.shiroyama.chess2.chessboard.engine;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size transposition table storing search results by position key.
+ * Backed by one preallocated {@code long[]} with a power of two number of entries, so storing
+ * and probing neither allocate nor box.
+ *
+ * <p>Each entry is two longs: the key XOR the data, and the data. The data packs the best move
+ * (bits 0-15), the score (bits 16-47), the depth (bits 48-55), the bound (bits 56-57) and the search
+ * generation (bits 58-63). Reads and writes take no locks; a probe recomputes the key from both
+ * halves, so an entry torn by concurrent writers fails the check and is treated as a miss.
+ */
+public final class TranspositionTable {
+
+    /**
+     * Value of {@link #probe(long)} when the table holds no entry for the key.
+     */
+    public static final long MISS = 0L;
+
+    /**
+     * The score is the exact value of the position.
+     */
+    public static final int EXACT = 1;
+
+    /**
+     * The score is a lower bound, the search failed high.
+     */
+    public static final int LOWER = 2;
+
+    /**
+     * The score is an upper bound, the search failed low.
+     */
+    public static final int UPPER = 3;
+
+    /**
+     * The deepest depth an entry can hold.
+     */
+    public static final int MAX_DEPTH = 255;
+
+    /**
+     * The entries, two longs each.
+     */
+    private final long[] table;
+
+    /**
+     * Mask selecting an entry index from a key.
+     */
+    private final int mask;
+
+    /**
+     * The current search generation, entries of older generations are replaced first.
+     */
+    private volatile int generation;
+
+    /**
+     * Constructor for the class.
+     *
+     * @param sizeMb the memory of the table in megabytes, rounded down to a power of two number of entries
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public TranspositionTable(int sizeMb) {
+        if (sizeMb <= 0) {
+            throw new IllegalArgumentException("Table size must be positive: " + sizeMb);
+        }
+        long entries = Long.highestOneBit(sizeMb * (1024L * 1024L) / 16);
+        entries = Math.min(entries, 1L << 29);
+        table = new long[(int) entries * 2];
+        mask = (int) entries - 1;
+    }
+
+    /**
+     * Gets the number of entries of the table.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Removes every entry.
+     * Must not run concurrently with a search.
+     */
+    public void clear() {
+        Arrays.fill(table, 0L);
+        generation = 0;
+    }
+
+    /**
+     * Starts a new search generation, so the entries of earlier searches are replaced first.
+     */
+    public void newSearch() {
+        generation = (generation + 1) & 63;
+    }
+
+    /**
+     * Looks up the entry of a position.
+     *
+     * @param key the position key
+     * @return the packed data of the entry, or {@link #MISS}
+     */
+    public long probe(long key) {
+        int index = ((int) key & mask) << 1;
+        long data = table[index + 1];
+        long check = table[index];
+        return ((check ^ data) == key && data != MISS) ? data : MISS;
+    }
+
+    /**
+     * Stores the result of a search.
+     * An existing entry of the same position is kept if it is deeper, and an entry of another position
+     * is kept if it is from the current search and deeper.
+     *
+     * @param key the position key
+     * @param depth the searched depth, clamped to {@link #MAX_DEPTH}
+     * @param score the score of the position
+     * @param bound {@link #EXACT}, {@link #LOWER} or {@link #UPPER}
+     * @param move the best move, encoded like {@link com.shiroyama.chess2.chessboard.pieces.MoveGenerator}, or 0
+     */
+    public void store(long key, int depth, int score, int bound, int move) {
+        int index = ((int) key & mask) << 1;
+        long oldData = table[index + 1];
+        long oldKey = table[index] ^ oldData;
+        depth = Math.max(0, Math.min(depth, MAX_DEPTH));
+
+        if (oldData != MISS) {
+            int oldDepth = getDepth(oldData);
+            if (oldKey == key) {
+                if (depth < oldDepth && bound != EXACT) {
+                    return;
+                }
+                if (move == 0) {
+                    move = getMove(oldData);
+                }
+            } else if (getGeneration(oldData) == generation && depth < oldDepth) {
+                return;
+            }
+        }
+
+        long data = (move & 0xFFFFL)
+            | ((score & 0xFFFFFFFFL) << 16)
+            | ((long) depth << 48)
+            | ((long) bound << 56)
+            | ((long) generation << 58);
+        table[index] = key ^ data;
+        table[index + 1] = data;
+    }
+
+    /**
+     * Gets the best move of an entry.
+     *
+     * @param data the entry returned by {@link #probe(long)}
+     * @return the encoded move, or 0 if none was stored
+     */
+    public static int getMove(long data) {
+        return (int) (data & 0xFFFF);
+    }
+
+    /**
+     * Gets the score of an entry.
+     *
+     * @param data the entry returned by {@link #probe(long)}
+     * @return the score
+     */
+    public static int getScore(long data) {
+        return (int) (data >>> 16);
+    }
+
+    /**
+     * Gets the depth of an entry.
+     *
+     * @param data the entry returned by {@link #probe(long)}
+     * @return the depth
+     */
+    public static int getDepth(long data) {
+        return (int) (data >>> 48) & 0xFF;
+    }
+
+    /**
+     * Gets the bound of an entry.
+     *
+     * @param data the entry returned by {@link #probe(long)}
+     * @return {@link #EXACT}, {@link #LOWER} or {@link #UPPER}
+     */
+    public static int getBound(long data) {
+        return (int) (data >>> 56) & 3;
+    }
+
+    /**
+     * Gets the search generation of an entry.
+     *
+     * @param data the entry
+     * @return the generation
+     */
+    private static int getGeneration(long data) {
+        return (int) (data >>> 58);
+    }
+}
@@ -0,0 +1,25 @@
+/**
+ * The com.shiroyama.chess2.chessboard.engine package provides headless tools
+ * that search the move tree of the Chess2 game.
+ *
+ * This package works on {@link com.shiroyama.chess2.chessboard.model.BitBoard} positions
+ * and the moves of {@link com.shiroyama.chess2.chessboard.pieces.MoveGenerator}, so it needs
+ * no textures or rendering and can run outside the game.
+ *
+ * <p>Key components include:
+ * <ul>
+ *   <li>{@link com.shiroyama.chess2.chessboard.engine.Perft} - Counts the nodes of the move tree
+ *       to a fixed depth, for verifying and benchmarking move generation</li>
+ *   <li>{@link com.shiroyama.chess2.chessboard.engine.TranspositionTable} - Lock-free, fixed-size
+ *       table of search results keyed by the position key</li>
+ *   <li>{@link com.shiroyama.chess2.chessboard.engine.SearchEngine} - Iterative deepening alpha-beta
+ *       search finding the best move within a time budget</li>
+ *   <li>{@link com.shiroyama.chess2.chessboard.engine.ComputerPlayer} - Computer opponent running
+ *       the search on a background thread</li>
+ *   <li>{@link com.shiroyama.chess2.chessboard.engine.DuelOdds} - Lookup table of the chance of
+ *       the attacker winning an arena duel, by piece types and HP</li>
+ * </ul>
+ *
+ * @author Vajas Benjámin - shiroyama42
+ */
+package com.shiroyama.chess2.chessboard.engine;
@@ -0,0 +1,277 @@
+package com.shiroyama.chess2.chessboard.model;
+
+import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+import com.shiroyama.chess2.chessboard.pieces.Team;
+
+import java.util.Arrays;
+
+/**
+ * Represents the chess board as packed bitboards.
+ * Holds one {@code long} per team and piece type, the occupancy masks of both teams
+ * and a square-indexed lookup of the piece kinds, so position queries need no allocation.
+ * Square {@code x + 8 * y} maps to the same field as {@code pieces[x][y]} in {@link ChessBoard}.
+ */
+public class BitBoard {
+
+    /**
+     * The number of distinct piece kinds (team and piece type combinations).
+     */
+    public static final int PIECE_KINDS = 12;
+
+    /**
+     * Value of {@link #getPieceKind(int)} for an empty square.
+     */
+    public static final int EMPTY = -1;
+
+    /**
+     * Cached {@link PieceType} values, so decoding a piece kind does not copy the array.
+     */
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    /**
+     * Bitboards of the pieces, indexed by {@link #pieceKind(Team, PieceType)}.
+     */
+    private final long[] pieces;
+
+    /**
+     * Occupancy masks of the teams, indexed by {@link Team#ordinal()}.
+     */
+    private final long[] teams;
+
+    /**
+     * Occupancy mask of every piece on the board.
+     */
+    private long occupied;
+
+    /**
+     * Piece kind on each square, or {@link #EMPTY}.
+     */
+    private final byte[] squares;
+
+    /**
+     * Constructor for the class.
+     * Creates an empty board.
+     */
+    public BitBoard() {
+        pieces = new long[PIECE_KINDS];
+        teams = new long[2];
+        squares = new byte[64];
+        Arrays.fill(squares, (byte) EMPTY);
+    }
+
+    /**
+     * Gets the piece kind index for a team and piece type.
+     *
+     * @param team the {@link Team} of the piece
+     * @param pieceType the {@link PieceType} of the piece
+     * @return the piece kind, between 0 and {@link #PIECE_KINDS} - 1
+     */
+    public static int pieceKind(Team team, PieceType pieceType) {
+        return team.ordinal() * 6 + pieceType.ordinal();
+    }
+
+    /**
+     * Gets the square index of board coordinates.
+     *
+     * @param x the column of the square
+     * @param y the row of the square
+     * @return the square index, between 0 and 63
+     */
+    public static int square(int x, int y) {
+        return (y << 3) | x;
+    }
+
+    /**
+     * Gets the square index of a point on the board.
+     *
+     * @param point the board coordinates
+     * @return the square index, between 0 and 63
+     */
+    public static int square(TargetPoint point) {
+        return square((int) point.getX(), (int) point.getY());
+    }
+
+    /**
+     * Gets the column of a square.
+     *
+     * @param square the square index
+     * @return the x-coordinate of the square
+     */
+    public static int squareX(int square) {
+        return square & 7;
+    }
+
+    /**
+     * Gets the row of a square.
+     *
+     * @param square the square index
+     * @return the y-coordinate of the square
+     */
+    public static int squareY(int square) {
+        return square >>> 3;
+    }
+
+    /**
+     * Gets the {@link Team} of a piece kind.
+     *
+     * @param pieceKind the piece kind
+     * @return the team
+     */
+    public static Team teamOf(int pieceKind) {
+        return pieceKind < 6 ? Team.WHITE : Team.BLACK;
+    }
+
+    /**
+     * Gets the {@link PieceType} of a piece kind.
+     *
+     * @param pieceKind the piece kind
+     * @return the piece type
+     */
+    public static PieceType typeOf(int pieceKind) {
+        return PIECE_TYPES[pieceKind % 6];
+    }
+
+    /**
+     * Removes every piece from the board.
+     */
+    public void clear() {
+        Arrays.fill(pieces, 0L);
+        Arrays.fill(teams, 0L);
+        occupied = 0L;
+        Arrays.fill(squares, (byte) EMPTY);
+    }
+
+    /**
+     * Replaces the content of the board with the pieces of an 8x8 grid.
+     *
+     * @param grid the pieces indexed by column and row, null for an empty square
+     */
+    public void load(PieceInfo[][] grid) {
+        clear();
+        for (int x = 0; x < 8; x++) {
+            for (int y = 0; y < 8; y++) {
+                PieceInfo piece = grid[x][y];
+                if (piece != null) {
+                    addPiece(pieceKind(piece.getTeam(), piece.getPieceType()), square(x, y));
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies the content of another board into this one.
+     *
+     * @param other the board to copy
+     */
+    public void copyFrom(BitBoard other) {
+        System.arraycopy(other.pieces, 0, pieces, 0, PIECE_KINDS);
+        System.arraycopy(other.teams, 0, teams, 0, 2);
+        System.arraycopy(other.squares, 0, squares, 0, 64);
+        occupied = other.occupied;
+    }
+
+    /**
+     * Places a piece on an empty square.
+     *
+     * @param pieceKind the piece kind to place
+     * @param square the target square
+     */
+    public void addPiece(int pieceKind, int square) {
+        long bit = 1L << square;
+        pieces[pieceKind] |= bit;
+        teams[pieceKind / 6] |= bit;
+        occupied |= bit;
+        squares[square] = (byte) pieceKind;
+    }
+
+    /**
+     * Removes a piece from a square.
+     *
+     * @param pieceKind the piece kind on the square
+     * @param square the square to clear
+     */
+    public void removePiece(int pieceKind, int square) {
+        long bit = ~(1L << square);
+        pieces[pieceKind] &= bit;
+        teams[pieceKind / 6] &= bit;
+        occupied &= bit;
+        squares[square] = (byte) EMPTY;
+    }
+
+    /**
+     * Moves a piece to an empty square.
+     *
+     * @param pieceKind the piece kind to move
+     * @param from the square the piece stands on
+     * @param to the target square
+     */
+    public void movePiece(int pieceKind, int from, int to) {
+        long bits = (1L << from) | (1L << to);
+        pieces[pieceKind] ^= bits;
+        teams[pieceKind / 6] ^= bits;
+        occupied ^= bits;
+        squares[from] = (byte) EMPTY;
+        squares[to] = (byte) pieceKind;
+    }
+
+    /**
+     * Gets the piece kind standing on a square.
+     *
+     * @param square the square index
+     * @return the piece kind, or {@link #EMPTY} if the square is empty
+     */
+    public int getPieceKind(int square) {
+        return squares[square];
+    }
+
+    /**
+     * Checks whether a square is occupied.
+     *
+     * @param square the square index
+     * @return true if a piece stands on the square, false otherwise
+     */
+    public boolean isOccupied(int square) {
+        return (occupied & (1L << square)) != 0;
+    }
+
+    /**
+     * Gets the bitboard of a piece kind.
+     *
+     * @param pieceKind the piece kind
+     * @return the squares occupied by that kind
+     */
+    public long getPieces(int pieceKind) {
+        return pieces[pieceKind];
+    }
+
+    /**
+     * Gets the bitboard of a team's pieces of one type.
+     *
+     * @param team the {@link Team} of the pieces
+     * @param pieceType the {@link PieceType} of the pieces
+     * @return the squares occupied by those pieces
+     */
+    public long getPieces(Team team, PieceType pieceType) {
+        return pieces[pieceKind(team, pieceType)];
+    }
+
+    /**
+     * Gets the occupancy mask of a team.
+     *
+     * @param team the {@link Team}
+     * @return the squares occupied by the team
+     */
+    public long getOccupancy(Team team) {
+        return teams[team.ordinal()];
+    }
+
+    /**
+     * Gets the occupancy mask of both teams.
+     *
+     * @return the occupied squares
+     */
+    public long getOccupancy() {
+        return occupied;
+    }
+}
@@ -0,0 +1,661 @@
+package com.shiroyama.chess2.chessboard.model;
+
+import com.shiroyama.chess2.chessboard.pieces.MoveGenerator;
+import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+import com.shiroyama.chess2.chessboard.pieces.Team;
+import com.shiroyama.chess2.chessboard.utils.AttackListener;
+import com.shiroyama.chess2.chessboard.utils.DuelResolver;
+import com.shiroyama.chess2.chessboard.utils.PromotionListener;
+import com.shiroyama.chess2.utils.GameEventSink;
+import com.shiroyama.chess2.utils.ScoreBoardManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Represents the game state of the chess board without any rendering.
+ * Manages the pieces, piece movement, attacks and promotions, and needs no libGDX runtime,
+ * so it can be created and used outside the game, e.g. in tests and simulations.
+ * Pieces created by this class use the default stats of {@link PieceInfo}.
+ */
+public class BoardState {
+
+    /**
+     * The number of moves {@link #makeMove(int)} can keep for {@link #unmakeMove()}.
+     */
+    public static final int MAX_UNDO = 256;
+
+    /**
+     * Value of the HP parameter of {@link #makeMove(int, boolean, int)} which leaves the HP of the winner unchanged.
+     */
+    public static final int KEEP_HP = -1;
+
+    /**
+     * 2D array representing the pieces on the board.
+     */
+    public PieceInfo[][] pieces;
+
+    /**
+     * Packed {@link BitBoard} mirror of {@link #pieces}, kept in sync by every board mutation.
+     */
+    private final BitBoard bitBoard;
+
+    /**
+     * The position of white king on the board.
+     */
+    private TargetPoint whiteKing;
+
+    /**
+     * The position of black king on the board.
+     */
+    private TargetPoint blackKing;
+
+    /**
+     * The team to move.
+     */
+    private Team sideToMove = Team.WHITE;
+
+    /**
+     * Zobrist key of the position, updated with every change of the pieces, their HP and the side to move.
+     */
+    private long hash;
+
+    /**
+     * The HP bucket each occupied square was hashed with, so a piece can be removed from the key
+     * even after its HP changed outside the board, e.g. in the arena.
+     */
+    private final byte[] hpBuckets = new byte[64];
+
+    /**
+     * {@link ScoreBoardManager} for tracking game scores, or null if the scores are not tracked.
+     */
+    private ScoreBoardManager scoreBoardManager;
+
+    /**
+     * Flag indicating if the pawn promotion is in progress.
+     */
+    private boolean isPromoting = false;
+
+    /**
+     * The team which captured the other team's king, or null while the game is on.
+     */
+    private Team winningTeam;
+
+    /**
+     * One point per square, used as the position of a piece moved by {@link #makeMove(int)} so moving does not allocate.
+     */
+    private final TargetPoint[] squarePoints;
+
+    /**
+     * The undo stack of {@link #makeMove(int, boolean, int)}, one entry per made move.
+     * Holds the move, the moving and the attacked piece, and the state of both pieces before the move.
+     */
+    private final int[] undoMoves = new int[MAX_UNDO];
+    private final PieceInfo[] undoMovers = new PieceInfo[MAX_UNDO];
+    private final PieceInfo[] undoTargets = new PieceInfo[MAX_UNDO];
+    private final TargetPoint[] undoPositions = new TargetPoint[MAX_UNDO];
+    private final PieceType[] undoTypes = new PieceType[MAX_UNDO];
+    private final int[] undoMoverHp = new int[MAX_UNDO];
+    private final int[] undoTargetHp = new int[MAX_UNDO];
+    private final boolean[] undoAttackerWins = new boolean[MAX_UNDO];
+
+    /**
+     * The number of entries on the undo stack.
+     */
+    private int undoCount;
+
+    /**
+     * {@link Logger} for logging errors of the moves.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(BoardState.class);
+
+    /**
+     * {@link GameEventSink} for recording piece movement, promotion and attack.
+     */
+    private static final GameEventSink events = GameEventSink.getInstance();
+
+    /**
+     * Constructor for the class.
+     * Places the pieces in their starting positions.
+     */
+    public BoardState() {
+        pieces = new PieceInfo[8][8];
+        bitBoard = new BitBoard();
+        squarePoints = new TargetPoint[64];
+        for (int square = 0; square < 64; square++) {
+            squarePoints[square] = new TargetPoint(BitBoard.squareX(square), BitBoard.squareY(square));
+        }
+        initializePieces();
+        syncBitBoard();
+
+        whiteKing = new TargetPoint(3, 7);
+        blackKing = new TargetPoint(3, 0);
+    }
+
+    /**
+     * Copy constructor.
+     * Copies the pieces with their stats and the side to move, but no listeners, scoreboard or undo history,
+     * so the copy can be searched on another thread without affecting the original.
+     *
+     * @param other the board to copy
+     */
+    public BoardState(BoardState other) {
+        pieces = new PieceInfo[8][8];
+        bitBoard = new BitBoard();
+        squarePoints = new TargetPoint[64];
+        for (int square = 0; square < 64; square++) {
+            squarePoints[square] = new TargetPoint(BitBoard.squareX(square), BitBoard.squareY(square));
+        }
+        for (int x = 0; x < 8; x++) {
+            for (int y = 0; y < 8; y++) {
+                PieceInfo piece = other.pieces[x][y];
+                if (piece != null) {
+                    pieces[x][y] = new PieceInfo(piece.getTeam(), piece.getPieceType(), new TargetPoint(x, y),
+                        piece.getHp(), piece.getAttackRate());
+                }
+            }
+        }
+        sideToMove = other.sideToMove;
+        syncBitBoard();
+    }
+
+    /**
+     * Creates a piece for the starting position.
+     * Called from the constructor, so overriding methods must not rely on the fields of the subclass.
+     *
+     * @param team the {@link Team} of the piece
+     * @param pieceType the {@link PieceType} of the piece
+     * @param position the starting position of the piece
+     * @return the new piece, with the default stats of its type
+     */
+    protected PieceInfo createPiece(Team team, PieceType pieceType, TargetPoint position) {
+        return new PieceInfo(team, pieceType, position,
+            PieceInfo.getDefaultHp(pieceType), PieceInfo.getDefaultAttackRate(pieceType));
+    }
+
+    /**
+     * Initializes the chess pieces in their starting positions.
+     */
+    private void initializePieces(){
+
+        // Black pieces
+        pieces[0][0] = createPiece(Team.BLACK, PieceType.ROOK, new TargetPoint(0, 0));
+        pieces[1][0] = createPiece(Team.BLACK, PieceType.KNIGHT, new TargetPoint(1, 0));
+        pieces[2][0] = createPiece(Team.BLACK, PieceType.BISHOP, new TargetPoint(2, 0));
+        pieces[3][0] = createPiece(Team.BLACK, PieceType.KING, new TargetPoint(3, 0));
+        pieces[4][0] = createPiece(Team.BLACK, PieceType.QUEEN, new TargetPoint(4, 0));
+        pieces[5][0] = createPiece(Team.BLACK, PieceType.BISHOP, new TargetPoint(5, 0));
+        pieces[6][0] = createPiece(Team.BLACK, PieceType.KNIGHT, new TargetPoint(6, 0));
+        pieces[7][0] = createPiece(Team.BLACK, PieceType.ROOK, new TargetPoint(7, 0));
+        for (int i = 0; i < 8; i++) {
+            pieces[i][1] = createPiece(Team.BLACK, PieceType.PAWN, new TargetPoint(i, 1));
+        }
+
+        // White pieces
+        pieces[0][7] = createPiece(Team.WHITE, PieceType.ROOK, new TargetPoint(0, 7));
+        pieces[1][7] = createPiece(Team.WHITE, PieceType.KNIGHT, new TargetPoint(1, 7));
+        pieces[2][7] = createPiece(Team.WHITE, PieceType.BISHOP, new TargetPoint(2, 7));
+        pieces[3][7] = createPiece(Team.WHITE, PieceType.KING, new TargetPoint(3, 7));
+        pieces[4][7] = createPiece(Team.WHITE, PieceType.QUEEN, new TargetPoint(4, 7));
+        pieces[5][7] = createPiece(Team.WHITE, PieceType.BISHOP, new TargetPoint(5, 7));
+        pieces[6][7] = createPiece(Team.WHITE, PieceType.KNIGHT, new TargetPoint(6, 7));
+        pieces[7][7] = createPiece(Team.WHITE, PieceType.ROOK, new TargetPoint(7, 7));
+        for (int i = 0; i < 8; i++) {
+            pieces[i][6] = createPiece(Team.WHITE, PieceType.PAWN, new TargetPoint(i, 6));
+        }
+    }
+
+    /**
+     * Gets the piece in a specified location.
+     *
+     * @param location the target location on the board
+     * @return the piece at the location, or null if no piece exists there
+     */
+    public PieceInfo getPiece(TargetPoint location){
+        if(!isInBounds(location)){
+            return null;
+        }
+        return pieces[(int)location.getX()][(int)location.getY()];
+    }
+
+    /**
+     * Moves a piece from one location to the other.
+     * Handles captures, promotions and updates the score.
+     * Logs movement, attack and promoting.
+     *
+     * @param from the starting location of the piece
+     * @param to the destination location for the piece
+     */
+    public void movePiece(TargetPoint from, TargetPoint to){
+
+        PieceInfo piece = pieces[(int)from.getX()][(int)from.getY()];
+        if (piece == null) {
+            logger.error("Error: No piece at {}, {}.", from.getX(), from.getY());
+            return;
+        }
+        PieceInfo target = pieces[(int)to.getX()][(int)to.getY()];
+
+        if (scoreBoardManager != null){
+            scoreBoardManager.addMoveCount();
+        }
+
+        if (target != null && duelResolver != null){
+
+            events.move(piece, from, to);
+
+            PieceInfo winner = duelResolver.resolve(piece, target);
+            PieceInfo loser = (winner == piece) ? target : piece;
+            events.duel(piece, target, winner == piece);
+
+            if (scoreBoardManager != null){
+                scoreBoardManager.recordCapture(loser, winner.getTeam());
+            }
+            resolveAttack(from, to, winner);
+
+            if (loser.getPieceType() == PieceType.KING){
+                winningTeam = winner.getTeam();
+                events.kingDefeated(loser, winningTeam);
+            }else if (winner == piece){
+                checkPromotion(piece);
+            }
+
+        }else if (target != null && attackListener != null){
+
+            piece.setPosition(from);
+            target.setPosition(to);
+
+            events.move(piece, from, to);
+
+            attackListener.onAttack(piece, target);
+            events.attack(piece, target);
+
+        }else{
+            if (target != null){
+                removeFromBoard(target, BitBoard.square(to));
+            }
+            removeFromBoard(piece, BitBoard.square(from));
+            addToBoard(piece, BitBoard.square(to));
+
+            pieces[(int)to.getX()][(int)to.getY()] = piece;
+            pieces[(int)to.getX()][(int)to.getY()].setPosition(to);
+            pieces[(int)from.getX()][(int)from.getY()] = null;
+
+            events.move(piece, from, to);
+
+            checkPromotion(piece);
+        }
+    }
+
+    /**
+     * Starts the promotion of a piece if it is a pawn that reached the last row.
+     *
+     * @param piece the piece that moved
+     */
+    private void checkPromotion(PieceInfo piece){
+        if (piece.getPieceType() == PieceType.PAWN && piece.getTeam() == Team.WHITE && piece.getPosition().getY() == 0){
+            onPromote(piece);
+        }
+
+        if (piece.getPieceType() == PieceType.PAWN && piece.getTeam() == Team.BLACK && piece.getPosition().getY() == 7){
+            onPromote(piece);
+        }
+    }
+
+    /**
+     * Notifies the {@link PromotionListener} that a pawn reached the last row.
+     *
+     * @param piece the promoting pawn
+     */
+    private void onPromote(PieceInfo piece){
+        if (promotionListener != null){
+            promotionListener.onPromote(piece);
+            events.promotion(piece);
+        }
+    }
+
+    /**
+     * Applies the result of an arena combat to the board.
+     * The attacker leaves its square and the winner takes the defender's square.
+     *
+     * @param attackerFrom the square the attacker started from
+     * @param defenderAt the square of the defender
+     * @param winner the piece that won the combat, or null if neither piece survived
+     */
+    public void resolveAttack(TargetPoint attackerFrom, TargetPoint defenderAt, PieceInfo winner){
+        PieceInfo attacker = getPiece(attackerFrom);
+        PieceInfo defender = getPiece(defenderAt);
+        int from = BitBoard.square(attackerFrom);
+        int to = BitBoard.square(defenderAt);
+
+        if (attacker != null){
+            removeFromBoard(attacker, from);
+        }
+        pieces[(int)attackerFrom.getX()][(int)attackerFrom.getY()] = null;
+
+        if (winner != null){
+            if (defender != null){
+                removeFromBoard(defender, to);
+            }
+            addToBoard(winner, to);
+            pieces[(int)defenderAt.getX()][(int)defenderAt.getY()] = winner;
+            winner.setPosition(defenderAt);
+        }
+    }
+
+    /**
+     * Changes the type of a piece standing on the board, used when a pawn is promoted.
+     *
+     * @param piece the piece to promote
+     * @param newType the new {@link PieceType} of the piece
+     */
+    public void promotePiece(PieceInfo piece, PieceType newType){
+        int square = BitBoard.square(piece.getPosition());
+        removeFromBoard(piece, square);
+        piece.setPieceType(newType);
+        addToBoard(piece, square);
+    }
+
+    /**
+     * Makes a move silently, an attacked piece losing the combat.
+     * Equivalent to {@code makeMove(move, true, KEEP_HP)}.
+     *
+     * @param move the move, encoded like {@link MoveGenerator#encode(int, int, int)}
+     */
+    public void makeMove(int move){
+        makeMove(move, true, KEEP_HP);
+    }
+
+    /**
+     * Makes a move silently, so it can be taken back with {@link #unmakeMove()}.
+     * Unlike {@link #movePiece(TargetPoint, TargetPoint)} it fires no listeners, logs nothing,
+     * does not count the move on the scoreboard and does not allocate.
+     *
+     * <p>If the target square holds a piece, the combat is resolved by the parameters:
+     * the winner ends up on the target square, or the defender keeps it, and the loser leaves the board.
+     * A promotion in the move is applied when the moving piece reaches the target square.
+     * The turn passes to the opponent of the moving piece.
+     *
+     * @param move the move, encoded like {@link MoveGenerator#encode(int, int, int)}
+     * @param attackerWins true if the moving piece wins a combat, false if the attacked piece does
+     * @param winnerHp the HP of the winner of a combat, or {@link #KEEP_HP}
+     * @throws IllegalStateException if {@link #MAX_UNDO} moves are already made
+     * @throws IllegalArgumentException if the start square of the move is empty
+     */
+    public void makeMove(int move, boolean attackerWins, int winnerHp){
+        if (undoCount == MAX_UNDO) {
+            throw new IllegalStateException("Cannot make more than " + MAX_UNDO + " moves");
+        }
+        int from = MoveGenerator.getFrom(move);
+        int to = MoveGenerator.getTo(move);
+        PieceInfo mover = pieces[BitBoard.squareX(from)][BitBoard.squareY(from)];
+        PieceInfo target = pieces[BitBoard.squareX(to)][BitBoard.squareY(to)];
+        if (mover == null) {
+            throw new IllegalArgumentException("No piece on square " + from);
+        }
+
+        int index = undoCount++;
+        undoMoves[index] = move;
+        undoMovers[index] = mover;
+        undoTargets[index] = target;
+        undoPositions[index] = mover.getPosition();
+        undoTypes[index] = mover.getPieceType();
+        undoMoverHp[index] = mover.getHp();
+        undoTargetHp[index] = (target != null) ? target.getHp() : 0;
+        undoAttackerWins[index] = attackerWins;
+
+        removeFromBoard(mover, from);
+        pieces[BitBoard.squareX(from)][BitBoard.squareY(from)] = null;
+        if (target == null || attackerWins) {
+            if (target != null) {
+                removeFromBoard(target, to);
+                if (winnerHp != KEEP_HP) {
+                    mover.setHp(winnerHp);
+                }
+            }
+            PieceType promotion = MoveGenerator.getPromotion(move);
+            if (promotion != null) {
+                mover.setPieceType(promotion);
+            }
+            addToBoard(mover, to);
+            pieces[BitBoard.squareX(to)][BitBoard.squareY(to)] = mover;
+            mover.setPosition(squarePoints[to]);
+        } else if (winnerHp != KEEP_HP) {
+            updateHp(target, to, winnerHp);
+        }
+        setSideToMove((mover.getTeam() == Team.WHITE) ? Team.BLACK : Team.WHITE);
+    }
+
+    /**
+     * Takes back the last move made by {@link #makeMove(int, boolean, int)},
+     * restoring the pieces, their types, positions, HP and the side to move exactly.
+     *
+     * @throws IllegalStateException if there is no move to take back
+     */
+    public void unmakeMove(){
+        if (undoCount == 0) {
+            throw new IllegalStateException("No move to unmake");
+        }
+        int index = --undoCount;
+        int move = undoMoves[index];
+        int from = MoveGenerator.getFrom(move);
+        int to = MoveGenerator.getTo(move);
+        PieceInfo mover = undoMovers[index];
+        PieceInfo target = undoTargets[index];
+
+        if (target == null || undoAttackerWins[index]) {
+            removeFromBoard(mover, to);
+            pieces[BitBoard.squareX(to)][BitBoard.squareY(to)] = target;
+            if (target != null) {
+                target.setHp(undoTargetHp[index]);
+                addToBoard(target, to);
+            }
+        } else {
+            updateHp(target, to, undoTargetHp[index]);
+        }
+        mover.setPieceType(undoTypes[index]);
+        mover.setHp(undoMoverHp[index]);
+        addToBoard(mover, from);
+        pieces[BitBoard.squareX(from)][BitBoard.squareY(from)] = mover;
+        mover.setPosition(undoPositions[index]);
+        setSideToMove(mover.getTeam());
+
+        undoMovers[index] = null;
+        undoTargets[index] = null;
+        undoPositions[index] = null;
+    }
+
+    /**
+     * Gets the number of moves that can be taken back with {@link #unmakeMove()}.
+     *
+     * @return the number of made moves
+     */
+    public int getUndoCount(){
+        return undoCount;
+    }
+
+    /**
+     * Places a piece on the {@link BitBoard} and adds it with its current HP to the key.
+     *
+     * @param piece the piece
+     * @param square the square of the piece
+     */
+    private void addToBoard(PieceInfo piece, int square){
+        int pieceKind = BitBoard.pieceKind(piece.getTeam(), piece.getPieceType());
+        int hpBucket = Zobrist.hpBucket(piece.getHp());
+        bitBoard.addPiece(pieceKind, square);
+        hpBuckets[square] = (byte) hpBucket;
+        hash ^= Zobrist.pieceKey(pieceKind, square) ^ Zobrist.hpKey(hpBucket, square);
+    }
+
+    /**
+     * Removes a piece from the {@link BitBoard} and from the key, with the HP it was added with.
+     *
+     * @param piece the piece, with the type it was added with
+     * @param square the square of the piece
+     */
+    private void removeFromBoard(PieceInfo piece, int square){
+        int pieceKind = BitBoard.pieceKind(piece.getTeam(), piece.getPieceType());
+        bitBoard.removePiece(pieceKind, square);
+        hash ^= Zobrist.pieceKey(pieceKind, square) ^ Zobrist.hpKey(hpBuckets[square], square);
+    }
+
+    /**
+     * Changes the HP of a piece standing on the board and updates the key.
+     *
+     * @param piece the piece
+     * @param square the square of the piece
+     * @param hp the new HP
+     */
+    private void updateHp(PieceInfo piece, int square, int hp){
+        int hpBucket = Zobrist.hpBucket(hp);
+        piece.setHp(hp);
+        hash ^= Zobrist.hpKey(hpBuckets[square], square) ^ Zobrist.hpKey(hpBucket, square);
+        hpBuckets[square] = (byte) hpBucket;
+    }
+
+    /**
+     * Rebuilds the {@link BitBoard} and the key from {@link #pieces}.
+     * Needed only after writing to {@link #pieces} directly instead of through the board's methods.
+     */
+    public void syncBitBoard(){
+        bitBoard.clear();
+        hash = (sideToMove == Team.BLACK) ? Zobrist.sideKey() : 0L;
+        for (int x = 0; x < 8; x++) {
+            for (int y = 0; y < 8; y++) {
+                if (pieces[x][y] != null) {
+                    addToBoard(pieces[x][y], BitBoard.square(x, y));
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the Zobrist key of the position.
+     * Covers the pieces, their HP buckets as they were when placed or last updated on the board, and the side to move.
+     *
+     * @return the 64-bit position key
+     */
+    public long getHash(){
+        return hash;
+    }
+
+    /**
+     * Gets the team to move.
+     *
+     * @return the side to move
+     */
+    public Team getSideToMove(){
+        return sideToMove;
+    }
+
+    /**
+     * Sets the team to move and updates the key.
+     *
+     * @param team the new side to move
+     */
+    public void setSideToMove(Team team){
+        if (team != sideToMove) {
+            hash ^= Zobrist.sideKey();
+            sideToMove = team;
+        }
+    }
+
+    /**
+     * Gets the packed {@link BitBoard} representation of the board.
+     *
+     * @return the bitboard kept in sync with {@link #pieces}
+     */
+    public BitBoard getBitBoard(){
+        return bitBoard;
+    }
+
+    /**
+     * Checks if the location is within the bounds of the chess board.
+     *
+     * @param location the location to check
+     * @return true if the location is on the board, false otherwise
+     */
+    public boolean isInBounds(TargetPoint location){
+        return location.getX() < 8 && location.getX() >= 0 && location.getY() < 8 && location.getY() >= 0;
+    }
+
+    /**
+     * Sets the {@link ScoreBoardManager} which the moves are counted in.
+     *
+     * @param scoreBoardManager the scoreboard, or null to stop tracking the scores
+     */
+    public void setScoreBoardManager(ScoreBoardManager scoreBoardManager){
+        this.scoreBoardManager = scoreBoardManager;
+    }
+
+    private AttackListener attackListener;
+
+    /**
+     * Sets a {@link AttackListener} for attack events.
+     * Without a listener an attacked piece is captured immediately.
+     *
+     * @param listener the attack listener to set
+     */
+    public void setOnAttackListener(AttackListener listener){
+        this.attackListener = listener;
+    }
+
+    private DuelResolver duelResolver;
+
+    /**
+     * Sets a {@link DuelResolver} which decides captures at once.
+     * While a resolver is set, captures do not notify the {@link AttackListener}.
+     *
+     * @param resolver the duel resolver, or null to let the attack listener start the combats
+     */
+    public void setDuelResolver(DuelResolver resolver){
+        this.duelResolver = resolver;
+    }
+
+    /**
+     * Checks whether a king was captured by a capture the {@link DuelResolver} decided.
+     *
+     * @return true if the game is over, false otherwise
+     */
+    public boolean isGameOver(){
+        return winningTeam != null;
+    }
+
+    /**
+     * Gets the team which captured the other team's king in a capture the {@link DuelResolver} decided.
+     *
+     * @return the winning team, or null if the game is not over
+     */
+    public Team getWinningTeam(){
+        return winningTeam;
+    }
+
+    private PromotionListener promotionListener;
+
+    /**
+     * Sets a {@link PromotionListener} for promotion events.
+     *
+     * @param listener the promotion listener to set
+     */
+    public void setPromotionListener(PromotionListener listener){
+        this.promotionListener = listener;
+    }
+
+    /**
+     * Check if the pawn promotion is in progress.
+     *
+     * @return true if the promotion is in progress, false otherwise
+     */
+    public boolean isPromoting() {
+        return isPromoting;
+    }
+
+    /**
+     * Sets the promotion state.
+     *
+     * @param promoting true to indicate if the promotion is in progress, false otherwise
+     */
+    public void setPromoting(boolean promoting) {
+        isPromoting = promoting;
+    }
+}
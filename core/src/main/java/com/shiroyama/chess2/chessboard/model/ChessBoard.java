@@ -4,28 +4,23 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.shiroyama.chess2.chessboard.controller.IntRect;
 import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
 import com.shiroyama.chess2.chessboard.pieces.PieceType;
 import com.shiroyama.chess2.chessboard.pieces.Team;
-import com.shiroyama.chess2.chessboard.utils.AttackListener;
-import com.shiroyama.chess2.chessboard.utils.PromotionListener;
 import com.shiroyama.chess2.utils.ScoreBoardManager;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.shiroyama.chess2.utils.TextureLoader;
 
 import java.util.HashMap;
 
 /**
- * Represents the chess board with pieces and game logic.
- * Manages board state, piece movement, attacks and promotions.
+ * Represents the chess board drawn on the screen.
+ * Adds the textures and the screen geometry to the game state of {@link BoardState},
+ * and creates its pieces with the stats of the configuration file.
  */
-public class ChessBoard {
-
-    /**
-     * 2D array representing the pieces on the board.
-     */
-    public PieceInfo[][] pieces;
+public class ChessBoard extends BoardState {
 
     /**
      * The size of the board in pixels.
@@ -43,34 +38,19 @@ public class ChessBoard {
     private Texture boardTexture;
 
     /**
-     * {@link HashMap} of piece textures indexed by piece name.
-     */
-    private final HashMap<String, Texture> textures;
-
-    /**
-     * The position of white king on the board.
-     */
-    private TargetPoint whiteKing;
-
-    /**
-     * The position of black king on the board.
-     */
-    private TargetPoint blackKing;
-
-    /**
-     * {@link ScoreBoardManager} for tracking game scores.
+     * {@link HashMap} of piece texture regions indexed by piece name.
      */
-    private ScoreBoardManager scoreBoardManager;
+    private final HashMap<String, TextureRegion> regions;
 
     /**
-     * Flag indicating if the pawn promotion is in progress.
+     * A white texel of the atlas the squares are tinted from, or null if the board is drawn from {@link #boardTexture}.
      */
-    private boolean isPromoting = false;
+    private final TextureRegion whitePixel;
 
     /**
-     * {@link Logger} for logging piece movement, promotion and attack.
+     * The colors of the light and the dark squares.
      */
-    private static final Logger logger = LoggerFactory.getLogger(ChessBoard.class);
+    private static final Color LIGHT_SQUARE = Color.WHITE, DARK_SQUARE = Color.DARK_GRAY;
 
     /**
      * Constructor for the class.
@@ -79,49 +59,52 @@ public class ChessBoard {
      * @param textures {@link HashMap} containing {@link Texture} for each chess piece
      */
     public ChessBoard(int size, HashMap<String, Texture> textures) {
+        super();
         this.size = size;
         squareSize = size / 8;
-        this.textures = textures;
-
-        pieces = new PieceInfo[8][8];
-        initializePieces();
-
-        whiteKing = new TargetPoint(3, 7);
-        blackKing = new TargetPoint(3, 0);
+        this.regions = new HashMap<>();
+        for (HashMap.Entry<String, Texture> entry : textures.entrySet()) {
+            regions.put(entry.getKey(), new TextureRegion(entry.getValue()));
+        }
+        this.whitePixel = null;
 
-        this.scoreBoardManager = ScoreBoardManager.getInstance();
+        setScoreBoardManager(ScoreBoardManager.getInstance());
     }
 
     /**
-     * Initializes the chess pieces in their starting positions.
+     * Constructor for the class, drawing the board and the pieces from one {@link TextureAtlas},
+     * so the whole board is drawn without switching textures.
+     *
+     * @param size the size of the board in pixels
+     * @param atlas the atlas packed by {@code gradlew :core:packTextures}
      */
-    private void initializePieces(){
-
-        // Black pieces
-        pieces[0][0] = new PieceInfo(Team.BLACK, PieceType.ROOK, new TargetPoint(0, 0));
-        pieces[1][0] = new PieceInfo(Team.BLACK, PieceType.KNIGHT, new TargetPoint(1, 0));
-        pieces[2][0] = new PieceInfo(Team.BLACK, PieceType.BISHOP, new TargetPoint(2, 0));
-        pieces[3][0] = new PieceInfo(Team.BLACK, PieceType.KING, new TargetPoint(3, 0));
-        pieces[4][0] = new PieceInfo(Team.BLACK, PieceType.QUEEN, new TargetPoint(4, 0));
-        pieces[5][0] = new PieceInfo(Team.BLACK, PieceType.BISHOP, new TargetPoint(5, 0));
-        pieces[6][0] = new PieceInfo(Team.BLACK, PieceType.KNIGHT, new TargetPoint(6, 0));
-        pieces[7][0] = new PieceInfo(Team.BLACK, PieceType.ROOK, new TargetPoint(7, 0));
-        for (int i = 0; i < 8; i++) {
-            pieces[i][1] = new PieceInfo(Team.BLACK, PieceType.PAWN, new TargetPoint(i, 1));
+    public ChessBoard(int size, TextureAtlas atlas) {
+        super();
+        this.size = size;
+        squareSize = size / 8;
+        this.regions = new HashMap<>();
+        for (Team team : Team.values()) {
+            for (PieceType pieceType : PieceType.values()) {
+                String name = ((team == Team.WHITE) ? "white" : "black") + "-" + pieceType.toString().toLowerCase();
+                regions.put(name, atlas.findRegion(TextureLoader.PIECE_REGION_PREFIX + name));
+            }
         }
+        this.whitePixel = TextureLoader.findWhitePixel(atlas);
 
-        // White pieces
-        pieces[0][7] = new PieceInfo(Team.WHITE, PieceType.ROOK, new TargetPoint(0, 7));
-        pieces[1][7] = new PieceInfo(Team.WHITE, PieceType.KNIGHT, new TargetPoint(1, 7));
-        pieces[2][7] = new PieceInfo(Team.WHITE, PieceType.BISHOP, new TargetPoint(2, 7));
-        pieces[3][7] = new PieceInfo(Team.WHITE, PieceType.KING, new TargetPoint(3, 7));
-        pieces[4][7] = new PieceInfo(Team.WHITE, PieceType.QUEEN, new TargetPoint(4, 7));
-        pieces[5][7] = new PieceInfo(Team.WHITE, PieceType.BISHOP, new TargetPoint(5, 7));
-        pieces[6][7] = new PieceInfo(Team.WHITE, PieceType.KNIGHT, new TargetPoint(6, 7));
-        pieces[7][7] = new PieceInfo(Team.WHITE, PieceType.ROOK, new TargetPoint(7, 7));
-        for (int i = 0; i < 8; i++) {
-            pieces[i][6] = new PieceInfo(Team.WHITE, PieceType.PAWN, new TargetPoint(i, 6));
-        }
+        setScoreBoardManager(ScoreBoardManager.getInstance());
+    }
+
+    /**
+     * Creates a piece with the stats of the configuration file.
+     *
+     * @param team the {@link Team} of the piece
+     * @param pieceType the {@link PieceType} of the piece
+     * @param position the starting position of the piece
+     * @return the new piece
+     */
+    @Override
+    protected PieceInfo createPiece(Team team, PieceType pieceType, TargetPoint position) {
+        return new PieceInfo(team, pieceType, position);
     }
 
     /**
@@ -132,11 +115,7 @@ public class ChessBoard {
 
         for (int y = 0; y < 8; y++) {
             for (int x = 0; x < 8; x++) {
-                if ((x + y) % 2 == 0) {
-                    pixmap.setColor(Color.WHITE);
-                } else {
-                    pixmap.setColor(Color.DARK_GRAY);
-                }
+                pixmap.setColor(((x + y) % 2 == 0) ? LIGHT_SQUARE : DARK_SQUARE);
                 pixmap.fillRectangle(x * squareSize, y * squareSize, squareSize, squareSize);
             }
         }
@@ -147,92 +126,73 @@ public class ChessBoard {
 
     /**
      * Draws the chessboard and pieces.
+     * With an atlas, the squares are tinted from its white texel, so the board and the pieces share one texture.
      *
      * @param batch the {@link SpriteBatch} user for drawing
      * @param offsetX the x-coordinate offset for drawing
      * @param offsetY the y-coordinate offset for drawing
      */
     public void draw(SpriteBatch batch, float offsetX, float offsetY) {
-        if (boardTexture == null) {
-            generateTexture();
+        if (whitePixel != null) {
+            drawSquares(batch, offsetX, offsetY);
+        } else {
+            if (boardTexture == null) {
+                generateTexture();
+            }
+            batch.draw(boardTexture, offsetX, offsetY);
         }
-        batch.draw(boardTexture, offsetX, offsetY);
 
         for (int col = 0; col < 8; col++) {
             for (int row = 0; row < 8; row++) {
                 PieceInfo piece = pieces[col][row];
                 if (piece != null) {
-                    String pieceName = piece.getName();
-                    Texture texture = textures.get(pieceName);
-                    batch.draw(texture, offsetX + col * squareSize, offsetY + row * squareSize, squareSize, squareSize);
+                    TextureRegion region = regions.get(piece.getName());
+                    batch.draw(region, offsetX + col * squareSize, offsetY + row * squareSize, squareSize, squareSize);
                 }
             }
         }
     }
 
     /**
-     * Gets the piece in a specified location.
+     * Draws the squares of the board by tinting the white texel of the atlas,
+     * in the same layout as the generated board texture.
      *
-     * @param location the target location on the board
-     * @return the piece at the location, or null if no piece exists there
+     * @param batch the {@link SpriteBatch} user for drawing
+     * @param offsetX the x-coordinate offset for drawing
+     * @param offsetY the y-coordinate offset for drawing
      */
-    public PieceInfo getPiece(TargetPoint location){
-        if(!isInBounds(location)){
-            return null;
+    private void drawSquares(SpriteBatch batch, float offsetX, float offsetY) {
+        float previousColor = batch.getPackedColor();
+        for (int y = 0; y < 8; y++) {
+            for (int x = 0; x < 8; x++) {
+                batch.setColor(((x + y) % 2 == 0) ? LIGHT_SQUARE : DARK_SQUARE);
+                // the pixmap rows of the generated texture run top-down, the batch draws bottom-up
+                batch.draw(whitePixel, offsetX + x * squareSize, offsetY + size - (y + 1) * squareSize,
+                    squareSize, squareSize);
+            }
         }
-        return pieces[(int)location.getX()][(int)location.getY()];
+        batch.setPackedColor(previousColor);
     }
 
     /**
-     * Moves a piece from one location to the other.
-     * Handles captures, promotions and updates the score.
-     * Logs movement, attack and promoting.
-     *
-     * @param from the starting location of the piece
-     * @param to the destination location for the piece
+     * Releases the generated board texture, if it was created.
+     * The piece regions belong to the atlas or the textures the board was created with, which are not disposed.
      */
-    public void movePiece(TargetPoint from, TargetPoint to){
-
-        PieceInfo piece = pieces[(int)from.getX()][(int)from.getY()];
-        if (piece == null) {
-            logger.error("Error: No piece at {}, {}.", from.getX(), from.getY());
-            return;
+    public void dispose() {
+        if (boardTexture != null) {
+            boardTexture.dispose();
+            boardTexture = null;
         }
-        PieceInfo target = pieces[(int)to.getX()][(int)to.getY()];
-
-        scoreBoardManager.addMoveCount();
-
-        if (target != null && attackListener != null){
-
-            piece.setPosition(from);
-            target.setPosition(to);
-
-            logger.info("{} moved from {{}-{}} to {{}-{}}.", piece.getName(),
-                from.getX(), from.getY(),
-                to.getX(), to.getY());
-
-            attackListener.onAttack(piece, target);
-            logger.info("{} attacked {}.", piece.getName(), target.getName());
-
-        }else{
-            pieces[(int)to.getX()][(int)to.getY()] = piece;
-            pieces[(int)to.getX()][(int)to.getY()].setPosition(to);
-            pieces[(int)from.getX()][(int)from.getY()] = null;
-
-            logger.info("{} moved from {{}-{}} to {{}-{}}.", piece.getName(),
-                from.getX(), from.getY(),
-                to.getX(), to.getY());
-
-            if (piece.getPieceType() == PieceType.PAWN && piece.getTeam() == Team.WHITE && piece.getPosition().getY() == 0){
-                promotionListener.onPromote(piece);
-                logger.info("{} is promoting.", piece.getName());
-            }
+    }
 
-            if (piece.getPieceType() == PieceType.PAWN && piece.getTeam() == Team.BLACK && piece.getPosition().getY() == 7){
-                promotionListener.onPromote(piece);
-                logger.info("{} is promoting.", piece.getName());
-            }
-        }
+    /**
+     * Gets the region a piece is drawn from.
+     *
+     * @param name the name of the piece, such as {@code white-queen}
+     * @return the {@link TextureRegion}, or null if there is no such piece
+     */
+    public TextureRegion getPieceRegion(String name){
+        return regions.get(name);
     }
 
     /**
@@ -246,16 +206,6 @@ public class ChessBoard {
         return new TargetPoint( x / squareSize, 7 - y /squareSize);
     }
 
-    /**
-     * Checks if the location is within the bounds of the chess board.
-     *
-     * @param location the location to check
-     * @return true if the location is on the board, false otherwise
-     */
-    public boolean isInBounds(TargetPoint location){
-        return location.getX() < 8 && location.getX() >= 0 && location.getY() < 8 && location.getY() >= 0;
-    }
-
     /**
      * Gets a rectangle representing a square on the board.
      *
@@ -265,44 +215,4 @@ public class ChessBoard {
     public IntRect getRectangle(TargetPoint point){
         return new IntRect((int)point.getX()*squareSize, (int)point.getY() * squareSize, squareSize, squareSize);
     }
-
-    private AttackListener attackListener;
-
-    /**
-     * Sets a {@link AttackListener} for attack events.
-     *
-     * @param listener the attack listener to set
-     */
-    public void setOnAttackListener(AttackListener listener){
-        this.attackListener = listener;
-    }
-
-    private PromotionListener promotionListener;
-
-    /**
-     * Sets a {@link PromotionListener} for promotion events.
-     *
-     * @param listener the promotion listener to set
-     */
-    public void setPromotionListener(PromotionListener listener){
-        this.promotionListener = listener;
-    }
-
-    /**
-     * Check if the pawn promotion is in progress.
-     *
-     * @return true if the promotion is in progress, false otherwise
-     */
-    public boolean isPromoting() {
-        return isPromoting;
-    }
-
-    /**
-     * Sets the promotion state.
-     *
-     * @param promoting true to indicate if the promotion is in progress, false otherwise
-     */
-    public void setPromoting(boolean promoting) {
-        isPromoting = promoting;
-    }
 }
@@ -0,0 +1,128 @@
+package com.shiroyama.chess2.chessboard.model;
+
+import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+import com.shiroyama.chess2.chessboard.pieces.Team;
+
+/**
+ * Random keys for Zobrist hashing of board positions.
+ * The key of a position is the XOR of one key per piece kind and square, one key per HP bucket and
+ * occupied square, and the side key if black is to move. Because XOR is its own inverse, the key can be
+ * updated incrementally when a piece is placed, removed or its HP changes.
+ *
+ * <p>The keys come from a fixed seed, so the key of a position is the same in every run and can be stored.
+ */
+public final class Zobrist {
+
+    /**
+     * The number of distinct HP buckets, HP above the last bucket shares the last bucket.
+     */
+    public static final int HP_BUCKETS = 32;
+
+    /**
+     * Keys of the piece kinds, indexed by {@code pieceKind * 64 + square}.
+     */
+    private static final long[] PIECE_KEYS = new long[BitBoard.PIECE_KINDS * 64];
+
+    /**
+     * Keys of the HP buckets, indexed by {@code bucket * 64 + square}.
+     */
+    private static final long[] HP_KEYS = new long[HP_BUCKETS * 64];
+
+    /**
+     * Key toggled when black is to move.
+     */
+    private static final long SIDE_KEY;
+
+    /**
+     * State of the key generator, only used while the keys are created.
+     */
+    private static long seed = 0x43484553533230L;
+
+    static {
+        for (int i = 0; i < PIECE_KEYS.length; i++) {
+            PIECE_KEYS[i] = nextKey();
+        }
+        for (int i = 0; i < HP_KEYS.length; i++) {
+            HP_KEYS[i] = nextKey();
+        }
+        SIDE_KEY = nextKey();
+    }
+
+    private Zobrist() {}
+
+    /**
+     * Generates the next key with the SplitMix64 generator.
+     *
+     * @return the next key
+     */
+    private static long nextKey() {
+        long z = (seed += 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Gets the HP bucket of an HP value.
+     *
+     * @param hp the HP of a piece
+     * @return the bucket, between 0 and {@link #HP_BUCKETS} - 1
+     */
+    public static int hpBucket(int hp) {
+        return Math.max(0, Math.min(hp, HP_BUCKETS - 1));
+    }
+
+    /**
+     * Gets the key of a piece kind on a square.
+     *
+     * @param pieceKind the piece kind, see {@link BitBoard#pieceKind}
+     * @param square the square index
+     * @return the key
+     */
+    public static long pieceKey(int pieceKind, int square) {
+        return PIECE_KEYS[(pieceKind << 6) | square];
+    }
+
+    /**
+     * Gets the key of an HP bucket on a square.
+     *
+     * @param hpBucket the HP bucket, see {@link #hpBucket(int)}
+     * @param square the square index
+     * @return the key
+     */
+    public static long hpKey(int hpBucket, int square) {
+        return HP_KEYS[(hpBucket << 6) | square];
+    }
+
+    /**
+     * Gets the key toggled when black is to move.
+     *
+     * @return the side key
+     */
+    public static long sideKey() {
+        return SIDE_KEY;
+    }
+
+    /**
+     * Calculates the key of a position from scratch by scanning the board.
+     * Used to verify the incrementally updated key of {@link BoardState#getHash()}.
+     *
+     * @param pieces the pieces indexed by column and row, null for an empty square
+     * @param sideToMove the team to move
+     * @return the key
+     */
+    public static long hash(PieceInfo[][] pieces, Team sideToMove) {
+        long hash = (sideToMove == Team.BLACK) ? SIDE_KEY : 0L;
+        for (int x = 0; x < 8; x++) {
+            for (int y = 0; y < 8; y++) {
+                PieceInfo piece = pieces[x][y];
+                if (piece != null) {
+                    int square = BitBoard.square(x, y);
+                    hash ^= pieceKey(BitBoard.pieceKind(piece.getTeam(), piece.getPieceType()), square)
+                        ^ hpKey(hpBucket(piece.getHp()), square);
+                }
+            }
+        }
+        return hash;
+    }
+}
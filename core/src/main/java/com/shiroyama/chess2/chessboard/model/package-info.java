@@ -8,10 +8,16 @@
  *
  * <p>Key components include:
  * <ul>
- *   <li>{@link com.shiroyama.chess2.chessboard.model.ChessBoard} - Manages the chess board state,
- *       piece movement, attacks, and promotions</li>
+ *   <li>{@link com.shiroyama.chess2.chessboard.model.BoardState} - Manages the chess board state,
+ *       piece movement, attacks, and promotions without requiring a libGDX runtime</li>
+ *   <li>{@link com.shiroyama.chess2.chessboard.model.ChessBoard} - Extends the board state with
+ *       textures and screen coordinates for drawing the board</li>
  *   <li>{@link com.shiroyama.chess2.chessboard.model.TargetPoint} - Represents positions on the
  *       chess board with floating-point coordinates for precise positioning</li>
+ *   <li>{@link com.shiroyama.chess2.chessboard.model.BitBoard} - Packed bitboard representation of
+ *       the pieces for allocation-free position queries</li>
+ *   <li>{@link com.shiroyama.chess2.chessboard.model.Zobrist} - Random keys for the incrementally
+ *       updated 64-bit position key of the board</li>
  * </ul>
  *
  * <p>The model package serves as the foundation for the game mechanics, providing the data
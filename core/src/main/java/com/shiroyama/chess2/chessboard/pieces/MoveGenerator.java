@@ -0,0 +1,282 @@
+package com.shiroyama.chess2.chessboard.pieces;
+
+import com.shiroyama.chess2.chessboard.model.BitBoard;
+import com.shiroyama.chess2.chessboard.model.BoardState;
+
+/**
+ * Generates the valid moves of chess pieces without allocating.
+ * Follows the same rules as {@link Rules}, but reads the position from a {@link BitBoard}
+ * and writes the moves as encoded {@code int}s into a caller-owned buffer.
+ *
+ * <p>A move is encoded as the start square in bits 0-5, the target square in bits 6-11,
+ * the {@link #CAPTURE} flag in bit 12 and the ordinal of the promotion {@link PieceType}
+ * in bits 13-15 (0 if the move is not a promotion). Squares are indexed like {@link BitBoard#square(int, int)}.
+ */
+public final class MoveGenerator {
+
+    /**
+     * The size of a buffer that can hold the moves of any position.
+     */
+    public static final int MAX_MOVES = 512;
+
+    /**
+     * Flag marking a move whose target square holds an enemy piece.
+     */
+    public static final int CAPTURE = 1 << 12;
+
+    /**
+     * The piece types a pawn can be promoted to, in the order the moves are generated.
+     */
+    private static final PieceType[] PROMOTION_TYPES = {PieceType.QUEEN, PieceType.ROOK, PieceType.KNIGHT, PieceType.BISHOP};
+
+    /**
+     * Cached {@link PieceType} values, so decoding a promotion does not copy the array.
+     */
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    /**
+     * Squares a knight can jump to from each square.
+     */
+    private static final long[] KNIGHT_ATTACKS = new long[64];
+
+    /**
+     * Squares a king can step to from each square.
+     */
+    private static final long[] KING_ATTACKS = new long[64];
+
+    static {
+        for (int square = 0; square < 64; square++) {
+            int x = BitBoard.squareX(square);
+            int y = BitBoard.squareY(square);
+            for (int dx = -2; dx <= 2; dx++) {
+                for (int dy = -2; dy <= 2; dy++) {
+                    if (Math.abs(dx * dy) == 2) {
+                        KNIGHT_ATTACKS[square] |= bit(x + dx, y + dy);
+                    }
+                    if (Math.abs(dx) <= 1 && Math.abs(dy) <= 1 && (dx != 0 || dy != 0)) {
+                        KING_ATTACKS[square] |= bit(x + dx, y + dy);
+                    }
+                }
+            }
+        }
+    }
+
+    private MoveGenerator() {}
+
+    /**
+     * Gets the bit of a square, or 0 if the coordinates are off the board.
+     *
+     * @param x the column
+     * @param y the row
+     * @return the bitboard with only that square set
+     */
+    private static long bit(int x, int y) {
+        return (x < 0 || x > 7 || y < 0 || y > 7) ? 0L : 1L << BitBoard.square(x, y);
+    }
+
+    /**
+     * Encodes a move.
+     *
+     * @param from the start square
+     * @param to the target square
+     * @param flags {@link #CAPTURE} and/or {@link #promotionFlag(PieceType)}, or 0
+     * @return the encoded move
+     */
+    public static int encode(int from, int to, int flags) {
+        return from | (to << 6) | flags;
+    }
+
+    /**
+     * Gets the flag marking a promotion to the specified piece type.
+     *
+     * @param pieceType the piece type the pawn is promoted to
+     * @return the promotion flag
+     */
+    public static int promotionFlag(PieceType pieceType) {
+        return pieceType.ordinal() << 13;
+    }
+
+    /**
+     * Gets the start square of a move.
+     *
+     * @param move the encoded move
+     * @return the start square
+     */
+    public static int getFrom(int move) {
+        return move & 63;
+    }
+
+    /**
+     * Gets the target square of a move.
+     *
+     * @param move the encoded move
+     * @return the target square
+     */
+    public static int getTo(int move) {
+        return (move >>> 6) & 63;
+    }
+
+    /**
+     * Checks whether a move attacks an enemy piece.
+     *
+     * @param move the encoded move
+     * @return true if the target square holds an enemy piece, false otherwise
+     */
+    public static boolean isCapture(int move) {
+        return (move & CAPTURE) != 0;
+    }
+
+    /**
+     * Gets the piece type a move promotes to.
+     *
+     * @param move the encoded move
+     * @return the promotion piece type, or null if the move is not a promotion
+     */
+    public static PieceType getPromotion(int move) {
+        int ordinal = (move >>> 13) & 7;
+        return ordinal == 0 ? null : PIECE_TYPES[ordinal];
+    }
+
+    /**
+     * Generates every valid move of a team on a {@link BoardState}.
+     *
+     * @param board the chess board
+     * @param team the team to move
+     * @param buffer the buffer which the moves are written to, at least {@link #MAX_MOVES} long
+     * @return the number of moves written
+     */
+    public static int generateMoves(BoardState board, Team team, int[] buffer) {
+        return generateMoves(board.getBitBoard(), team, buffer);
+    }
+
+    /**
+     * Generates every valid move of a team.
+     *
+     * @param board the position
+     * @param team the team to move
+     * @param buffer the buffer which the moves are written to, at least {@link #MAX_MOVES} long
+     * @return the number of moves written
+     */
+    public static int generateMoves(BitBoard board, Team team, int[] buffer) {
+        int count = 0;
+        long own = board.getOccupancy(team);
+        while (own != 0) {
+            int square = Long.numberOfTrailingZeros(own);
+            own &= own - 1;
+            count = generateMoves(board, square, buffer, count);
+        }
+        return count;
+    }
+
+    /**
+     * Generates the valid moves of the piece standing on a square.
+     *
+     * @param board the position
+     * @param square the square of the piece
+     * @param buffer the buffer which the moves are written to
+     * @param offset the index of the first move written
+     * @return the index after the last move written
+     */
+    public static int generateMoves(BitBoard board, int square, int[] buffer, int offset) {
+        int pieceKind = board.getPieceKind(square);
+        if (pieceKind == BitBoard.EMPTY) {
+            return offset;
+        }
+        Team team = BitBoard.teamOf(pieceKind);
+        long own = board.getOccupancy(team);
+        long occupied = board.getOccupancy();
+
+        switch (BitBoard.typeOf(pieceKind)) {
+            case PAWN:
+                return generatePawnMoves(board, square, team, buffer, offset);
+            case BISHOP:
+                return addMoves(square, SlidingAttacks.bishopAttacks(square, occupied) & ~own, occupied, buffer, offset);
+            case ROOK:
+                return addMoves(square, SlidingAttacks.rookAttacks(square, occupied) & ~own, occupied, buffer, offset);
+            case QUEEN:
+                return addMoves(square, SlidingAttacks.queenAttacks(square, occupied) & ~own, occupied, buffer, offset);
+            case KNIGHT:
+                return addMoves(square, KNIGHT_ATTACKS[square] & ~own, occupied, buffer, offset);
+            case KING:
+                return addMoves(square, KING_ATTACKS[square] & ~own, occupied, buffer, offset);
+            default:
+                return offset;
+        }
+    }
+
+    /**
+     * Writes a move to every target square of a bitboard.
+     *
+     * @param from the start square
+     * @param targets the target squares
+     * @param occupied the occupied squares, used to flag captures
+     * @param buffer the buffer which the moves are written to
+     * @param offset the index of the first move written
+     * @return the index after the last move written
+     */
+    private static int addMoves(int from, long targets, long occupied, int[] buffer, int offset) {
+        while (targets != 0) {
+            int to = Long.numberOfTrailingZeros(targets);
+            targets &= targets - 1;
+            buffer[offset++] = encode(from, to, ((occupied >>> to) & 1) != 0 ? CAPTURE : 0);
+        }
+        return offset;
+    }
+
+    /**
+     * Generates the valid moves of a pawn, mirroring {@code Rules.getValidMovesPawn}.
+     * A move to the last row is written once per promotion type.
+     *
+     * @param board the position
+     * @param from the square of the pawn
+     * @param team the team of the pawn
+     * @param buffer the buffer which the moves are written to
+     * @param offset the index of the first move written
+     * @return the index after the last move written
+     */
+    private static int generatePawnMoves(BitBoard board, int from, Team team, int[] buffer, int offset) {
+        int direction = (team == Team.BLACK) ? 1 : -1;
+        int startRow = (team == Team.BLACK) ? 1 : 6;
+        int x = BitBoard.squareX(from);
+        int y = BitBoard.squareY(from);
+        long occupied = board.getOccupancy();
+        long enemy = board.getOccupancy(team == Team.WHITE ? Team.BLACK : Team.WHITE);
+
+        long normalMove = bit(x, y + direction) & ~occupied;
+        offset = addPawnMoves(from, normalMove, 0, buffer, offset);
+
+        if (y == startRow) {
+            long firstMove = bit(x, y + 2 * direction) & ~occupied;
+            offset = addPawnMoves(from, firstMove, 0, buffer, offset);
+        }
+
+        long captureMoves = (bit(x - 1, y + direction) | bit(x + 1, y + direction)) & enemy;
+        return addPawnMoves(from, captureMoves, CAPTURE, buffer, offset);
+    }
+
+    /**
+     * Writes pawn moves to every target square of a bitboard, expanding promotions.
+     *
+     * @param from the start square
+     * @param targets the target squares
+     * @param flags the flags of the moves
+     * @param buffer the buffer which the moves are written to
+     * @param offset the index of the first move written
+     * @return the index after the last move written
+     */
+    private static int addPawnMoves(int from, long targets, int flags, int[] buffer, int offset) {
+        while (targets != 0) {
+            int to = Long.numberOfTrailingZeros(targets);
+            targets &= targets - 1;
+            int row = BitBoard.squareY(to);
+            if (row == 0 || row == 7) {
+                for (PieceType promotion : PROMOTION_TYPES) {
+                    buffer[offset++] = encode(from, to, flags | promotionFlag(promotion));
+                }
+            } else {
+                buffer[offset++] = encode(from, to, flags);
+            }
+        }
+        return offset;
+    }
+}
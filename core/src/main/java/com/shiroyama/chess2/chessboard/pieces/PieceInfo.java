@@ -1,15 +1,10 @@
 package com.shiroyama.chess2.chessboard.pieces;
 
-import com.badlogic.gdx.scenes.scene2d.Actor;
-import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
-import com.shiroyama.chess2.arena.Projectile;
-import com.shiroyama.chess2.chessboard.model.ChessBoard;
+import com.shiroyama.chess2.arena.ProjectilePool;
 import com.shiroyama.chess2.chessboard.model.TargetPoint;
 import com.shiroyama.chess2.utils.ConfigurationManager;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.util.List;
+import com.shiroyama.chess2.utils.GameEventSink;
+import com.shiroyama.chess2.utils.PieceStats;
 
 /**
  * Represents a chess piece with its properties and actions.
@@ -42,9 +37,9 @@ public class PieceInfo {
     private TargetPoint position;
 
     /**
-     * {@link Logger} for logging whenever the piece shot.
+     * {@link GameEventSink} for recording whenever the piece shot.
      */
-    private static final Logger logger = LoggerFactory.getLogger(PieceInfo.class);
+    private static final GameEventSink events = GameEventSink.getInstance();
 
     /**
      * Constructor for the class.
@@ -61,6 +56,24 @@ public class PieceInfo {
         loadStats(pieceType);
     }
 
+    /**
+     * Constructor for the class with explicit stats.
+     * Does not read the configuration file, so it can be used without a libGDX runtime.
+     *
+     * @param team the {@link Team} of the piece (BLACK or WHITE)
+     * @param pieceType the {@link PieceType} of the piece (PAWN, BISHOP, etc.)
+     * @param position the initial position of the piece on the board
+     * @param hp the HP of the piece
+     * @param attackRate the attack rate of the piece
+     */
+    public PieceInfo(Team team, PieceType pieceType, TargetPoint position, int hp, float attackRate) {
+        this.team = team;
+        this.pieceType = pieceType;
+        this.position = position;
+        this.hp = hp;
+        this.attackRate = attackRate;
+    }
+
     /**
      * Gets the name of the piece, including its color and type.
      *
@@ -104,7 +117,7 @@ public class PieceInfo {
      * @param pieceType the type of the piece
      * @return the default attack rate value for the specified piece type
      */
-    private float getDefaultAttackRate(PieceType pieceType){
+    public static float getDefaultAttackRate(PieceType pieceType){
         switch (pieceType){
             case PAWN: return 1f;
             case KNIGHT: return 1.5f;
@@ -117,19 +130,17 @@ public class PieceInfo {
     }
 
     /**
-     * Creates and adds new {@link Projectile} to the list of active projectiles.
+     * Fires a new projectile from the piece towards the center of the target.
      *
      * @param targetPosition the target position for the projectile
-     * @param projectiles the list of active projectiles which the new projectile will be added
+     * @param projectiles the {@link ProjectilePool} of active projectiles which the new projectile will be added
      */
-    public void shoot(TargetPoint targetPosition, List<Projectile> projectiles){
+    public void shoot(TargetPoint targetPosition, ProjectilePool projectiles){
 
-        TargetPoint centeredTargetPosition =
-            new TargetPoint(targetPosition.getX() + 0.5f,targetPosition.getY() + 0.5f);
-        Projectile projectile = new Projectile(this.team, position, centeredTargetPosition);
-        projectiles.add(projectile);
+        projectiles.spawn(this.team, position.getX(), position.getY(),
+            targetPosition.getX() + 0.5f, targetPosition.getY() + 0.5f);
 
-        logger.info("{} projectile shot.", this.team);
+        events.shot(this);
     }
 
     /**
@@ -151,15 +162,15 @@ public class PieceInfo {
     }
 
     /**
-     * Loads the stats of a piece type from a file.
+     * Loads the stats of a piece type from the current {@link PieceStats} of the configuration.
      *
      * @param pieceType the piece type which stats are required
      */
     private void loadStats(PieceType pieceType){
 
-        ConfigurationManager configurationManager = ConfigurationManager.getInstance();
-        this.hp = configurationManager.getHp(pieceType);
-        this.attackRate = configurationManager.getAttackRate(pieceType);
+        PieceStats stats = ConfigurationManager.getInstance().getStats();
+        this.hp = stats.getHp(pieceType);
+        this.attackRate = stats.getAttackRate(pieceType);
     }
 
     /**
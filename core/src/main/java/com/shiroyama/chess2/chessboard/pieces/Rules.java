@@ -1,6 +1,7 @@
 package com.shiroyama.chess2.chessboard.pieces;
 
-import com.shiroyama.chess2.chessboard.model.ChessBoard;
+import com.shiroyama.chess2.chessboard.model.BitBoard;
+import com.shiroyama.chess2.chessboard.model.BoardState;
 import com.shiroyama.chess2.chessboard.model.TargetPoint;
 
 import java.util.ArrayList;
@@ -21,9 +22,9 @@ public class Rules {
      * @param list the list which the valid moves will be added
      * @param selection the current position of the piece
      * @param piece the {@link PieceInfo} for which to determine valid moves
-     * @param board the {@link ChessBoard} on which the piece is located
+     * @param board the {@link BoardState} on which the piece is located
      */
-    public static void GetValidMoves(ArrayList<TargetPoint> list, TargetPoint selection, PieceInfo piece, ChessBoard board){
+    public static void GetValidMoves(ArrayList<TargetPoint> list, TargetPoint selection, PieceInfo piece, BoardState board){
         switch (piece.getPieceType()){
             case PAWN:
                 getValidMovesPawn(list, selection, piece.getTeam(), board);
@@ -52,9 +53,9 @@ public class Rules {
      * @param list the list to which the valid moves will be added
      * @param selection the current position of the pawn
      * @param team the {@link Team} of the pawn (BLACK or WHITE)
-     * @param board the {@link ChessBoard} on which the pawn is located
+     * @param board the {@link BoardState} on which the pawn is located
      */
-    private static void getValidMovesPawn(ArrayList<TargetPoint> list, TargetPoint selection, Team team, ChessBoard board){
+    private static void getValidMovesPawn(ArrayList<TargetPoint> list, TargetPoint selection, Team team, BoardState board){
         int direction = (team == Team.BLACK) ? 1 : -1;
 
         TargetPoint normalMove = selection.Transpose(0, direction);
@@ -84,28 +85,12 @@ public class Rules {
      * @param list the list to which the valid moves will be added
      * @param selection the current position of the bishop
      * @param team  the {@link Team} of the bishop (BLACK or WHITE)
-     * @param board the {@link ChessBoard} on which the bishop is located
+     * @param board the {@link BoardState} on which the bishop is located
      */
-    private static void getValidMovesBishop(ArrayList<TargetPoint> list, TargetPoint selection, Team team, ChessBoard board){
-        for (int xDir = -1; xDir <= 1; xDir += 2){
-            for (int yDir = -1; yDir <= 1; yDir += 2){
-                TargetPoint move = selection;
-                while (true){
-                    move = move.Transpose(xDir, yDir);
-                    if (!board.isInBounds(move)){
-                        break;
-                    }
-                    PieceInfo target = board.getPiece(move);
-                    if (target != null){
-                        if (target.getTeam() != team){
-                            list.add(move);
-                        }
-                        break;
-                    }
-                    list.add(move);
-                }
-            }
-        }
+    private static void getValidMovesBishop(ArrayList<TargetPoint> list, TargetPoint selection, Team team, BoardState board){
+        BitBoard bitBoard = board.getBitBoard();
+        long attacks = SlidingAttacks.bishopAttacks(BitBoard.square(selection), bitBoard.getOccupancy());
+        addTargets(list, attacks & ~bitBoard.getOccupancy(team));
     }
 
     /**
@@ -114,34 +99,12 @@ public class Rules {
      * @param list the list to which the valid moves will be added
      * @param selection the current position of the rook
      * @param team the {@link Team} of the rook (BLACK or WHITE)
-     * @param board the {@link ChessBoard}on which the rook is located
+     * @param board the {@link BoardState}on which the rook is located
      */
-    private static void getValidMovesRook(ArrayList<TargetPoint> list, TargetPoint selection, Team team, ChessBoard board){
-        for (int direction = 0; direction < 2; direction++){
-            for (int dir = -1; dir <= 1; dir += 2){
-                TargetPoint move = selection;
-                while (true){
-
-                    if (direction == 0){
-                        move = move.Transpose(dir, 0);
-                    }else{
-                        move = move.Transpose(0, dir);
-                    }
-
-                    if (!board.isInBounds(move)){
-                        break;
-                    }
-                    PieceInfo target = board.getPiece(move);
-                    if (target != null){
-                        if (target.getTeam() != team){
-                            list.add(move);
-                        }
-                        break;
-                    }
-                    list.add(move);
-                }
-            }
-        }
+    private static void getValidMovesRook(ArrayList<TargetPoint> list, TargetPoint selection, Team team, BoardState board){
+        BitBoard bitBoard = board.getBitBoard();
+        long attacks = SlidingAttacks.rookAttacks(BitBoard.square(selection), bitBoard.getOccupancy());
+        addTargets(list, attacks & ~bitBoard.getOccupancy(team));
     }
 
     /**
@@ -150,9 +113,9 @@ public class Rules {
      * @param list the list to which the valid moves will be added
      * @param selection the current position of the knight
      * @param team the {@link Team} of the knight (BLACK or WHITE)
-     * @param board the {@link ChessBoard} on which the knight is located
+     * @param board the {@link BoardState} on which the knight is located
      */
-    private static void getValidMovesKnight(ArrayList<TargetPoint> list, TargetPoint selection, Team team, ChessBoard board){
+    private static void getValidMovesKnight(ArrayList<TargetPoint> list, TargetPoint selection, Team team, BoardState board){
         for (int direction = 0; direction < 2; direction++){
             for (int longDir = -2; longDir <= 2; longDir += 4){
                 for (int shortDir = -1; shortDir <= 1; shortDir += 2){
@@ -181,33 +144,12 @@ public class Rules {
      * @param list the list to which the valid moves will be added
      * @param selection the current position of the queen
      * @param team the {@link Team} of the queen (BLACK or WHITE)
-     * @param board the {@link ChessBoard} on which the queen is located
+     * @param board the {@link BoardState} on which the queen is located
      */
-    private static void getValidMovesQueen(ArrayList<TargetPoint> list, TargetPoint selection, Team team, ChessBoard board){
-        for (int xDir = -1; xDir <= 1; xDir++){
-            for (int yDir = -1; yDir <= 1; yDir++){
-                if (xDir == 0 && yDir == 0) {
-                    continue;
-                }
-                TargetPoint move = selection;
-                while (true){
-
-                    move = move.Transpose(xDir, yDir);
-                    if (!board.isInBounds(move)){
-                        break;
-                    }
-
-                    PieceInfo target = board.getPiece(move);
-                    if (target != null){
-                        if (target.getTeam() != team){
-                            list.add(move);
-                        }
-                        break;
-                    }
-                    list.add(move);
-                }
-            }
-        }
+    private static void getValidMovesQueen(ArrayList<TargetPoint> list, TargetPoint selection, Team team, BoardState board){
+        BitBoard bitBoard = board.getBitBoard();
+        long attacks = SlidingAttacks.queenAttacks(BitBoard.square(selection), bitBoard.getOccupancy());
+        addTargets(list, attacks & ~bitBoard.getOccupancy(team));
     }
 
     /**
@@ -216,9 +158,9 @@ public class Rules {
      * @param list the list to which the valid moves will be added
      * @param selection the current position of the king
      * @param team the {@link Team} of the king (BLACK or WHITE)
-     * @param board the {@link ChessBoard} on which the king is located
+     * @param board the {@link BoardState} on which the king is located
      */
-    private static void getValidMovesKing(ArrayList<TargetPoint> list, TargetPoint selection, Team team, ChessBoard board){
+    private static void getValidMovesKing(ArrayList<TargetPoint> list, TargetPoint selection, Team team, BoardState board){
         for (int xDir = - 1; xDir <= 1; xDir++){
             for (int yDir = -1; yDir <= 1; yDir++){
 
@@ -235,4 +177,18 @@ public class Rules {
             }
         }
     }
+
+    /**
+     * Adds a {@link TargetPoint} to the list for every square of a bitboard.
+     *
+     * @param list the list to which the valid moves will be added
+     * @param targets the target squares
+     */
+    private static void addTargets(ArrayList<TargetPoint> list, long targets){
+        while (targets != 0){
+            int square = Long.numberOfTrailingZeros(targets);
+            targets &= targets - 1;
+            list.add(new TargetPoint(BitBoard.squareX(square), BitBoard.squareY(square)));
+        }
+    }
 }
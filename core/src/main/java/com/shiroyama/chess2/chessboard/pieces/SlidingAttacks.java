@@ -0,0 +1,229 @@
+package com.shiroyama.chess2.chessboard.pieces;
+
+import com.shiroyama.chess2.chessboard.model.BitBoard;
+
+/**
+ * Precomputed magic bitboard attack tables for the sliding pieces (bishop, rook and queen).
+ * The tables are built once when the class is loaded. After that, the reachable squares of a
+ * slider come from one mask, multiply, shift and array lookup instead of a square by square ray walk.
+ *
+ * <p>The returned attack sets include the first occupied square of each ray, regardless of its team;
+ * callers remove their own pieces with the team's occupancy mask.
+ */
+public final class SlidingAttacks {
+
+    /**
+     * Column and row steps of the bishop and rook rays.
+     */
+    private static final int[][] BISHOP_DIRECTIONS = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+    private static final int[][] ROOK_DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+
+    /**
+     * Magic multipliers of the bishop per square, found by a seeded random search over sparse candidates.
+     */
+    private static final long[] BISHOP_MAGICS = {
+        0x66081E10B2040101L, 0x2044900401003000L, 0x8010114041040800L, 0x1048060940008B40L,
+        0x4444042040011000L, 0x8180821041100C02L, 0x0018880848060000L, 0xCA06212208201841L,
+        0x80200850A1080101L, 0x002C049044370060L, 0x00201C2104051501L, 0x028288084504A200L,
+        0x02008212103C9030L, 0x0001A088200A0020L, 0x4000008828029080L, 0x00000200821150A4L,
+        0x00190040620C0402L, 0x18102020412200A0L, 0x800200100400420CL, 0x4806011420220112L,
+        0x1024002E10220810L, 0x2000804110100102L, 0x140220040A090400L, 0x0000210108880400L,
+        0x0030400288092100L, 0x2098D40020211200L, 0x2240900102002200L, 0x0002080004004008L,
+        0x4201001101004004L, 0x0026042004100804L, 0x0412022000880104L, 0x0014002300420204L,
+        0x4114101900042100L, 0x0000820800111020L, 0x00022288113001A7L, 0x4000040400080210L,
+        0x6040010010010040L, 0x1210005200011102L, 0x0004082212104108L, 0x4208020420044919L,
+        0x0218014888002100L, 0x1002009008008411L, 0x8400420041001010L, 0x0184002018002100L,
+        0x0000880104010341L, 0x00102002818B0100L, 0x9042B4840C000080L, 0x0010210040900100L,
+        0x0006009220102000L, 0x0000822809140000L, 0x1000008400880000L, 0x0580018084040003L,
+        0x01040040C8484002L, 0x2000400448009400L, 0x4442181541020000L, 0x0808010104011208L,
+        0x2090804BC2104000L, 0x1000010189908820L, 0x0802009124024800L, 0x1200A80400420200L,
+        0x0804000040504101L, 0x00A0002404082215L, 0x04604008010400A8L, 0x0C04288200520200L
+    };
+
+    /**
+     * Magic multipliers of the rook per square, found by a seeded random search over sparse candidates.
+     */
+    private static final long[] ROOK_MAGICS = {
+        0x8080004000802010L, 0x0240001000402000L, 0x0600084200211180L, 0x4080080004801001L,
+        0x4100040208010010L, 0x8A00100200440801L, 0x4180804041000200L, 0x0200010030804204L,
+        0x00118000C0006188L, 0x1108802002824000L, 0x0100808020001000L, 0x0010801000800806L,
+        0x0200808004000800L, 0x0002001008040201L, 0x0025004200210004L, 0x0082001603084094L,
+        0x0400248000400090L, 0x0000808020004000L, 0x0000808010002004L, 0x0010008008041280L,
+        0x4204010100100800L, 0x8002808004000200L, 0x0208040008011002L, 0x0A41020008508401L,
+        0x0000C00480028420L, 0x00C0400680200880L, 0x6C40200100110040L, 0x0061080180100081L,
+        0x500B000500120800L, 0x0800020080040080L, 0x0C0A080400D00102L, 0x000C004200008401L,
+        0x0000804000800020L, 0x0000201000400040L, 0xA000802001803006L, 0x0002004022000810L,
+        0x0002080101000410L, 0x4004020080800400L, 0x8014814244000810L, 0x1000800040800100L,
+        0x14A4408001030020L, 0xE280201000424000L, 0x8000200010008080L, 0x2348000810008080L,
+        0x800B001008030004L, 0x0602001008020004L, 0x030C020004010100L, 0x0018040080420029L,
+        0x0000410020800100L, 0x0808260480410200L, 0x8108804600142200L, 0x5D00100080080080L,
+        0x0008080004008080L, 0x0C82000850058200L, 0x0800082130020400L, 0x400004010040A200L,
+        0x0005009042288001L, 0x8300220444801102L, 0x00024011000C2001L, 0x2021000410002009L,
+        0x4000480005001115L, 0x2106000801102416L, 0x0080410800821004L, 0x0C001C0084204502L
+    };
+
+    /**
+     * Relevant occupancy masks, shifts and table offsets of the bishop per square.
+     */
+    private static final long[] BISHOP_MASKS = new long[64];
+    private static final int[] BISHOP_SHIFTS = new int[64];
+    private static final int[] BISHOP_OFFSETS = new int[64];
+
+    /**
+     * Relevant occupancy masks, shifts and table offsets of the rook per square.
+     */
+    private static final long[] ROOK_MASKS = new long[64];
+    private static final int[] ROOK_SHIFTS = new int[64];
+    private static final int[] ROOK_OFFSETS = new int[64];
+
+    /**
+     * The attack tables, each square owning a slice starting at its offset.
+     */
+    private static final long[] BISHOP_ATTACKS;
+    private static final long[] ROOK_ATTACKS;
+
+    static {
+        BISHOP_ATTACKS = buildTable(BISHOP_DIRECTIONS, BISHOP_MASKS, BISHOP_MAGICS, BISHOP_SHIFTS, BISHOP_OFFSETS);
+        ROOK_ATTACKS = buildTable(ROOK_DIRECTIONS, ROOK_MASKS, ROOK_MAGICS, ROOK_SHIFTS, ROOK_OFFSETS);
+    }
+
+    private SlidingAttacks() {}
+
+    /**
+     * Gets the squares a bishop reaches.
+     *
+     * @param square the square of the bishop
+     * @param occupied the occupied squares of the board
+     * @return the reachable squares, including the first blocker of each ray
+     */
+    public static long bishopAttacks(int square, long occupied) {
+        int index = (int) (((occupied & BISHOP_MASKS[square]) * BISHOP_MAGICS[square]) >>> BISHOP_SHIFTS[square]);
+        return BISHOP_ATTACKS[BISHOP_OFFSETS[square] + index];
+    }
+
+    /**
+     * Gets the squares a rook reaches.
+     *
+     * @param square the square of the rook
+     * @param occupied the occupied squares of the board
+     * @return the reachable squares, including the first blocker of each ray
+     */
+    public static long rookAttacks(int square, long occupied) {
+        int index = (int) (((occupied & ROOK_MASKS[square]) * ROOK_MAGICS[square]) >>> ROOK_SHIFTS[square]);
+        return ROOK_ATTACKS[ROOK_OFFSETS[square] + index];
+    }
+
+    /**
+     * Gets the squares a queen reaches.
+     *
+     * @param square the square of the queen
+     * @param occupied the occupied squares of the board
+     * @return the reachable squares, including the first blocker of each ray
+     */
+    public static long queenAttacks(int square, long occupied) {
+        return bishopAttacks(square, occupied) | rookAttacks(square, occupied);
+    }
+
+    /**
+     * Fills the attack table of one slider from its magic numbers.
+     *
+     * @param directions the ray directions of the slider
+     * @param masks the relevant occupancy masks to fill
+     * @param magics the magic multipliers of the squares
+     * @param shifts the shifts to fill
+     * @param offsets the table offsets to fill
+     * @return the attack table
+     * @throws IllegalStateException if a magic number maps two different attack sets to the same entry
+     */
+    private static long[] buildTable(int[][] directions, long[] masks, long[] magics, int[] shifts, int[] offsets) {
+        int size = 0;
+        for (int square = 0; square < 64; square++) {
+            masks[square] = relevantMask(square, directions);
+            int bits = Long.bitCount(masks[square]);
+            shifts[square] = 64 - bits;
+            offsets[square] = size;
+            size += 1 << bits;
+        }
+
+        long[] table = new long[size];
+        boolean[] filled = new boolean[size];
+        for (int square = 0; square < 64; square++) {
+            long mask = masks[square];
+            long subset = 0L;
+            do {
+                int index = offsets[square] + (int) ((subset * magics[square]) >>> shifts[square]);
+                long attacks = rayAttacks(square, subset, directions);
+                if (filled[index] && table[index] != attacks) {
+                    throw new IllegalStateException("Invalid magic number for square " + square);
+                }
+                table[index] = attacks;
+                filled[index] = true;
+                subset = (subset - mask) & mask;
+            } while (subset != 0);
+        }
+        return table;
+    }
+
+    /**
+     * Gets the squares whose occupancy changes the attacks of a slider.
+     * The last square of each ray is left out, because it is reached whether it is occupied or not.
+     *
+     * @param square the square of the slider
+     * @param directions the ray directions
+     * @return the relevant occupancy mask
+     */
+    private static long relevantMask(int square, int[][] directions) {
+        long mask = 0L;
+        int x = BitBoard.squareX(square);
+        int y = BitBoard.squareY(square);
+        for (int[] direction : directions) {
+            int tx = x + direction[0];
+            int ty = y + direction[1];
+            while (isInside(tx + direction[0], ty + direction[1])) {
+                mask |= 1L << BitBoard.square(tx, ty);
+                tx += direction[0];
+                ty += direction[1];
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Calculates the squares a slider reaches by walking its rays, used to fill the tables.
+     *
+     * @param square the square of the slider
+     * @param occupied the occupied squares
+     * @param directions the ray directions
+     * @return the reachable squares, including the first blocker of each ray
+     */
+    private static long rayAttacks(int square, long occupied, int[][] directions) {
+        long attacks = 0L;
+        int x = BitBoard.squareX(square);
+        int y = BitBoard.squareY(square);
+        for (int[] direction : directions) {
+            int tx = x + direction[0];
+            int ty = y + direction[1];
+            while (isInside(tx, ty)) {
+                long bit = 1L << BitBoard.square(tx, ty);
+                attacks |= bit;
+                if ((occupied & bit) != 0) {
+                    break;
+                }
+                tx += direction[0];
+                ty += direction[1];
+            }
+        }
+        return attacks;
+    }
+
+    /**
+     * Checks whether coordinates are on the board.
+     *
+     * @param x the column
+     * @param y the row
+     * @return true if the square exists, false otherwise
+     */
+    private static boolean isInside(int x, int y) {
+        return x >= 0 && x <= 7 && y >= 0 && y <= 7;
+    }
+}
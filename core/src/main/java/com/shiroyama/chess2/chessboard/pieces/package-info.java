@@ -12,6 +12,10 @@
  *       with properties like team, type, HP, attack rate, and position</li>
  *   <li>{@link com.shiroyama.chess2.chessboard.pieces.Rules} - Defines movement rules for
  *       different piece types on the chess board</li>
+ *   <li>{@link com.shiroyama.chess2.chessboard.pieces.MoveGenerator} - Allocation-free move generation
+ *       into reusable {@code int[]} buffers, following the same rules</li>
+ *   <li>{@link com.shiroyama.chess2.chessboard.pieces.SlidingAttacks} - Precomputed magic bitboard
+ *       attack tables for bishops, rooks and queens</li>
  *   <li>{@link com.shiroyama.chess2.chessboard.pieces.Team} - Enum representing the teams
  *       (BLACK and WHITE)</li>
  *   <li>{@link com.shiroyama.chess2.chessboard.pieces.PieceType} - Enum representing the
@@ -0,0 +1,20 @@
+package com.shiroyama.chess2.chessboard.utils;
+
+import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+
+/**
+ * Interface for deciding captures without an arena combat.
+ * When a resolver is set on the board, a capture is settled as soon as the attacking piece moves,
+ * instead of notifying the {@link AttackListener}.
+ */
+public interface DuelResolver {
+    /**
+     * Called when one piece attacks another, to decide the combat between them.
+     * Implementers set the HP the winner has left, the loser is removed from the board.
+     *
+     * @param attacker the piece that is attacking
+     * @param defender the piece that is being attacked
+     * @return the piece that won the combat, either the attacker or the defender
+     */
+    PieceInfo resolve(PieceInfo attacker, PieceInfo defender);
+}
@@ -13,6 +13,8 @@
  *       handling attack events between chess pieces</li>
  *   <li>{@link com.shiroyama.chess2.chessboard.utils.PromotionListener} - Interface for
  *       handling pawn promotion events when pawns reach the opposite end of the board</li>
+ *   <li>{@link com.shiroyama.chess2.chessboard.utils.DuelResolver} - Interface for
+ *       deciding captures at once, without an arena combat</li>
  * </ul>
  *
  * <p>The utils package facilitates event-driven communication between different parts
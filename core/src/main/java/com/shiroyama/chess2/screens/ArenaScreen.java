@@ -3,12 +3,13 @@ package com.shiroyama.chess2.screens;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -19,19 +20,23 @@ import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.shiroyama.chess2.ChessGame;
 import com.shiroyama.chess2.arena.Arena;
 import com.shiroyama.chess2.chessboard.model.ChessBoard;
+import com.shiroyama.chess2.utils.AssetCache;
 import com.shiroyama.chess2.utils.PieceMovementHandler;
-import com.shiroyama.chess2.arena.Projectile;
+import com.shiroyama.chess2.arena.ProjectilePool;
 import com.shiroyama.chess2.chessboard.model.TargetPoint;
 import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
 import com.shiroyama.chess2.chessboard.pieces.PieceType;
 import com.shiroyama.chess2.chessboard.pieces.Team;
+import com.shiroyama.chess2.utils.ConfigurationManager;
+import com.shiroyama.chess2.utils.FrameProfiler;
+import com.shiroyama.chess2.utils.FrameSection;
+import com.shiroyama.chess2.utils.PieceStats;
 import com.shiroyama.chess2.utils.ScoreBoardManager;
+import com.shiroyama.chess2.utils.TextureLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
-import java.util.List;
-import java.util.Properties;
+import java.util.ArrayList;
 
 /**
  * Represents the {@link Screen} where the chess arena combat takes place.
@@ -51,9 +56,25 @@ public class ArenaScreen implements Screen {
     private SpriteBatch batch;
 
     /**
-     * Textures for the attacker, defender, gun, projectile, and background.
+     * Regions for the attacker, defender, gun and projectile, all from the same atlas texture if it was packed.
      */
-    private Texture attackerTexture, defenderTexture, gunTexture, projectileTexture, backgroundTexture;
+    private TextureRegion attackerRegion, defenderRegion, gunRegion, projectileRegion;
+
+    /**
+     * Texture of the background, kept out of the atlas for its size, shared through the {@link AssetCache}.
+     */
+    private Texture backgroundTexture;
+
+    /**
+     * The {@link TextureAtlas} the sprites are taken from, or null if they are loaded from separate files.
+     * It is owned by the caller.
+     */
+    private final TextureAtlas atlas;
+
+    /**
+     * The paths of the assets this screen acquired from the {@link AssetCache}, released with it.
+     */
+    private final ArrayList<String> acquiredPaths = new ArrayList<>();
 
     /**
      * The {@link Arena} instance that manages the combat logic between the attacker and defender.
@@ -81,7 +102,7 @@ public class ArenaScreen implements Screen {
     private Stage stage;
 
     /**
-     * A {@link Skin} used for styling UI elements.
+     * A {@link Skin} used for styling UI elements, shared through the {@link AssetCache}.
      */
     private Skin skin;
 
@@ -140,11 +161,21 @@ public class ArenaScreen implements Screen {
      */
     private float pieceScaleFactor, healthBarScaleFactor;
 
+    /**
+     * The stats the health bars are scaled to, taken when the combat is created.
+     */
+    private final PieceStats stats;
+
     /**
      * {@link Logger} for logging screen switch and arena combat results.
      */
     private static final Logger logger = LoggerFactory.getLogger(ArenaScreen.class);
 
+    /**
+     * {@link FrameProfiler} for timing the drawing and the update of the arena.
+     */
+    private static final FrameProfiler profiler = FrameProfiler.getInstance();
+
     /**
      * Constructor for the class.
      *
@@ -153,29 +184,44 @@ public class ArenaScreen implements Screen {
      * @param game the main game instance
      */
     public ArenaScreen(PieceInfo attacker, PieceInfo defender, ChessGame game){
+        this(attacker, defender, game, null);
+    }
+
+    /**
+     * Constructor for the class, drawing the sprites from a texture atlas.
+     *
+     * @param attacker the attacking piece
+     * @param defender the attacked piece
+     * @param game the main game instance
+     * @param atlas the {@link TextureAtlas} holding the sprites, or null to load them from separate files
+     */
+    public ArenaScreen(PieceInfo attacker, PieceInfo defender, ChessGame game, TextureAtlas atlas){
         this.batch = new SpriteBatch();
-        this.arena = new Arena(attacker, defender);
+        this.atlas = atlas;
+        this.arena = new Arena(attacker, defender,
+            new TargetPoint(Gdx.graphics.getWidth() / 50f, Gdx.graphics.getHeight() / 50f));
         this.game = game;
         this.movementHandler = new PieceMovementHandler(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
-        attackerTexture = new Texture("chess_pieces/" + attacker.getName() + ".png");
-        defenderTexture = new Texture("chess_pieces/" + defender.getName() + ".png");
+        attackerRegion = findRegion(TextureLoader.PIECE_REGION_PREFIX + attacker.getName());
+        defenderRegion = findRegion(TextureLoader.PIECE_REGION_PREFIX + defender.getName());
 
-        gunTexture = new Texture("arena_textures/gun.png");
-        projectileTexture = new Texture("arena_textures/projectile.png");
-        backgroundTexture = new Texture("arena_textures/arena_background.png");
+        gunRegion = findRegion(TextureLoader.ARENA_REGION_PREFIX + "gun");
+        projectileRegion = findRegion(TextureLoader.ARENA_REGION_PREFIX + "projectile");
+        backgroundTexture = acquire(TextureLoader.ARENA_BACKGROUND_PATH, Texture.class);
 
         font = new BitmapFont();
         font.getData().setScale(3);
         font.setColor(1, 0, 0, 1);
         layout = new GlyphLayout();
 
-        skin = new Skin(Gdx.files.internal("uiskin.json"));
+        skin = acquire(TextureLoader.SKIN_PATH, Skin.class);
         stage = new Stage(new ScreenViewport());
 
         this.shapeRenderer = new ShapeRenderer();
 
         this.scoreBoardManager = ScoreBoardManager.getInstance();
+        this.stats = ConfigurationManager.getInstance().getStats();
 
         float screenWidth = Gdx.graphics.getWidth();
         float screenHeight = Gdx.graphics.getHeight();
@@ -286,20 +332,29 @@ public class ArenaScreen implements Screen {
         batch.begin();
         batch.draw(backgroundTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
-        List<Projectile> projectiles = arena.getProjectiles();
-        for (Projectile projectile : projectiles){
-            float projectileSize = 10 * pieceScaleFactor;
-            batch.draw(projectileTexture,
-                projectile.getPosition().getX() * 50,
-                projectile.getPosition().getY() * 50,
+        long drawStart = profiler.start();
+        ProjectilePool projectiles = arena.getProjectiles();
+        float projectileSize = 10 * pieceScaleFactor;
+        for (int i = 0; i < projectiles.size(); i++){
+            batch.draw(projectileRegion,
+                projectiles.getX(i) * 50,
+                projectiles.getY(i) * 50,
                 projectileSize, projectileSize);
         }
+        profiler.stop(FrameSection.PROJECTILE_DRAW, drawStart);
 
-        drawPiece(attackerTexture, arena.getAttacker().getPosition(), arena.getDefender().getPosition(), gunTexture, arena.getAttacker());
-        drawPiece(defenderTexture, arena.getDefender().getPosition(), arena.getAttacker().getPosition(), gunTexture, arena.getDefender());
+        drawPiece(attackerRegion, arena.getAttacker().getPosition(), arena.getDefender().getPosition(), gunRegion);
+        drawPiece(defenderRegion, arena.getDefender().getPosition(), arena.getAttacker().getPosition(), gunRegion);
 
         batch.end();
 
+        if (!combatOver){
+            drawStart = profiler.start();
+            drawHealthBar(arena.getAttacker());
+            drawHealthBar(arena.getDefender());
+            profiler.stop(FrameSection.HEALTH_BAR_DRAW, drawStart);
+        }
+
         batch.begin();
         if (!combatStarted){
             countdownTimer -= delta;
@@ -328,7 +383,9 @@ public class ArenaScreen implements Screen {
             stage.act(delta);
             stage.draw();
         } else {
+            long updateStart = profiler.start();
             arena.update(delta);
+            profiler.stop(FrameSection.ARENA_UPDATE, updateStart);
             if (combatStarted){
                 handleMovement();
             }
@@ -352,31 +409,58 @@ public class ArenaScreen implements Screen {
     }
 
     /**
-     * Removes all resources used by this screen, such as textures and fonts.
+     * Removes all resources used by this screen, such as fonts, and releases the shared textures and skin.
      */
     @Override
     public void dispose() {
         batch.dispose();
-        attackerTexture.dispose();
-        defenderTexture.dispose();
-        gunTexture.dispose();
+        shapeRenderer.dispose();
         font.dispose();
         stage.dispose();
-        if (skin != null) {
-            skin.dispose();
+        for (String path : acquiredPaths){
+            game.getAssets().release(path);
+        }
+        acquiredPaths.clear();
+    }
+
+    /**
+     * Acquires an asset from the {@link AssetCache} of the game, to be released when this screen is disposed.
+     * It is only loaded if the game screen does not hold it already.
+     *
+     * @param path the path of the asset, relative to the assets
+     * @param type the class of the asset
+     * @param <T> the type of the asset
+     * @return the asset
+     */
+    private <T> T acquire(String path, Class<T> type){
+        T asset = game.getAssets().acquire(path, type);
+        acquiredPaths.add(path);
+        return asset;
+    }
+
+    /**
+     * Finds a sprite in the atlas, or acquires it from its own file if there is no atlas.
+     *
+     * @param name the name of the region, the path of the file relative to the assets without extension
+     * @return the region of the sprite
+     */
+    private TextureRegion findRegion(String name){
+        TextureRegion region = (atlas != null) ? atlas.findRegion(name) : null;
+        if (region == null){
+            region = new TextureRegion(acquire(TextureLoader.texturePath(name), Texture.class));
         }
-        backgroundTexture.dispose();
+        return region;
     }
 
     /**
-     * Draws the chess piece, the associated gun and health bar at the specified location.
+     * Draws the chess piece and the associated gun at the specified location.
      *
-     * @param texture the texture of the chess piece
+     * @param region the region of the chess piece
      * @param position the position of the chess piece
      * @param targetPosition the position of the target piece
-     * @param gunTexture the texture of the gun
+     * @param gunRegion the region of the gun
      */
-    private void drawPiece(Texture texture, TargetPoint position, TargetPoint targetPosition, Texture gunTexture, PieceInfo piece){
+    private void drawPiece(TextureRegion region, TargetPoint position, TargetPoint targetPosition, TextureRegion gunRegion){
         if(position == null || targetPosition == null){
             return;
         }
@@ -384,7 +468,7 @@ public class ArenaScreen implements Screen {
         float pieceWidth = 50 * pieceScaleFactor;
         float pieceHeight = 50 * pieceScaleFactor;
 
-        batch.draw(texture,
+        batch.draw(region,
             position.getX() * 50,
             position.getY() * 50,
             pieceWidth / 2,
@@ -393,20 +477,14 @@ public class ArenaScreen implements Screen {
             pieceHeight,
             1,
             1,
-            0,
-            0,
-            0,
-            texture.getWidth(),
-            texture.getHeight(),
-            false,
-            false);
+            0);
 
         float angle = getGunAngle(targetPosition, position);
         float gunWidth =  10 * pieceWidth * 0.11f;
         float gunHeight = 10 * pieceHeight * 0.11f;
         float gunOffset = 5 * pieceScaleFactor;
 
-        batch.draw(gunTexture,
+        batch.draw(gunRegion,
             position.getX() * 50 + gunOffset - gunWidth / 2,
             position.getY() * 50 + gunOffset - gunHeight / 2,
             gunWidth / 2,
@@ -415,22 +493,8 @@ public class ArenaScreen implements Screen {
             gunHeight,
             1,
             1,
-            angle,
-            0,
-            0,
-            gunTexture.getWidth(),
-            gunTexture.getHeight(),
-            false,
-            false
+            angle
         );
-
-        batch.end();
-
-        if (!combatOver){
-            drawHealthBar(piece, position.getX() * 50, position.getY() * 50, pieceWidth, pieceHeight);
-        }
-
-        batch.begin();
     }
 
     /**
@@ -479,13 +543,21 @@ public class ArenaScreen implements Screen {
 
     /**
      * Draws health bar above specified piece.
+     * Called after the sprites are drawn, so the health bars do not break up the sprite batch.
      *
      * @param piece the piece whose health bar needs to be drawn
-     * @param x the x-coordinate of the health bar
-     * @param y the y-coordinate of the health bar
      */
-    private void drawHealthBar(PieceInfo piece, float x, float y, float pieceWidth, float pieceHeight){
-        float healthPercentage = (float) piece.getHp() / loadDefaultHp(piece.getPieceType());
+    private void drawHealthBar(PieceInfo piece){
+        TargetPoint position = piece.getPosition();
+        if (position == null){
+            return;
+        }
+        float x = position.getX() * 50;
+        float y = position.getY() * 50;
+        float pieceWidth = 50 * pieceScaleFactor;
+        float pieceHeight = 50 * pieceScaleFactor;
+
+        float healthPercentage = (float) piece.getHp() / stats.getHp(piece.getPieceType());
 
         float barWidth = Gdx.graphics.getWidth() * 0.1f; // 10% of screen width
         float barHeight = Gdx.graphics.getHeight() * 0.01f; // 1% of screen height
@@ -502,26 +574,4 @@ public class ArenaScreen implements Screen {
         shapeRenderer.rect(healthBarX, healthBarY, barWidth * healthPercentage, barHeight);
         shapeRenderer.end();
     }
-
-    /**
-     * Loads the default HP value for a given piece type from the configuration file.
-     *
-     * @param pieceType the type of the piece
-     * @return the HP value of the specified piece type
-     */
-    private int loadDefaultHp(PieceType pieceType){
-        Properties props =  new Properties();
-        FileHandle file = Gdx.files.internal("stats.cfg");
-
-        try {
-            props.load(file.reader());
-            String pieceTypeName = pieceType.toString();
-
-            return Integer.parseInt(props.getProperty(pieceTypeName + ".hp"));
-
-        }catch (IOException e){
-            Gdx.app.error("PieceInfo", "Error loading stats.cfg: " + e.getMessage());
-            return PieceInfo.getDefaultHp(pieceType);
-        }
-    }
 }
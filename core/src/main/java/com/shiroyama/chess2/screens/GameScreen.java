@@ -2,16 +2,24 @@ package com.shiroyama.chess2.screens;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.shiroyama.chess2.ChessGame;
+import com.shiroyama.chess2.arena.ArenaPolicy;
+import com.shiroyama.chess2.chessboard.engine.ComputerPlayer;
+import com.shiroyama.chess2.chessboard.engine.DuelOdds;
 import com.shiroyama.chess2.chessboard.model.ChessBoard;
 import com.shiroyama.chess2.chessboard.controller.GameState;
 import com.shiroyama.chess2.chessboard.model.TargetPoint;
@@ -19,10 +27,17 @@ import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
 import com.shiroyama.chess2.chessboard.pieces.PieceType;
 import com.shiroyama.chess2.chessboard.pieces.Team;
 import com.shiroyama.chess2.screens.dialog.PromotionDialog;
+import com.shiroyama.chess2.utils.AssetCache;
+import com.shiroyama.chess2.utils.ConfigurationManager;
+import com.shiroyama.chess2.utils.FrameProfiler;
+import com.shiroyama.chess2.utils.FrameSection;
 import com.shiroyama.chess2.utils.TextureLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
 
 /**
@@ -30,6 +45,7 @@ import java.util.HashMap;
  * Handles {@link com.shiroyama.chess2.chessboard.utils.AttackListener}, {@link com.shiroyama.chess2.chessboard.utils.PromotionListener},
  * rendering, updating the game state.
  * Manages UI elements, such as promotion button, transition to arena screen when an attack occurs.
+ * Depending on the {@link ArenaPolicy} of the game, captures may be decided on the board instead of in the arena.
  */
 public class GameScreen implements Screen {
 
@@ -43,6 +59,27 @@ public class GameScreen implements Screen {
      */
     private SpriteBatch batch;
 
+    /**
+     * The {@link TextureAtlas} the board and the arena are drawn from, or null if it was not packed.
+     */
+    private TextureAtlas atlas;
+
+    /**
+     * The {@link Skin} of the promotion dialogs and the game over message.
+     */
+    private Skin skin;
+
+    /**
+     * The paths of the assets this screen acquired from the {@link AssetCache}, besides the piece textures.
+     * Holding the arena assets for the whole game lets every {@link ArenaScreen} acquire them without loading them.
+     */
+    private final ArrayList<String> acquiredPaths = new ArrayList<>();
+
+    /**
+     * Indicates whether the resources of this screen were released.
+     */
+    private boolean disposed = false;
+
     /**
      * The {@link ChessBoard} instance representing the game board.
      */
@@ -94,11 +131,36 @@ public class GameScreen implements Screen {
      */
     private PieceInfo attackerPiece;
 
+    /**
+     * The time the computer may think about a move in milliseconds.
+     */
+    private static final long COMPUTER_BUDGET_MILLIS = 1000;
+
+    /**
+     * The team played by the computer, or null if both teams are played by users.
+     */
+    private Team computerTeam;
+
+    /**
+     * How the captures of the game are fought out.
+     */
+    private ArenaPolicy arenaPolicy = ArenaPolicy.INTERACTIVE;
+
+    /**
+     * Indicates whether the game over message is shown after a captured king.
+     */
+    private boolean showingGameOver = false;
+
     /**
      * {@link Logger} for logging screen switch.
      */
     private static final Logger logger = LoggerFactory.getLogger(GameScreen.class);
 
+    /**
+     * {@link FrameProfiler} for timing the drawing of the board.
+     */
+    private static final FrameProfiler profiler = FrameProfiler.getInstance();
+
     /**
      * Constructor for the class.
      */
@@ -106,6 +168,27 @@ public class GameScreen implements Screen {
         this.game = (ChessGame) Gdx.app.getApplicationListener();
     }
 
+    /**
+     * Constructor for a game against the computer.
+     *
+     * @param computerTeam the {@link Team} played by the computer
+     */
+    public GameScreen(Team computerTeam){
+        this();
+        this.computerTeam = computerTeam;
+    }
+
+    /**
+     * Constructor for a game with a chosen {@link ArenaPolicy}.
+     *
+     * @param computerTeam the {@link Team} played by the computer, or null if both teams are played by users
+     * @param arenaPolicy how the captures of the game are fought out
+     */
+    public GameScreen(Team computerTeam, ArenaPolicy arenaPolicy){
+        this(computerTeam);
+        this.arenaPolicy = arenaPolicy;
+    }
+
     /**
      * Called when this screen becomes the current screen for the game.
      * This method is part of the {@link Screen} interface and is invoked by the LibGDX framework
@@ -120,23 +203,40 @@ public class GameScreen implements Screen {
         centerX = (w - size) / 2;
         centerY = (h - size) / 2;
 
-        HashMap<String, Texture> textures = TextureLoader.loadPieceTextures();
-
-        board = new ChessBoard(size, textures);
+        AssetCache assets = game.getAssets();
+        atlas = TextureLoader.acquireAtlas(assets);
+        if (atlas != null){
+            acquiredPaths.add(TextureLoader.ATLAS_PATH);
+            board = new ChessBoard(size, atlas);
+        }else{
+            HashMap<String, Texture> textures = TextureLoader.acquirePieceTextures(assets);
+            board = new ChessBoard(size, textures);
+            acquire(TextureLoader.texturePath(TextureLoader.ARENA_REGION_PREFIX + "gun"), Texture.class);
+            acquire(TextureLoader.texturePath(TextureLoader.ARENA_REGION_PREFIX + "projectile"), Texture.class);
+        }
+        acquire(TextureLoader.ARENA_BACKGROUND_PATH, Texture.class);
+        skin = acquire(TextureLoader.SKIN_PATH, Skin.class);
         batch = new SpriteBatch();
 
         gameState = new GameState(size, board, centerX, centerY);
+        if (computerTeam != null){
+            gameState.setComputerPlayer(new ComputerPlayer(computerTeam, COMPUTER_BUDGET_MILLIS, loadDuelOdds()));
+        }
 
         stage = new Stage(new ScreenViewport());
 
         board.setPromotionListener((piece) -> {
 
+            if (gameState.isComputer(piece.getTeam())){
+                board.promotePiece(piece, gameState.getComputerPromotion());
+                return;
+            }
+
             showingDialog = true;
             promotingPiece = piece;
             Gdx.input.setInputProcessor(stage);
 
-            Skin skin = new Skin(Gdx.files.internal("uiskin.json"));
-            PromotionDialog promotionDialog = new PromotionDialog("", skin, "dialog", promotingPiece.getTeam());
+            PromotionDialog promotionDialog = new PromotionDialog("", skin, "dialog", promotingPiece.getTeam(), board);
 
             promotionDialog.show(stage);
             board.setPromoting(true);
@@ -147,7 +247,7 @@ public class GameScreen implements Screen {
                     if (actor instanceof ImageButton && showingDialog){
                         PieceType newType = determinePieceTypeFromButton(actor);
                         if (newType != null){
-                            promotingPiece.setPieceType(newType);
+                            board.promotePiece(promotingPiece, newType);
                             showingDialog = false;
                             board.setPromoting(false);
 
@@ -167,11 +267,13 @@ public class GameScreen implements Screen {
             attackerPiece = attacker;
 
             isInArena = true;
-            arenaScreen = new ArenaScreen(attacker, defender, game);
+            arenaScreen = new ArenaScreen(attacker, defender, game, atlas);
 
             logger.info("Arena combat starting.");
         });
 
+        board.setDuelResolver(arenaPolicy.createResolver(w / 50f, h / 50f, System.nanoTime()));
+
 
 
         Gdx.input.setInputProcessor(gameState);
@@ -191,10 +293,21 @@ public class GameScreen implements Screen {
         if (isInArena){
             arenaScreen.render(delta);
         }else{
+            if (!showingDialog){
+                gameState.update();
+            }
+            if (board.isGameOver() && !showingGameOver){
+                showGameOver();
+            }
+
+            long drawStart = profiler.start();
             board.draw(batch, centerX, centerY);
+            profiler.stop(FrameSection.BOARD_DRAW, drawStart);
+            drawStart = profiler.start();
             gameState.draw(batch);
+            profiler.stop(FrameSection.GAME_STATE_DRAW, drawStart);
 
-            if (showingDialog && stage != null){
+            if ((showingDialog || showingGameOver) && stage != null){
                 stage.act(delta);
                 stage.draw();
             }
@@ -215,16 +328,56 @@ public class GameScreen implements Screen {
     public void resume() {
     }
 
+    /**
+     * Called when another screen replaces the game, which is never shown again.
+     * The resources are released on the next frame, as the game may still be rendering the button that left it.
+     */
     @Override
     public void hide() {
+        Gdx.app.postRunnable(this::dispose);
     }
 
     /**
-     * Releases all resources used by this screen, such as batch.
+     * Releases all resources used by this screen, such as batch and the board texture,
+     * and the assets acquired from the {@link AssetCache}.
+     * Does nothing if they were already released.
      */
     @Override
     public void dispose() {
+        if (disposed){
+            return;
+        }
+        disposed = true;
+        if (arenaScreen != null){
+            arenaScreen.dispose();
+            arenaScreen = null;
+        }
         batch.dispose();
+        gameState.dispose();
+        board.dispose();
+        stage.dispose();
+        AssetCache assets = game.getAssets();
+        if (atlas == null){
+            TextureLoader.releasePieceTextures(assets);
+        }
+        for (String path : acquiredPaths){
+            assets.release(path);
+        }
+        acquiredPaths.clear();
+    }
+
+    /**
+     * Acquires an asset from the {@link AssetCache} of the game, to be released when this screen is disposed.
+     *
+     * @param path the path of the asset, relative to the assets
+     * @param type the class of the asset
+     * @param <T> the type of the asset
+     * @return the asset
+     */
+    private <T> T acquire(String path, Class<T> type){
+        T asset = game.getAssets().acquire(path, type);
+        acquiredPaths.add(path);
+        return asset;
     }
 
     /**
@@ -236,27 +389,31 @@ public class GameScreen implements Screen {
      */
     public void exitArena(PieceInfo winner, PieceInfo loser){
         isInArena = false;
+        // Called from the arena's own button, so it is disposed once it has finished rendering.
+        ArenaScreen finishedArena = arenaScreen;
+        arenaScreen = null;
+        Gdx.app.postRunnable(finishedArena::dispose);
 
         logger.info("Arena combat ended.");
-        if (winner == null){
-            board.pieces[(int)originalAttackerPosition.getX()][(int)originalAttackerPosition.getY()] = null;
-
-        }else{
-            board.pieces[(int)originalAttackerPosition.getX()][(int)originalAttackerPosition.getY()] = null;
-            board.pieces[(int)originalDefenderPosition.getX()][(int)originalDefenderPosition.getY()] = winner;
-            winner.setPosition(originalDefenderPosition);
+        board.resolveAttack(originalAttackerPosition, originalDefenderPosition, winner);
 
+        if (winner != null){
             if (attackerPiece == winner &&
                 ((winner.getTeam() == Team.WHITE && winner.getPosition().getY() == 0 && winner.getPieceType() == PieceType.PAWN)
                 || (winner.getTeam() == Team.BLACK && winner.getPosition().getY() == 7 && winner.getPieceType() == PieceType.PAWN))){
 
+                if (gameState.isComputer(winner.getTeam())){
+                    board.promotePiece(winner, gameState.getComputerPromotion());
+                    Gdx.input.setInputProcessor(gameState);
+                    return;
+                }
+
                 showingDialog = true;
                 promotingPiece = winner;
 
                 Gdx.input.setInputProcessor(stage);
 
-                Skin skin = new Skin(Gdx.files.internal("uiskin.json"));
-                PromotionDialog promotionDialog = new PromotionDialog("", skin, "dialog", promotingPiece.getTeam());
+                PromotionDialog promotionDialog = new PromotionDialog("", skin, "dialog", promotingPiece.getTeam(), board);
 
                 promotionDialog.show(stage);
 
@@ -270,7 +427,7 @@ public class GameScreen implements Screen {
                             logger.info("Showing promotion dialog menu.");
                             PieceType newType = determinePieceTypeFromButton(actor);
                             if (newType != null){
-                                promotingPiece.setPieceType(newType);
+                                board.promotePiece(promotingPiece, newType);
                                 showingDialog = false;
                                 board.setPromoting(false);
 
@@ -288,6 +445,71 @@ public class GameScreen implements Screen {
         }
     }
 
+    /**
+     * Shows the winning team and the buttons leading back to the menu or to the scoreboard,
+     * when a king was captured without the arena screen.
+     */
+    private void showGameOver(){
+        showingGameOver = true;
+
+        Team winningTeam = board.getWinningTeam();
+        Team losingTeam = (winningTeam == Team.WHITE) ? Team.BLACK : Team.WHITE;
+        logger.info("{} king captured, {} team won.", losingTeam, winningTeam);
+
+        Label message = new Label(losingTeam + " KING DIED\n" + winningTeam + " TEAM WON!", skin);
+        message.setFontScale(3);
+        message.setColor(1, 0, 0, 1);
+
+        TextButton menuButton = new TextButton("Return to Menu", skin);
+        menuButton.addListener(new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent changeEvent, Actor actor) {
+                game.create();
+                logger.info("Menu button clicked, returning to menu screen.");
+            }
+        });
+
+        TextButton scoreButton = new TextButton("Scoreboard", skin);
+        scoreButton.addListener(new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent changeEvent, Actor actor) {
+                game.setScreen(new ScoreBoardScreen(game));
+                logger.info("Scoreboard button clicked, changing the screen to scoreboard screen.");
+            }
+        });
+
+        Table table = new Table();
+        table.setFillParent(true);
+        table.center();
+        table.add(message).pad(20);
+        table.row();
+        table.add(menuButton).width(Gdx.graphics.getWidth() * 0.3f).height(60).pad(10);
+        table.row();
+        table.add(scoreButton).width(Gdx.graphics.getWidth() * 0.3f).height(60).pad(10);
+
+        stage.addActor(table);
+        Gdx.input.setInputProcessor(stage);
+    }
+
+    /**
+     * Loads the duel odds simulated offline from {@link DuelOdds#FILE_NAME}.
+     * If the file is missing or corrupted, the odds are estimated from the configured attack rates.
+     *
+     * @return the {@link DuelOdds} used by the computer player
+     */
+    private DuelOdds loadDuelOdds() {
+        FileHandle file = Gdx.files.internal(DuelOdds.FILE_NAME);
+        if (file.exists()) {
+            try (InputStream in = file.read()) {
+                return DuelOdds.load(in);
+            } catch (IOException e) {
+                logger.error("Error loading {}: {}", DuelOdds.FILE_NAME, e.getMessage());
+            }
+        }
+
+        return DuelOdds.analytic(ConfigurationManager.getInstance().getStats().getAttackRateArray());
+    }
+
     /**
      * Determines the type of piece to promote a pawn to based on a clicked button in the promotion dialog.
      *
@@ -0,0 +1,128 @@
+package com.shiroyama.chess2.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.shiroyama.chess2.ChessGame;
+import com.shiroyama.chess2.utils.AssetCache;
+import com.shiroyama.chess2.utils.TextureLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Represents the {@link Screen} shown while the assets of the game are loaded at startup.
+ * The images and the skin are decoded on a background thread by the {@link AssetCache}, and uploaded to the GPU
+ * a few at a time each frame, so the window keeps responding while a progress bar fills.
+ * Switches to the {@link MenuScreen} once everything is loaded.
+ */
+public class LoadingScreen implements Screen {
+
+    /**
+     * The time spent uploading assets per frame in milliseconds, short enough to keep the window responsive.
+     */
+    private static final int FRAME_BUDGET_MILLIS = 10;
+
+    /**
+     * The main game instance that manages screen transitions and game logic.
+     */
+    private final ChessGame game;
+
+    /**
+     * A {@link ShapeRenderer} used for drawing the progress bar.
+     */
+    private ShapeRenderer shapeRenderer;
+
+    /**
+     * The time the loading started, from {@link System#nanoTime()}.
+     */
+    private long startTime;
+
+    /**
+     * {@link Logger} for logging the loading time.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(LoadingScreen.class);
+
+    /**
+     * Constructor for the class.
+     *
+     * @param game the main game instance
+     */
+    public LoadingScreen(ChessGame game) {
+        this.game = game;
+    }
+
+    /**
+     * Called when this screen becomes the current screen for the game.
+     * Queues the assets of the game to be loaded.
+     */
+    @Override
+    public void show() {
+        shapeRenderer = new ShapeRenderer();
+        startTime = System.nanoTime();
+        TextureLoader.preloadGameAssets(game.getAssets());
+    }
+
+    /**
+     * Loads the queued assets for a frame and draws the progress bar,
+     * or switches to the {@link MenuScreen} if the loading finished.
+     *
+     * @param delta the time in seconds since the last frame
+     */
+    @Override
+    public void render(float delta) {
+        AssetCache assets = game.getAssets();
+        if (assets.update(FRAME_BUDGET_MILLIS)) {
+            logger.info("Assets loaded in {} ms.", (System.nanoTime() - startTime) / 1_000_000);
+            game.setScreen(new MenuScreen(game));
+            return;
+        }
+
+        Gdx.gl.glClearColor(0.1f, 0.1f, 0.1f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        float barWidth = Gdx.graphics.getWidth() * 0.5f;
+        float barHeight = Gdx.graphics.getHeight() * 0.03f;
+        float barX = (Gdx.graphics.getWidth() - barWidth) / 2;
+        float barY = (Gdx.graphics.getHeight() - barHeight) / 2;
+
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(0.5f, 0.5f, 0.5f, 1);
+        shapeRenderer.rect(barX, barY, barWidth, barHeight);
+        shapeRenderer.setColor(0, 1, 0, 1);
+        shapeRenderer.rect(barX, barY, barWidth * assets.getProgress(), barHeight);
+        shapeRenderer.end();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+    }
+
+    @Override
+    public void pause() {
+    }
+
+    @Override
+    public void resume() {
+    }
+
+    /**
+     * Called when the menu replaces this screen, which is never shown again.
+     */
+    @Override
+    public void hide() {
+        dispose();
+    }
+
+    /**
+     * Releases all resources used by this screen.
+     * The loaded assets stay in the {@link AssetCache}.
+     */
+    @Override
+    public void dispose() {
+        if (shapeRenderer != null) {
+            shapeRenderer.dispose();
+            shapeRenderer = null;
+        }
+    }
+}
@@ -13,14 +13,17 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.shiroyama.chess2.ChessGame;
+import com.shiroyama.chess2.arena.ArenaPolicy;
 import com.shiroyama.chess2.chessboard.model.ChessBoard;
+import com.shiroyama.chess2.chessboard.pieces.Team;
+import com.shiroyama.chess2.utils.TextureLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Represents the main menu screen of the chess game.
- * This screen provides options for starting a local game, accessing settings,
- * or exiting the application.
+ * This screen provides options for starting a local game, a game against the computer, choosing how
+ * captures are fought out, accessing settings, or exiting the application.
  */
 public class MenuScreen implements Screen {
 
@@ -44,6 +47,16 @@ public class MenuScreen implements Screen {
      */
     private Skin skin;
 
+    /**
+     * The {@link ArenaPolicy} of the games started from the menu.
+     */
+    private ArenaPolicy arenaPolicy = ArenaPolicy.INTERACTIVE;
+
+    /**
+     * Indicates whether the resources of this screen were released.
+     */
+    private boolean disposed = false;
+
     /**
      * {@link Logger} for logging button clicks.
      */
@@ -69,13 +82,17 @@ public class MenuScreen implements Screen {
         stage = new Stage();
         Gdx.input.setInputProcessor(stage);
 
-        skin = new Skin(Gdx.files.internal("uiskin.json"));
+        skin = chessGame.getAssets().acquire(TextureLoader.SKIN_PATH, Skin.class);
 
         TextButton playButton = new TextButton("Play", skin);
+        TextButton computerButton = new TextButton("Play vs Computer", skin);
+        TextButton arenaButton = new TextButton("Arena: " + arenaPolicy.getDisplayName(), skin);
         TextButton settingsButton = new TextButton("Settings", skin);
         TextButton exitButton = new TextButton("Exit", skin);
 
         playButton.getLabel().setFontScale(2);
+        computerButton.getLabel().setFontScale(2);
+        arenaButton.getLabel().setFontScale(2);
         settingsButton.getLabel().setFontScale(2);
         exitButton.getLabel().setFontScale(2);
 
@@ -83,7 +100,24 @@ public class MenuScreen implements Screen {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 logger.info("Play button clicked.");
-                chessGame.setScreen(new GameScreen());
+                chessGame.setScreen(new GameScreen(null, arenaPolicy));
+            }
+        });
+
+        computerButton.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                logger.info("Play vs Computer button clicked.");
+                chessGame.setScreen(new GameScreen(Team.BLACK, arenaPolicy));
+            }
+        });
+
+        arenaButton.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                arenaPolicy = arenaPolicy.next();
+                arenaButton.setText("Arena: " + arenaPolicy.getDisplayName());
+                logger.info("Arena policy set to {}.", arenaPolicy);
             }
         });
 
@@ -100,7 +134,6 @@ public class MenuScreen implements Screen {
             public void changed(ChangeEvent changeEvent, Actor actor) {
                 logger.info("Settings button clicked.");
                 chessGame.setScreen(new SettingsScreen(chessGame));
-                dispose();
             }
         });
 
@@ -111,6 +144,12 @@ public class MenuScreen implements Screen {
         table.add(playButton).fillX().uniformX().pad(10);
         table.row().pad(10);
 
+        table.add(computerButton).fillX().uniformX().pad(10);
+        table.row().pad(10);
+
+        table.add(arenaButton).fillX().uniformX().pad(10);
+        table.row().pad(10);
+
         table.add(settingsButton).fillX().uniformX().pad(10);
         table.row().pad(10);
 
@@ -151,17 +190,27 @@ public class MenuScreen implements Screen {
     public void resume() {
     }
 
+    /**
+     * Called when another screen replaces the menu, which is never shown again.
+     * The resources are released on the next frame, as the menu may still be rendering the button that left it.
+     */
     @Override
     public void hide() {
+        Gdx.app.postRunnable(this::dispose);
     }
 
     /**
      * Releases all resources used by this screen, such as textures, fonts, and stages.
+     * Does nothing if they were already released.
      */
     @Override
     public void dispose() {
+        if (disposed) {
+            return;
+        }
+        disposed = true;
         batch.dispose();
         stage.dispose();
-        skin.dispose();
+        chessGame.getAssets().release(TextureLoader.SKIN_PATH);
     }
 }
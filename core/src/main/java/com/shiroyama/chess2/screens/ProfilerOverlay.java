@@ -0,0 +1,125 @@
+package com.shiroyama.chess2.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Disposable;
+import com.shiroyama.chess2.utils.FrameProfiler;
+
+/**
+ * Draws the frame timings of the {@link FrameProfiler} over the current screen.
+ * The text is rebuilt a few times per second, so the overlay itself barely shows up in the timings.
+ * The batch and the font are created when the overlay is first drawn.
+ */
+public class ProfilerOverlay implements Disposable {
+
+    /**
+     * The time between two rebuilds of the text in seconds.
+     */
+    private static final float REFRESH_INTERVAL = 0.25f;
+
+    /**
+     * The distance of the text from the top left corner of the window in pixels.
+     */
+    private static final float MARGIN = 10f;
+
+    /**
+     * The profiler whose timings are shown.
+     */
+    private final FrameProfiler profiler;
+
+    /**
+     * A {@link SpriteBatch} used for drawing the text.
+     */
+    private SpriteBatch batch;
+
+    /**
+     * The font of the text.
+     */
+    private BitmapFont font;
+
+    /**
+     * The shown text, rebuilt every {@link #REFRESH_INTERVAL}.
+     */
+    private final StringBuilder text = new StringBuilder();
+
+    /**
+     * The time since the text was rebuilt in seconds.
+     */
+    private float sinceRefresh = REFRESH_INTERVAL;
+
+    /**
+     * Flag indicating whether the overlay is drawn.
+     */
+    private boolean visible;
+
+    /**
+     * Constructor for the class.
+     *
+     * @param profiler the profiler whose timings are shown
+     */
+    public ProfilerOverlay(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Checks if the overlay is drawn.
+     *
+     * @return true if the overlay is drawn, false otherwise
+     */
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * Shows or hides the overlay.
+     *
+     * @param visible true to draw the overlay
+     */
+    public void setVisible(boolean visible) {
+        this.visible = visible;
+        sinceRefresh = REFRESH_INTERVAL;
+    }
+
+    /**
+     * Draws the timings over the current screen if the overlay is visible.
+     *
+     * @param delta the time in seconds since the last frame
+     */
+    public void draw(float delta) {
+        if (!visible) {
+            return;
+        }
+        if (batch == null) {
+            batch = new SpriteBatch();
+            font = new BitmapFont();
+            font.setColor(1, 1, 0, 1);
+        }
+
+        sinceRefresh += delta;
+        if (sinceRefresh >= REFRESH_INTERVAL) {
+            sinceRefresh = 0f;
+            text.setLength(0);
+            text.append(Gdx.graphics.getFramesPerSecond()).append(" fps\n");
+            profiler.appendSummary(text);
+        }
+
+        batch.getProjectionMatrix().setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        batch.begin();
+        font.draw(batch, text, MARGIN, Gdx.graphics.getHeight() - MARGIN);
+        batch.end();
+    }
+
+    /**
+     * Releases the batch and the font, if they were created.
+     */
+    @Override
+    public void dispose() {
+        if (batch != null) {
+            batch.dispose();
+            font.dispose();
+            batch = null;
+            font = null;
+        }
+    }
+}
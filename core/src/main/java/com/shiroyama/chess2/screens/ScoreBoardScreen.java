@@ -13,6 +13,7 @@ import com.shiroyama.chess2.chessboard.controller.GameState;
 import com.shiroyama.chess2.chessboard.pieces.PieceType;
 import com.shiroyama.chess2.chessboard.pieces.Team;
 import com.shiroyama.chess2.utils.ScoreBoardManager;
+import com.shiroyama.chess2.utils.TextureLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,7 +57,7 @@ public class ScoreBoardScreen implements Screen {
     public ScoreBoardScreen(ChessGame game) {
         this.game = game;
         this.stage = new Stage(new ScreenViewport());
-        this.skin = new Skin(Gdx.files.internal("uiskin.json"));
+        this.skin = game.getAssets().acquire(TextureLoader.SKIN_PATH, Skin.class);
         this.scoreBoardManager = ScoreBoardManager.getInstance();
 
         createUI();
@@ -161,6 +162,6 @@ public class ScoreBoardScreen implements Screen {
     @Override
     public void dispose() {
         stage.dispose();
-        skin.dispose();
+        game.getAssets().release(TextureLoader.SKIN_PATH);
     }
 }
@@ -12,6 +12,7 @@ import com.shiroyama.chess2.ChessGame;
 import com.shiroyama.chess2.chessboard.controller.GameState;
 import com.shiroyama.chess2.chessboard.pieces.PieceType;
 import com.shiroyama.chess2.utils.ConfigurationManager;
+import com.shiroyama.chess2.utils.TextureLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -83,7 +84,7 @@ public class SettingsScreen implements Screen {
     public SettingsScreen(ChessGame game) {
         this.game = game;
         this.stage = new Stage(new ScreenViewport());
-        this.skin = new Skin(Gdx.files.internal("uiskin.json"));
+        this.skin = game.getAssets().acquire(TextureLoader.SKIN_PATH, Skin.class);
         this.configurationManager = ConfigurationManager.getInstance();
 
         createUI();
@@ -338,6 +339,6 @@ public class SettingsScreen implements Screen {
     @Override
     public void dispose() {
         stage.dispose();
-        skin.dispose();
+        game.getAssets().release(TextureLoader.SKIN_PATH);
     }
 }
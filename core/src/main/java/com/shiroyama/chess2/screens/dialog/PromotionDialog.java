@@ -1,12 +1,10 @@
 package com.shiroyama.chess2.screens.dialog;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.ui.Dialog;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.shiroyama.chess2.chessboard.model.ChessBoard;
 import com.shiroyama.chess2.chessboard.pieces.PieceType;
 import com.shiroyama.chess2.chessboard.pieces.Team;
 
@@ -19,27 +17,25 @@ public class PromotionDialog extends Dialog {
 
     /**
      * Constructor for the class.
-     * Creates {@link ImageButton} for each higher-ranking piece (e.g., queen, rook, knight, or bishop).
+     * Creates {@link ImageButton} for each higher-ranking piece (e.g., queen, rook, knight, or bishop),
+     * drawn from the regions of the board so no texture is loaded for the dialog.
      *
      * @param title the title of the dialog
      * @param skin the {@link Skin} used for styling the dialog
      * @param windowStyleName the name of the style to apply to the dialog menu
      * @param team the {@link Team} of the player whose pawn is being promoted
+     * @param board the {@link ChessBoard} the pieces are drawn from
      */
-    public PromotionDialog(String title, Skin skin, String windowStyleName, Team team){
+    public PromotionDialog(String title, Skin skin, String windowStyleName, Team team, ChessBoard board){
         super(title, skin, windowStyleName);
 
-        Texture texture = new Texture(Gdx.files.internal("chess_pieces/"
-            + team.toString().toLowerCase() + "-queen.png"));
-        TextureRegionDrawable drawable = new TextureRegionDrawable(new TextureRegion(texture));
-
-        ImageButton queenButton = new ImageButton(createDrawable(team, PieceType.QUEEN));
+        ImageButton queenButton = new ImageButton(createDrawable(board, team, PieceType.QUEEN));
         queenButton.setName("queen");
-        ImageButton rookButton = new ImageButton(createDrawable(team, PieceType.ROOK));
+        ImageButton rookButton = new ImageButton(createDrawable(board, team, PieceType.ROOK));
         rookButton.setName("rook");
-        ImageButton knightButton = new ImageButton(createDrawable(team, PieceType.KNIGHT));
+        ImageButton knightButton = new ImageButton(createDrawable(board, team, PieceType.KNIGHT));
         knightButton.setName("knight");
-        ImageButton bishopButton = new ImageButton(createDrawable(team, PieceType.BISHOP));
+        ImageButton bishopButton = new ImageButton(createDrawable(board, team, PieceType.BISHOP));
         bishopButton.setName("bishop");
 
         button(queenButton);
@@ -60,13 +56,13 @@ public class PromotionDialog extends Dialog {
     /**
      * Creates a {@link TextureRegionDrawable} for a specific team and piece type.
      *
+     * @param board the {@link ChessBoard} the pieces are drawn from
      * @param team the team of the promoting piece
      * @param pieceType the {@link PieceType} of the promoting piece
-     * @return a {@link TextureRegionDrawable} containing the texture for the specified team and piece type.
+     * @return a {@link TextureRegionDrawable} containing the region for the specified team and piece type.
      */
-    private TextureRegionDrawable createDrawable(Team team, PieceType pieceType){
-        Texture texture = new Texture(Gdx.files.internal("chess_pieces/"
-            + team.toString().toLowerCase() + "-" + pieceType.toString().toLowerCase() + ".png"));
-        return new TextureRegionDrawable(new TextureRegion(texture));
+    private TextureRegionDrawable createDrawable(ChessBoard board, Team team, PieceType pieceType){
+        return new TextureRegionDrawable(board.getPieceRegion(team.toString().toLowerCase()
+            + "-" + pieceType.toString().toLowerCase()));
     }
 }
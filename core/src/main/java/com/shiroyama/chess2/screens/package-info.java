@@ -8,6 +8,8 @@
  *
  * <p>Key components include:
  * <ul>
+ *   <li>{@link com.shiroyama.chess2.screens.LoadingScreen} - Loads the textures and the skin in the
+ *       background at startup while showing a progress bar</li>
  *   <li>{@link com.shiroyama.chess2.screens.MenuScreen} - The main menu interface
  *       providing options to start a game, access settings, or exit</li>
  *   <li>{@link com.shiroyama.chess2.screens.GameScreen} - Manages the chess board
@@ -18,6 +20,8 @@
  *       for configuring game options, piece stats, and display settings</li>
  *   <li>{@link com.shiroyama.chess2.screens.ScoreBoardScreen} - Displays game
  *       statistics including move counts and captured pieces</li>
+ *   <li>{@link com.shiroyama.chess2.screens.ProfilerOverlay} - Draws the frame timings over the current
+ *       screen when turned on with F3</li>
  * </ul>
  *
  * <p>The screens package uses LibGDX's screen management system to handle
@@ -0,0 +1,120 @@
+package com.shiroyama.chess2.utils;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Reference-counted cache of the textures, atlases and skins shared by the screens, built on {@link AssetManager}.
+ * Every {@link #acquire(String, Class)} must be paired with a {@link #release(String)}; an asset is loaded by its
+ * first acquire and disposed when its last holder releases it. A screen that keeps an asset acquired for its whole
+ * lifetime lets the screens it opens acquire and release the same asset for free.
+ */
+public class AssetCache implements Disposable {
+
+    /**
+     * The {@link AssetManager} loading and counting the assets.
+     */
+    private final AssetManager manager;
+
+    /**
+     * Constructor for the class, loading the assets from the internal files.
+     */
+    public AssetCache() {
+        this(new AssetManager());
+    }
+
+    /**
+     * Constructor for the class.
+     *
+     * @param manager the {@link AssetManager} loading the assets
+     */
+    public AssetCache(AssetManager manager) {
+        this.manager = manager;
+    }
+
+    /**
+     * Gets an asset, loading it if no one holds it yet, and adds a reference to it.
+     * Blocks until the asset is loaded, finishing any other queued loads first.
+     *
+     * @param path the path of the asset, relative to the assets
+     * @param type the class of the asset, such as {@link com.badlogic.gdx.graphics.Texture}
+     * @param <T> the type of the asset
+     * @return the asset
+     * @throws com.badlogic.gdx.utils.GdxRuntimeException if the asset cannot be loaded
+     */
+    public synchronized <T> T acquire(String path, Class<T> type) {
+        manager.load(path, type);
+        manager.finishLoading();
+        return manager.get(path, type);
+    }
+
+    /**
+     * Queues an asset to be loaded by {@link #update()}, adding a reference to it.
+     *
+     * @param path the path of the asset, relative to the assets
+     * @param type the class of the asset
+     * @param <T> the type of the asset
+     */
+    public synchronized <T> void preload(String path, Class<T> type) {
+        manager.load(path, type);
+    }
+
+    /**
+     * Loads the queued assets for a while, without blocking for the whole queue.
+     *
+     * @param millis the time to spend loading in milliseconds
+     * @return true if every queued asset is loaded, false otherwise
+     */
+    public synchronized boolean update(int millis) {
+        return manager.update(millis);
+    }
+
+    /**
+     * Gets how much of the queued assets is loaded.
+     *
+     * @return the progress between 0 and 1
+     */
+    public synchronized float getProgress() {
+        return manager.getProgress();
+    }
+
+    /**
+     * Removes a reference to an asset, disposing it when the last reference is removed.
+     * Does nothing if the asset is not held.
+     *
+     * @param path the path of the asset, relative to the assets
+     */
+    public synchronized void release(String path) {
+        if (manager.contains(path) || manager.isLoaded(path)) {
+            manager.unload(path);
+        }
+    }
+
+    /**
+     * Checks whether an asset is loaded.
+     *
+     * @param path the path of the asset, relative to the assets
+     * @return true if the asset is loaded, false otherwise
+     */
+    public synchronized boolean isLoaded(String path) {
+        return manager.isLoaded(path);
+    }
+
+    /**
+     * Gets the number of references to a loaded asset.
+     *
+     * @param path the path of the asset, relative to the assets
+     * @return the number of references, 0 if the asset is not loaded
+     */
+    public synchronized int getReferenceCount(String path) {
+        return manager.isLoaded(path) ? manager.getReferenceCount(path) : 0;
+    }
+
+    /**
+     * Disposes every asset, whoever holds it.
+     */
+    @Override
+    public synchronized void dispose() {
+        manager.dispose();
+    }
+}
@@ -7,6 +7,7 @@ import com.shiroyama.chess2.chessboard.pieces.PieceType;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.Reader;
 import java.util.Properties;
 
 /**
@@ -22,15 +23,22 @@ public class ConfigurationManager {
     private static ConfigurationManager instance;
 
     /**
-     * A {@link Properties} object used to store and manage chess piece stats (HP and attack rate).
+     * The current snapshot of the chess piece stats (HP and attack rate).
+     * Replaced as a whole when the stats change, so readers on any thread see either the old or the new stats.
+     * Writers hold the lock of the manager, as the render thread and the {@link StatsFileWatcher} both replace it.
      */
-    private Properties properties;
+    private volatile PieceStats stats;
 
     /**
      * The file path for the configuration file containing chess piece stats.
      */
     private final String configFilePath = "stats.cfg";
 
+    /**
+     * The {@link StatsFileWatcher} reloading the stats when the configuration file changes, or null if not watching.
+     */
+    private StatsFileWatcher statsWatcher;
+
     /**
      * A {@link Preferences} object used to store and manage graphical preferences.
      */
@@ -41,8 +49,7 @@ public class ConfigurationManager {
      * Initializes the configuration by loading the stats file and setting default graphical preferences.
      */
     private ConfigurationManager() {
-        properties = new Properties();
-        loadConfiguration();
+        stats = loadConfiguration();
 
         graphicalPreferences = Gdx.app.getPreferences("chess2-settings");
 
@@ -75,75 +82,94 @@ public class ConfigurationManager {
 
     /**
      * Loads the chess piece stats from the configuration file ({@code stats.cfg}).
-     * If the file is missing or corrupted, default values are initialized.
+     * If the file is missing or corrupted, the default stats are saved to the configuration file.
+     *
+     * @return the loaded stats
      */
-    private void loadConfiguration() {
+    private PieceStats loadConfiguration() {
         FileHandle file = Gdx.files.internal(configFilePath);
-        try {
-            properties.load(file.reader());
+        Properties properties = new Properties();
+        try (Reader reader = file.reader()) {
+            properties.load(reader);
+            return PieceStats.fromProperties(properties);
         } catch (IOException e) {
             Gdx.app.error("ConfigurationManager", "Error loading stats.cfg: " + e.getMessage());
-            initializeDefaultProperties();
+            stats = PieceStats.defaults();
+            saveConfiguration();
+            return stats;
         }
     }
 
     /**
-     * Initializes default values for all chess piece stats (HP and attack rate).
-     * These values are saved to the configuration file if no existing configuration is found.
+     * Gets the current snapshot of the chess piece stats.
+     * The snapshot never changes, later changes of the stats replace it.
+     *
+     * @return the {@link PieceStats}
+     */
+    public PieceStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Replaces the chess piece stats with a new snapshot, for example one reloaded by the {@link StatsFileWatcher}.
+     * Pieces created afterwards get the new stats, pieces already on the board keep theirs.
+     *
+     * @param newStats the new {@link PieceStats}
      */
-    private void initializeDefaultProperties() {
-        for (PieceType pieceType : PieceType.values()) {
-            String type = pieceType.toString();
-            switch (pieceType) {
-                case PAWN:
-                    properties.setProperty(type + ".hp", "1");
-                    properties.setProperty(type + ".attackRate", "1.0");
-                    break;
-                case KNIGHT:
-                    properties.setProperty(type + ".hp", "10");
-                    properties.setProperty(type + ".attackRate", "1.5");
-                    break;
-                case BISHOP:
-                    properties.setProperty(type + ".hp", "3");
-                    properties.setProperty(type + ".attackRate", "2.5");
-                    break;
-                case ROOK:
-                    properties.setProperty(type + ".hp", "10");
-                    properties.setProperty(type + ".attackRate", "2.0");
-                    break;
-                case QUEEN:
-                    properties.setProperty(type + ".hp", "15");
-                    properties.setProperty(type + ".attackRate", "3.0");
-                    break;
-                case KING:
-                    properties.setProperty(type + ".hp", "20");
-                    properties.setProperty(type + ".attackRate", "1.0");
-                    break;
-            }
+    public synchronized void publishStats(PieceStats newStats) {
+        stats = newStats;
+    }
+
+    /**
+     * Starts reloading the chess piece stats whenever the configuration file changes.
+     * Does nothing if already watching, or if the file cannot be watched on this platform.
+     */
+    public synchronized void startWatching() {
+        if (statsWatcher != null) {
+            return;
+        }
+        try {
+            StatsFileWatcher watcher = new StatsFileWatcher(Gdx.files.local(configFilePath).file().toPath(), this::publishStats);
+            watcher.start();
+            statsWatcher = watcher;
+        } catch (IOException | RuntimeException e) {
+            Gdx.app.error("ConfigurationManager", "Cannot watch stats.cfg: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops reloading the chess piece stats when the configuration file changes.
+     * The watcher is stopped outside the lock, as its thread may be waiting for it in {@link #publishStats(PieceStats)}.
+     */
+    public void stopWatching() {
+        StatsFileWatcher watcher;
+        synchronized (this) {
+            watcher = statsWatcher;
+            statsWatcher = null;
+        }
+        if (watcher != null) {
+            watcher.stop();
         }
-        saveConfiguration();
     }
 
     /**
      * Retrieves the HP value for the specified chess {@link PieceType}.
      *
      * @param pieceType the {@link PieceType} of the piece
-     * @return the HP value for the specified {@link PieceType}, or 1 if the value is not found
+     * @return the HP value for the specified {@link PieceType}
      */
     public int getHp(PieceType pieceType) {
-        String value = properties.getProperty(pieceType.toString() + ".hp");
-        return value != null ? Integer.parseInt(value) : 1;
+        return stats.getHp(pieceType);
     }
 
     /**
      * Retrieves the attack rate for the specified chess {@link PieceType}.
      *
      * @param pieceType the {@link PieceType} of the piece
-     * @return the attack rate for the specified {@link PieceType}, or 1.0 if the value is not found
+     * @return the attack rate for the specified {@link PieceType}
      */
     public float getAttackRate(PieceType pieceType) {
-        String value = properties.getProperty(pieceType.toString() + ".attackRate");
-        return value != null ? Float.parseFloat(value) : 1.0f;
+        return stats.getAttackRate(pieceType);
     }
 
     /**
@@ -152,8 +178,8 @@ public class ConfigurationManager {
      * @param pieceType the {@link PieceType} of the piece
      * @param hp the new hp value for the specified {@link PieceType}
      */
-    public void setHp(PieceType pieceType, int hp) {
-        properties.setProperty(pieceType.toString() + ".hp", String.valueOf(hp));
+    public synchronized void setHp(PieceType pieceType, int hp) {
+        stats = stats.withHp(pieceType, hp);
     }
 
     /**
@@ -162,8 +188,8 @@ public class ConfigurationManager {
      * @param pieceType the {@link PieceType} of the piece
      * @param attackRate the new attack rate for the specified {@link PieceType}
      */
-    public void setAttackRate(PieceType pieceType, float attackRate) {
-        properties.setProperty(pieceType.toString() + ".attackRate", String.valueOf(attackRate));
+    public synchronized void setAttackRate(PieceType pieceType, float attackRate) {
+        stats = stats.withAttackRate(pieceType, attackRate);
     }
 
     /**
@@ -173,7 +199,7 @@ public class ConfigurationManager {
         try {
             FileHandle file = Gdx.files.local(configFilePath);
             OutputStream out = file.write(false);
-            properties.store(out, "Chess Piece Stats Configuration");
+            stats.toProperties().store(out, "Chess Piece Stats Configuration");
             out.close();
 
             saveGraphicsConfiguration();
@@ -184,10 +210,10 @@ public class ConfigurationManager {
 
     /**
      * Reloads the chess piece stats from the configuration file.
+     * The new stats replace the old ones at once, readers never see them half loaded.
      */
-    public void reloadConfiguration() {
-        properties.clear();
-        loadConfiguration();
+    public synchronized void reloadConfiguration() {
+        stats = loadConfiguration();
     }
 
     /**
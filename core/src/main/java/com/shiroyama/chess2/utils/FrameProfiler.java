@@ -0,0 +1,197 @@
+package com.shiroyama.chess2.utils;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * Times the parts of every frame into one {@link TimingHistogram} per {@link FrameSection}.
+ * A timed part is wrapped in {@link #start()} and {@link #stop(FrameSection, long)}, which read
+ * {@link System#nanoTime()} and increment a count, so the profiler stays on all the time.
+ * It is meant to be used on the render thread only.
+ */
+public class FrameProfiler {
+
+    /**
+     * The percentiles written by {@link #writeReport(Writer)}.
+     */
+    private static final double[] REPORT_PERCENTILES = {50, 90, 99, 99.9};
+
+    /**
+     * Cached {@link FrameSection} values.
+     */
+    private static final FrameSection[] SECTIONS = FrameSection.values();
+
+    /**
+     * The shared profiler of the game.
+     */
+    private static final FrameProfiler instance = new FrameProfiler();
+
+    /**
+     * The histograms, indexed by {@link FrameSection#ordinal()}.
+     */
+    private final TimingHistogram[] histograms = new TimingHistogram[SECTIONS.length];
+
+    /**
+     * The time the current frame started, or 0 before the first frame.
+     */
+    private long frameStart;
+
+    /**
+     * The time the histograms were last reset, from {@link System#nanoTime()}.
+     */
+    private long resetTime = System.nanoTime();
+
+    /**
+     * Constructor for the class.
+     */
+    public FrameProfiler() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new TimingHistogram();
+        }
+    }
+
+    /**
+     * Receives the shared profiler of the game.
+     *
+     * @return the shared {@code FrameProfiler}
+     */
+    public static FrameProfiler getInstance() {
+        return instance;
+    }
+
+    /**
+     * Marks the start of a frame, recording the time since the start of the previous one as {@link FrameSection#FRAME}.
+     *
+     * @return the start time of the frame, to be passed to {@link #stop(FrameSection, long)}
+     */
+    public long beginFrame() {
+        long now = System.nanoTime();
+        if (frameStart != 0) {
+            histograms[FrameSection.FRAME.ordinal()].record(now - frameStart);
+        }
+        frameStart = now;
+        return now;
+    }
+
+    /**
+     * Starts timing a part of the frame.
+     *
+     * @return the start time, to be passed to {@link #stop(FrameSection, long)}
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Stops timing a part of the frame and records its duration.
+     *
+     * @param section the timed part
+     * @param startNanos the start time returned by {@link #start()}
+     */
+    public void stop(FrameSection section, long startNanos) {
+        histograms[section.ordinal()].record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Gets the histogram of a part of the frame.
+     *
+     * @param section the part
+     * @return the {@link TimingHistogram}
+     */
+    public TimingHistogram getHistogram(FrameSection section) {
+        return histograms[section.ordinal()];
+    }
+
+    /**
+     * Gets the time since the histograms were last reset.
+     *
+     * @return the time in seconds
+     */
+    public double getSecondsSinceReset() {
+        return (System.nanoTime() - resetTime) / 1e9;
+    }
+
+    /**
+     * Removes every recorded duration, so the next report covers only the frames after it.
+     */
+    public void reset() {
+        for (TimingHistogram histogram : histograms) {
+            histogram.reset();
+        }
+        resetTime = System.nanoTime();
+    }
+
+    /**
+     * Writes a short table of the durations, one line per timed part, in milliseconds.
+     *
+     * @param builder the builder the table is appended to
+     */
+    public void appendSummary(StringBuilder builder) {
+        builder.append(String.format(Locale.ROOT, "%-16s %7s %7s %7s %7s%n", "ms", "count", "p50", "p99", "max"));
+        for (FrameSection section : SECTIONS) {
+            TimingHistogram histogram = histograms[section.ordinal()];
+            builder.append(String.format(Locale.ROOT, "%-16s %7d %7.2f %7.2f %7.2f%n", section.getDisplayName(),
+                histogram.getCount(), millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getMax())));
+        }
+    }
+
+    /**
+     * Writes a report of the durations: the percentiles of every timed part in milliseconds,
+     * followed by the non-empty buckets of every histogram.
+     *
+     * @param out the writer, flushed but not closed
+     */
+    public void writeReport(Writer out) {
+        PrintWriter writer = new PrintWriter(out);
+        writer.printf(Locale.ROOT, "# Frame profile over %.1f s, durations in ms%n", getSecondsSinceReset());
+        writer.print("section,count,mean");
+        for (double percentile : REPORT_PERCENTILES) {
+            writer.printf(Locale.ROOT, ",p%s", formatPercentile(percentile));
+        }
+        writer.println(",max");
+        for (FrameSection section : SECTIONS) {
+            TimingHistogram histogram = histograms[section.ordinal()];
+            writer.printf(Locale.ROOT, "%s,%d,%.3f", section.name(), histogram.getCount(), histogram.getMean() / 1e6);
+            for (double percentile : REPORT_PERCENTILES) {
+                writer.printf(Locale.ROOT, ",%.3f", millis(histogram.getValueAtPercentile(percentile)));
+            }
+            writer.printf(Locale.ROOT, ",%.3f%n", millis(histogram.getMax()));
+        }
+
+        writer.println();
+        writer.println("# Buckets: section,upper bound in ns,count");
+        for (FrameSection section : SECTIONS) {
+            TimingHistogram histogram = histograms[section.ordinal()];
+            for (int bucket = 0; bucket < histogram.getBucketCount(); bucket++) {
+                long bucketCount = histogram.getBucketCountAt(bucket);
+                if (bucketCount > 0) {
+                    writer.printf(Locale.ROOT, "%s,%d,%d%n", section.name(),
+                        TimingHistogram.bucketUpperBound(bucket), bucketCount);
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Converts nanoseconds to milliseconds.
+     *
+     * @param nanos the duration in nanoseconds
+     * @return the duration in milliseconds
+     */
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    /**
+     * Formats a percentile for a column name, without a fraction if it is whole.
+     *
+     * @param percentile the percentile
+     * @return the formatted percentile, such as {@code 99} or {@code 99.9}
+     */
+    private static String formatPercentile(double percentile) {
+        return (percentile == Math.rint(percentile)) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
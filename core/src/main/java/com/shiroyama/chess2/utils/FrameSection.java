@@ -0,0 +1,65 @@
+package com.shiroyama.chess2.utils;
+
+/**
+ * The parts of a frame timed by the {@link FrameProfiler}.
+ */
+public enum FrameSection {
+
+    /**
+     * The time from the start of one frame to the start of the next, including the wait for vsync.
+     */
+    FRAME("frame"),
+
+    /**
+     * The time spent rendering the current screen.
+     */
+    RENDER("render"),
+
+    /**
+     * Drawing the squares and the pieces of the board.
+     */
+    BOARD_DRAW("board draw"),
+
+    /**
+     * Drawing the selection and the valid moves over the board.
+     */
+    GAME_STATE_DRAW("game state draw"),
+
+    /**
+     * Updating the arena combat, with the projectile movement and hits.
+     */
+    ARENA_UPDATE("arena update"),
+
+    /**
+     * Drawing the projectiles of the arena.
+     */
+    PROJECTILE_DRAW("projectile draw"),
+
+    /**
+     * Drawing the health bars of the arena.
+     */
+    HEALTH_BAR_DRAW("health bar draw");
+
+    /**
+     * The name of the section in the overlay and the reports.
+     */
+    private final String displayName;
+
+    /**
+     * Constructor for the enum.
+     *
+     * @param displayName the name of the section in the overlay and the reports
+     */
+    FrameSection(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Gets the name of the section in the overlay and the reports.
+     *
+     * @return the name
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,224 @@
+package com.shiroyama.chess2.utils;
+
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+import com.shiroyama.chess2.chessboard.pieces.Team;
+
+/**
+ * A game event read from the {@link GameEventSink}.
+ * The sink reuses one instance for every event it drains, so a consumer must copy what it keeps.
+ *
+ * <p>Which fields are set depends on the {@link GameEventType}: the piece is the one moving, attacking,
+ * promoting, shooting or hit, the other piece is the attacked one, the squares are the start and the end
+ * of a move or the clicked square, and the value is the HP left after a hit or 1 if the attacker won a duel.
+ */
+public class GameEvent {
+
+    /**
+     * Cached {@link Team} values.
+     */
+    private static final Team[] TEAMS = Team.values();
+
+    /**
+     * Cached {@link PieceType} values.
+     */
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    /**
+     * The kind of the event.
+     */
+    private GameEventType type;
+
+    /**
+     * The time the event was published, from {@link System#nanoTime()}.
+     */
+    private long timeNanos;
+
+    /**
+     * {@link Team#ordinal()} and {@link PieceType#ordinal()} of the piece and of the other piece, -1 if not set.
+     */
+    private int team, pieceType, otherTeam, otherPieceType;
+
+    /**
+     * Coordinates of the first and the second square.
+     */
+    private int fromX, fromY, toX, toY;
+
+    /**
+     * The value of the event.
+     */
+    private int value;
+
+    /**
+     * Sets every field of the event.
+     *
+     * @param type the kind of the event
+     * @param timeNanos the time the event was published
+     * @param team the team ordinal of the piece, or -1
+     * @param pieceType the type ordinal of the piece, or -1
+     * @param otherTeam the team ordinal of the other piece, or -1
+     * @param otherPieceType the type ordinal of the other piece, or -1
+     * @param fromX the x-coordinate of the first square
+     * @param fromY the y-coordinate of the first square
+     * @param toX the x-coordinate of the second square
+     * @param toY the y-coordinate of the second square
+     * @param value the value of the event
+     */
+    void set(GameEventType type, long timeNanos, int team, int pieceType, int otherTeam, int otherPieceType,
+             int fromX, int fromY, int toX, int toY, int value) {
+        this.type = type;
+        this.timeNanos = timeNanos;
+        this.team = team;
+        this.pieceType = pieceType;
+        this.otherTeam = otherTeam;
+        this.otherPieceType = otherPieceType;
+        this.fromX = fromX;
+        this.fromY = fromY;
+        this.toX = toX;
+        this.toY = toY;
+        this.value = value;
+    }
+
+    /**
+     * Gets the kind of the event.
+     *
+     * @return the {@link GameEventType}
+     */
+    public GameEventType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the time the event was published.
+     *
+     * @return the time from {@link System#nanoTime()}
+     */
+    public long getTimeNanos() {
+        return timeNanos;
+    }
+
+    /**
+     * Gets the team of the piece.
+     *
+     * @return the {@link Team}, or null if not set
+     */
+    public Team getTeam() {
+        return (team >= 0) ? TEAMS[team] : null;
+    }
+
+    /**
+     * Gets the type of the piece.
+     *
+     * @return the {@link PieceType}, or null if not set
+     */
+    public PieceType getPieceType() {
+        return (pieceType >= 0) ? PIECE_TYPES[pieceType] : null;
+    }
+
+    /**
+     * Gets the team of the other piece.
+     *
+     * @return the {@link Team}, or null if not set
+     */
+    public Team getOtherTeam() {
+        return (otherTeam >= 0) ? TEAMS[otherTeam] : null;
+    }
+
+    /**
+     * Gets the type of the other piece.
+     *
+     * @return the {@link PieceType}, or null if not set
+     */
+    public PieceType getOtherPieceType() {
+        return (otherPieceType >= 0) ? PIECE_TYPES[otherPieceType] : null;
+    }
+
+    /**
+     * Gets the x-coordinate of the first square.
+     *
+     * @return the x-coordinate
+     */
+    public int getFromX() {
+        return fromX;
+    }
+
+    /**
+     * Gets the y-coordinate of the first square.
+     *
+     * @return the y-coordinate
+     */
+    public int getFromY() {
+        return fromY;
+    }
+
+    /**
+     * Gets the x-coordinate of the second square.
+     *
+     * @return the x-coordinate
+     */
+    public int getToX() {
+        return toX;
+    }
+
+    /**
+     * Gets the y-coordinate of the second square.
+     *
+     * @return the y-coordinate
+     */
+    public int getToY() {
+        return toY;
+    }
+
+    /**
+     * Gets the value of the event.
+     *
+     * @return the HP left after a hit, 1 if the attacker won a duel, 0 otherwise
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Describes the event in the words of the log messages it replaces.
+     *
+     * @return the description
+     */
+    @Override
+    public String toString() {
+        String piece = name(team, pieceType);
+        String other = name(otherTeam, otherPieceType);
+        switch (type) {
+            case MOVE:
+                return piece + " moved from {" + fromX + "-" + fromY + "} to {" + toX + "-" + toY + "}.";
+            case ATTACK:
+                return piece + " attacked " + other + ".";
+            case DUEL:
+                return piece + " attacked " + other + ", " + ((value != 0) ? piece : other) + " won.";
+            case KING_DEFEATED:
+                return piece + " defeated, " + getOtherTeam() + " team won.";
+            case PROMOTION:
+                return piece + " is promoting.";
+            case SHOT:
+                return getTeam() + " projectile shot.";
+            case HIT:
+                return piece + " hit, " + value + " HP left.";
+            case CLICK:
+                return fromX + " - " + fromY + " clicked.";
+            default:
+                return String.valueOf(type);
+        }
+    }
+
+    /**
+     * Gets the name of a piece in the format of {@link com.shiroyama.chess2.chessboard.pieces.PieceInfo#getName()}.
+     *
+     * @param team the team ordinal, or -1
+     * @param pieceType the type ordinal, or -1
+     * @return the name, or "none" if not set
+     */
+    private static String name(int team, int pieceType) {
+        if (team < 0 || pieceType < 0) {
+            return "none";
+        }
+        return ((TEAMS[team] == Team.WHITE) ? "white" : "black") + "-" + PIECE_TYPES[pieceType].toString().toLowerCase();
+    }
+}
@@ -0,0 +1,420 @@
+package com.shiroyama.chess2.utils;
+
+import com.shiroyama.chess2.chessboard.model.TargetPoint;
+import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+import com.shiroyama.chess2.chessboard.pieces.Team;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Consumer;
+
+/**
+ * Collects the frequent game events, such as moves, shots and hits, in a ring buffer of primitive arrays,
+ * and logs them from a daemon thread, so the render thread neither allocates nor waits for the log.
+ *
+ * <p>Publishing an event only copies a few numbers into the buffer while holding its lock, and does nothing
+ * at all while tracing is off. If the buffer is full, the new event is dropped and counted instead of blocking.
+ * The drainer copies the waiting events out of the buffer before logging them, so publishers never wait
+ * for the log either.
+ */
+public class GameEventSink {
+
+    /**
+     * The system property turning tracing off at startup when set to {@code false}.
+     */
+    public static final String TRACE_PROPERTY = "chess2.trace";
+
+    /**
+     * The number of events the shared sink holds before dropping new ones.
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * The time the drainer sleeps when the buffer is empty, in milliseconds.
+     */
+    private static final long DRAIN_INTERVAL_MILLIS = 50;
+
+    /**
+     * The number of ints an event takes in {@link #data}.
+     */
+    private static final int STRIDE = 10;
+
+    /**
+     * Cached {@link GameEventType} values.
+     */
+    private static final GameEventType[] TYPES = GameEventType.values();
+
+    /**
+     * The shared sink of the game.
+     */
+    private static final GameEventSink instance = new GameEventSink(DEFAULT_CAPACITY);
+
+    /**
+     * The number of events the buffer holds, a power of two.
+     */
+    private final int capacity;
+
+    /**
+     * The publish times of the events, indexed by slot.
+     */
+    private final long[] times;
+
+    /**
+     * The type ordinal followed by the other fields of the events, {@link #STRIDE} ints per slot.
+     */
+    private final int[] data;
+
+    /**
+     * The number of events published and the number of events drained since the sink was created.
+     * Guarded by the sink's lock.
+     */
+    private long published, drained;
+
+    /**
+     * The number of events dropped because the buffer was full.
+     */
+    private long dropped;
+
+    /**
+     * Copies of the events being drained, used by one drain at a time.
+     */
+    private final long[] drainTimes;
+
+    /**
+     * Copies of the data of the events being drained.
+     */
+    private final int[] drainData;
+
+    /**
+     * The event handed to the drain consumer, reused for every event.
+     */
+    private final GameEvent event = new GameEvent();
+
+    /**
+     * Lock making drains run one at a time, separate from the lock of the buffer.
+     */
+    private final Object drainLock = new Object();
+
+    /**
+     * Indicates whether events are recorded.
+     */
+    private volatile boolean tracing;
+
+    /**
+     * The daemon thread logging the events, or null if not running.
+     */
+    private Thread thread;
+
+    /**
+     * {@link Logger} the events are written to.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(GameEventSink.class);
+
+    /**
+     * Constructor for the class.
+     * Tracing starts on unless the {@link #TRACE_PROPERTY} system property is {@code false}.
+     *
+     * @param capacity the number of events the buffer holds, rounded up to a power of two
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public GameEventSink(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 24)) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        int rounded = Integer.highestOneBit(capacity);
+        this.capacity = (rounded < capacity) ? rounded << 1 : rounded;
+        this.times = new long[this.capacity];
+        this.data = new int[this.capacity * STRIDE];
+        this.drainTimes = new long[this.capacity];
+        this.drainData = new int[this.capacity * STRIDE];
+        this.tracing = Boolean.parseBoolean(System.getProperty(TRACE_PROPERTY, "true"));
+    }
+
+    /**
+     * Receives the shared sink of the game.
+     *
+     * @return the shared {@code GameEventSink}
+     */
+    public static GameEventSink getInstance() {
+        return instance;
+    }
+
+    /**
+     * Checks whether events are recorded.
+     *
+     * @return true if tracing is on, false otherwise
+     */
+    public boolean isTracing() {
+        return tracing;
+    }
+
+    /**
+     * Turns the recording of events on or off. Events already recorded are still logged.
+     *
+     * @param tracing true to record events, false to ignore them
+     */
+    public void setTracing(boolean tracing) {
+        this.tracing = tracing;
+    }
+
+    /**
+     * Gets the number of events the buffer holds.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the number of events dropped because the buffer was full.
+     *
+     * @return the number of dropped events
+     */
+    public synchronized long getDroppedCount() {
+        return dropped;
+    }
+
+    /**
+     * Records a piece moving.
+     *
+     * @param piece the moving piece
+     * @param from the starting square
+     * @param to the destination square
+     */
+    public void move(PieceInfo piece, TargetPoint from, TargetPoint to) {
+        if (tracing) {
+            publish(GameEventType.MOVE, piece.getTeam(), piece.getPieceType(), null, null,
+                (int) from.getX(), (int) from.getY(), (int) to.getX(), (int) to.getY(), 0);
+        }
+    }
+
+    /**
+     * Records a piece attacking another, starting an arena combat.
+     *
+     * @param attacker the attacking piece
+     * @param defender the attacked piece
+     */
+    public void attack(PieceInfo attacker, PieceInfo defender) {
+        if (tracing) {
+            publish(GameEventType.ATTACK, attacker.getTeam(), attacker.getPieceType(),
+                defender.getTeam(), defender.getPieceType(), 0, 0, 0, 0, 0);
+        }
+    }
+
+    /**
+     * Records a duel resolved on the board.
+     *
+     * @param attacker the attacking piece
+     * @param defender the attacked piece
+     * @param attackerWon true if the attacker won
+     */
+    public void duel(PieceInfo attacker, PieceInfo defender, boolean attackerWon) {
+        if (tracing) {
+            publish(GameEventType.DUEL, attacker.getTeam(), attacker.getPieceType(),
+                defender.getTeam(), defender.getPieceType(), 0, 0, 0, 0, attackerWon ? 1 : 0);
+        }
+    }
+
+    /**
+     * Records a king losing a duel.
+     *
+     * @param king the defeated king
+     * @param winningTeam the team winning the game
+     */
+    public void kingDefeated(PieceInfo king, Team winningTeam) {
+        if (tracing) {
+            publish(GameEventType.KING_DEFEATED, king.getTeam(), king.getPieceType(), winningTeam, null,
+                0, 0, 0, 0, 0);
+        }
+    }
+
+    /**
+     * Records a pawn starting its promotion.
+     *
+     * @param piece the promoting pawn
+     */
+    public void promotion(PieceInfo piece) {
+        if (tracing) {
+            publish(GameEventType.PROMOTION, piece.getTeam(), piece.getPieceType(), null, null,
+                (int) piece.getPosition().getX(), (int) piece.getPosition().getY(), 0, 0, 0);
+        }
+    }
+
+    /**
+     * Records a piece firing a projectile.
+     *
+     * @param shooter the shooting piece
+     */
+    public void shot(PieceInfo shooter) {
+        if (tracing) {
+            publish(GameEventType.SHOT, shooter.getTeam(), shooter.getPieceType(), null, null, 0, 0, 0, 0, 0);
+        }
+    }
+
+    /**
+     * Records a projectile hitting a piece.
+     *
+     * @param piece the hit piece
+     * @param hpLeft the HP of the piece after the hit
+     */
+    public void hit(PieceInfo piece, int hpLeft) {
+        if (tracing) {
+            publish(GameEventType.HIT, piece.getTeam(), piece.getPieceType(), null, null, 0, 0, 0, 0, hpLeft);
+        }
+    }
+
+    /**
+     * Records a click on a square of the board.
+     *
+     * @param square the clicked square
+     */
+    public void click(TargetPoint square) {
+        if (tracing) {
+            publish(GameEventType.CLICK, null, null, null, null, (int) square.getX(), (int) square.getY(), 0, 0, 0);
+        }
+    }
+
+    /**
+     * Copies an event into the buffer, or drops it if the buffer is full.
+     *
+     * @param type the kind of the event
+     * @param team the team of the piece, or null
+     * @param pieceType the type of the piece, or null
+     * @param otherTeam the team of the other piece, or null
+     * @param otherPieceType the type of the other piece, or null
+     * @param fromX the x-coordinate of the first square
+     * @param fromY the y-coordinate of the first square
+     * @param toX the x-coordinate of the second square
+     * @param toY the y-coordinate of the second square
+     * @param value the value of the event
+     */
+    private synchronized void publish(GameEventType type, Team team, PieceType pieceType,
+                                      Team otherTeam, PieceType otherPieceType,
+                                      int fromX, int fromY, int toX, int toY, int value) {
+        if (published - drained == capacity) {
+            dropped++;
+            return;
+        }
+        int slot = (int) published & (capacity - 1);
+        times[slot] = System.nanoTime();
+        int i = slot * STRIDE;
+        data[i] = type.ordinal();
+        data[i + 1] = (team != null) ? team.ordinal() : -1;
+        data[i + 2] = (pieceType != null) ? pieceType.ordinal() : -1;
+        data[i + 3] = (otherTeam != null) ? otherTeam.ordinal() : -1;
+        data[i + 4] = (otherPieceType != null) ? otherPieceType.ordinal() : -1;
+        data[i + 5] = fromX;
+        data[i + 6] = fromY;
+        data[i + 7] = toX;
+        data[i + 8] = toY;
+        data[i + 9] = value;
+        published++;
+    }
+
+    /**
+     * Takes the waiting events out of the buffer and hands them to a consumer in the order they were published.
+     * The consumer runs without holding the lock of the buffer, so publishers do not wait for it.
+     *
+     * @param consumer the consumer, receiving the same reused {@link GameEvent} for every event
+     * @return the number of drained events
+     */
+    public int drain(Consumer<GameEvent> consumer) {
+        synchronized (drainLock) {
+            int count;
+            synchronized (this) {
+                count = (int) (published - drained);
+                for (int n = 0; n < count; n++) {
+                    int slot = (int) (drained + n) & (capacity - 1);
+                    drainTimes[n] = times[slot];
+                    System.arraycopy(data, slot * STRIDE, drainData, n * STRIDE, STRIDE);
+                }
+                drained += count;
+            }
+            for (int n = 0; n < count; n++) {
+                int i = n * STRIDE;
+                event.set(TYPES[drainData[i]], drainTimes[n], drainData[i + 1], drainData[i + 2],
+                    drainData[i + 3], drainData[i + 4], drainData[i + 5], drainData[i + 6],
+                    drainData[i + 7], drainData[i + 8], drainData[i + 9]);
+                consumer.accept(event);
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Starts logging the events on a daemon thread. Does nothing if already running.
+     */
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        thread = new Thread(this::run, "game-events");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the logging thread, logging the events still waiting. Does nothing if not running.
+     */
+    public void stop() {
+        Thread stopped;
+        synchronized (this) {
+            stopped = thread;
+            thread = null;
+        }
+        if (stopped == null) {
+            return;
+        }
+        stopped.interrupt();
+        try {
+            stopped.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drain(GameEventSink::log);
+    }
+
+    /**
+     * Checks whether the logging thread is running.
+     *
+     * @return true if running, false otherwise
+     */
+    public synchronized boolean isRunning() {
+        return thread != null;
+    }
+
+    /**
+     * Logs the events as they come until the thread is interrupted.
+     */
+    private void run() {
+        long reportedDrops = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            int count = drain(GameEventSink::log);
+            long drops = getDroppedCount();
+            if (drops != reportedDrops) {
+                logger.warn("{} game events dropped, the event buffer was full.", drops - reportedDrops);
+                reportedDrops = drops;
+            }
+            if (count == 0) {
+                try {
+                    Thread.sleep(DRAIN_INTERVAL_MILLIS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Logs an event.
+     *
+     * @param event the event
+     */
+    private static void log(GameEvent event) {
+        if (logger.isInfoEnabled()) {
+            logger.info(event.toString());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.shiroyama.chess2.utils;
+
+/**
+ * The kinds of events published to the {@link GameEventSink}.
+ */
+public enum GameEventType {
+
+    /**
+     * A piece moved to an empty square, or took a piece without a duel.
+     */
+    MOVE,
+
+    /**
+     * A piece attacked another, starting an arena combat.
+     */
+    ATTACK,
+
+    /**
+     * A piece attacked another and the duel was resolved on the board.
+     */
+    DUEL,
+
+    /**
+     * A king lost a duel, ending the game.
+     */
+    KING_DEFEATED,
+
+    /**
+     * A pawn reached the last row and is promoting.
+     */
+    PROMOTION,
+
+    /**
+     * A piece fired a projectile in the arena.
+     */
+    SHOT,
+
+    /**
+     * A projectile hit a piece in the arena.
+     */
+    HIT,
+
+    /**
+     * A square of the board was clicked.
+     */
+    CLICK
+}
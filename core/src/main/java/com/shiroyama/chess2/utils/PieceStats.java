@@ -0,0 +1,206 @@
+package com.shiroyama.chess2.utils;
+
+import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+
+import java.util.Properties;
+
+/**
+ * An immutable snapshot of the HP and attack rate of every {@link PieceType}, as read from {@code stats.cfg}.
+ * The stats are kept in primitive arrays indexed by {@link PieceType#ordinal()}, so reading them costs no
+ * parsing or file I/O. Changing a stat creates a new snapshot, which can be swapped in while other threads
+ * keep reading the old one.
+ */
+public final class PieceStats {
+
+    /**
+     * Cached {@link PieceType} values.
+     */
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    /**
+     * The HP of the piece types, indexed by {@link PieceType#ordinal()}.
+     */
+    private final int[] hp;
+
+    /**
+     * The attack rates of the piece types, indexed by {@link PieceType#ordinal()}.
+     */
+    private final float[] attackRates;
+
+    /**
+     * Constructor for the class, taking ownership of the arrays.
+     *
+     * @param hp the HP of the piece types, indexed by {@link PieceType#ordinal()}
+     * @param attackRates the attack rates of the piece types, indexed by {@link PieceType#ordinal()}
+     */
+    private PieceStats(int[] hp, float[] attackRates) {
+        this.hp = hp;
+        this.attackRates = attackRates;
+    }
+
+    /**
+     * Creates a snapshot of the default stats of {@link PieceInfo}.
+     *
+     * @return the default stats
+     */
+    public static PieceStats defaults() {
+        return fromProperties(new Properties());
+    }
+
+    /**
+     * Creates a snapshot from stats in the format of {@code stats.cfg}.
+     * Missing or malformed stats fall back to the defaults of {@link PieceInfo}.
+     *
+     * @param properties the stats, with {@code <TYPE>.hp} and {@code <TYPE>.attackRate} keys
+     * @return the stats
+     */
+    public static PieceStats fromProperties(Properties properties) {
+        int[] hp = new int[PIECE_TYPES.length];
+        float[] attackRates = new float[PIECE_TYPES.length];
+        for (PieceType pieceType : PIECE_TYPES) {
+            hp[pieceType.ordinal()] = PieceInfo.getDefaultHp(pieceType);
+            attackRates[pieceType.ordinal()] = PieceInfo.getDefaultAttackRate(pieceType);
+            String hpValue = properties.getProperty(pieceType + ".hp");
+            if (hpValue != null) {
+                try {
+                    hp[pieceType.ordinal()] = Integer.parseInt(hpValue.trim());
+                } catch (NumberFormatException e) {
+                    // keeps the default of the malformed stat
+                }
+            }
+            String rateValue = properties.getProperty(pieceType + ".attackRate");
+            if (rateValue != null) {
+                try {
+                    attackRates[pieceType.ordinal()] = Float.parseFloat(rateValue.trim());
+                } catch (NumberFormatException e) {
+                    // keeps the default of the malformed stat
+                }
+            }
+        }
+        return new PieceStats(hp, attackRates);
+    }
+
+    /**
+     * Creates a snapshot from a complete stats file in the format of {@code stats.cfg}.
+     * Unlike {@link #fromProperties(Properties)}, nothing falls back to the defaults, so a truncated
+     * or half written file is rejected instead of silently replacing the configured stats.
+     *
+     * @param properties the stats, with {@code <TYPE>.hp} and {@code <TYPE>.attackRate} keys for every piece type
+     * @return the stats
+     * @throws IllegalArgumentException if a stat is missing or malformed
+     */
+    public static PieceStats parse(Properties properties) {
+        int[] hp = new int[PIECE_TYPES.length];
+        float[] attackRates = new float[PIECE_TYPES.length];
+        for (PieceType pieceType : PIECE_TYPES) {
+            String hpKey = pieceType + ".hp";
+            String rateKey = pieceType + ".attackRate";
+            try {
+                hp[pieceType.ordinal()] = Integer.parseInt(requireStat(properties, hpKey));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Malformed stat " + hpKey + ": " + properties.getProperty(hpKey), e);
+            }
+            try {
+                attackRates[pieceType.ordinal()] = Float.parseFloat(requireStat(properties, rateKey));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Malformed stat " + rateKey + ": " + properties.getProperty(rateKey), e);
+            }
+        }
+        return new PieceStats(hp, attackRates);
+    }
+
+    /**
+     * Gets a stat that must be present.
+     *
+     * @param properties the stats
+     * @param key the key of the stat
+     * @return the trimmed value
+     * @throws IllegalArgumentException if the stat is missing
+     */
+    private static String requireStat(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing stat " + key);
+        }
+        return value.trim();
+    }
+
+    /**
+     * Converts the stats to the format of {@code stats.cfg}.
+     *
+     * @return a new {@link Properties} holding the stats
+     */
+    public Properties toProperties() {
+        Properties properties = new Properties();
+        for (PieceType pieceType : PIECE_TYPES) {
+            properties.setProperty(pieceType + ".hp", String.valueOf(hp[pieceType.ordinal()]));
+            properties.setProperty(pieceType + ".attackRate", String.valueOf(attackRates[pieceType.ordinal()]));
+        }
+        return properties;
+    }
+
+    /**
+     * Gets the HP of a piece type.
+     *
+     * @param pieceType the {@link PieceType} of the piece
+     * @return the HP
+     */
+    public int getHp(PieceType pieceType) {
+        return hp[pieceType.ordinal()];
+    }
+
+    /**
+     * Gets the attack rate of a piece type.
+     *
+     * @param pieceType the {@link PieceType} of the piece
+     * @return the attack rate in shots per second
+     */
+    public float getAttackRate(PieceType pieceType) {
+        return attackRates[pieceType.ordinal()];
+    }
+
+    /**
+     * Gets the HP of every piece type.
+     *
+     * @return a copy of the HP, indexed by {@link PieceType#ordinal()}
+     */
+    public int[] getHpArray() {
+        return hp.clone();
+    }
+
+    /**
+     * Gets the attack rate of every piece type.
+     *
+     * @return a copy of the attack rates, indexed by {@link PieceType#ordinal()}
+     */
+    public float[] getAttackRateArray() {
+        return attackRates.clone();
+    }
+
+    /**
+     * Creates a snapshot with the HP of one piece type changed.
+     *
+     * @param pieceType the {@link PieceType} of the piece
+     * @param newHp the new HP
+     * @return the changed stats, this snapshot is not modified
+     */
+    public PieceStats withHp(PieceType pieceType, int newHp) {
+        int[] changed = hp.clone();
+        changed[pieceType.ordinal()] = newHp;
+        return new PieceStats(changed, attackRates);
+    }
+
+    /**
+     * Creates a snapshot with the attack rate of one piece type changed.
+     *
+     * @param pieceType the {@link PieceType} of the piece
+     * @param newAttackRate the new attack rate
+     * @return the changed stats, this snapshot is not modified
+     */
+    public PieceStats withAttackRate(PieceType pieceType, float newAttackRate) {
+        float[] changed = attackRates.clone();
+        changed[pieceType.ordinal()] = newAttackRate;
+        return new PieceStats(hp, changed);
+    }
+}
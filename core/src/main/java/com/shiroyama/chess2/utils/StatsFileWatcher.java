@@ -0,0 +1,193 @@
+package com.shiroyama.chess2.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Properties;
+import java.util.function.Consumer;
+
+/**
+ * Watches the stats file with a {@link WatchService} and reloads it when it changes.
+ * The file is parsed on a daemon thread into a new {@link PieceStats} snapshot, which is handed to the listener
+ * in one piece, so the render thread never waits for the file or sees half loaded stats.
+ * If the new file cannot be read, or any stat of it is missing or malformed, as in a file caught half written,
+ * the listener is not called and the old stats stay in use.
+ */
+public class StatsFileWatcher {
+
+    /**
+     * The time to wait after a change for the writer to finish, in milliseconds.
+     * Editors often write a file in several steps, which are all reloaded at once after the wait.
+     */
+    private static final long SETTLE_MILLIS = 100;
+
+    /**
+     * The watched stats file.
+     */
+    private final Path file;
+
+    /**
+     * The listener receiving the reloaded stats.
+     */
+    private final Consumer<PieceStats> listener;
+
+    /**
+     * The {@link WatchService} watching the directory of the file, or null if not watching.
+     */
+    private WatchService watchService;
+
+    /**
+     * The daemon thread waiting for changes, or null if not watching.
+     */
+    private Thread thread;
+
+    /**
+     * {@link Logger} for logging reloads.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(StatsFileWatcher.class);
+
+    /**
+     * Constructor for the class.
+     *
+     * @param file the stats file to watch
+     * @param listener the listener receiving the reloaded stats, called on the watcher thread
+     */
+    public StatsFileWatcher(Path file, Consumer<PieceStats> listener) {
+        this.file = file.toAbsolutePath();
+        this.listener = listener;
+    }
+
+    /**
+     * Starts watching the file. Does nothing if already watching.
+     *
+     * @throws IOException if the directory of the file cannot be watched
+     */
+    public synchronized void start() throws IOException {
+        if (thread != null) {
+            return;
+        }
+        watchService = FileSystems.getDefault().newWatchService();
+        file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY);
+
+        thread = new Thread(this::watch, "stats-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Watching {} for changes.", file);
+    }
+
+    /**
+     * Stops watching the file and waits briefly for the watcher thread to end. Does nothing if not watching.
+     */
+    public synchronized void stop() {
+        if (thread == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warn("Error closing the stats watcher: {}", e.getMessage());
+        }
+        thread.interrupt();
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+        watchService = null;
+    }
+
+    /**
+     * Checks whether the file is being watched.
+     *
+     * @return true if watching, false otherwise
+     */
+    public synchronized boolean isRunning() {
+        return thread != null;
+    }
+
+    /**
+     * Parses a complete stats file into a snapshot, see {@link PieceStats#parse(Properties)}.
+     *
+     * @param file the stats file, in the format of {@code stats.cfg}
+     * @return the stats
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if a stat is missing or malformed
+     */
+    public static PieceStats parse(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.ISO_8859_1)) {
+            properties.load(reader);
+        }
+        return PieceStats.parse(properties);
+    }
+
+    /**
+     * Waits for changes of the file and reloads it, until the watch service is closed.
+     */
+    private void watch() {
+        WatchService service = watchService;
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean changed = isFileChanged(key);
+
+                if (changed) {
+                    Thread.sleep(SETTLE_MILLIS);
+                    for (WatchKey more = service.poll(); more != null; more = service.poll()) {
+                        isFileChanged(more);
+                    }
+                    reload();
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            logger.info("Stopped watching {}.", file);
+        }
+    }
+
+    /**
+     * Checks whether the events of a key concern the watched file, and resets the key.
+     *
+     * @param key the signalled key
+     * @return true if the file was created or modified, false otherwise
+     */
+    private boolean isFileChanged(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || file.getFileName().equals(event.context())) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    /**
+     * Parses the file and hands the new stats to the listener, keeping the old stats if the file is broken
+     * or incomplete.
+     */
+    private void reload() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            PieceStats stats = parse(file);
+            listener.accept(stats);
+            logger.info("Reloaded {}.", file);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Error reloading {}: {}", file, e.getMessage());
+        }
+    }
+}
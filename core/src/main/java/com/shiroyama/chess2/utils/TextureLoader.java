@@ -1,16 +1,92 @@
 package com.shiroyama.chess2.utils;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 
 import java.util.HashMap;
 
 /**
  * Represents a utility class for loading textures of chess pieces.
  * This class provides a static method to load and store textures for all chess pieces,
- * categorized by team (black and white) and piece type (king, queen, bishop, knight, rook, pawn).
+ * categorized by team (black and white) and piece type (king, queen, bishop, knight, rook, pawn),
+ * and loads the texture atlas the pieces and the arena sprites are packed into at build time.
  */
 public class TextureLoader {
 
+    /**
+     * The path of the texture atlas packed by {@code gradlew :core:packTextures}, relative to the assets.
+     */
+    public static final String ATLAS_PATH = "atlas/game.atlas";
+
+    /**
+     * The path of the skin of the user interface, relative to the assets.
+     */
+    public static final String SKIN_PATH = "uiskin.json";
+
+    /**
+     * The prefix of the names of the piece regions in the atlas, followed by the piece name.
+     */
+    public static final String PIECE_REGION_PREFIX = "chess_pieces/";
+
+    /**
+     * The prefix of the names of the arena sprite regions in the atlas, followed by the file name without extension.
+     */
+    public static final String ARENA_REGION_PREFIX = "arena_textures/";
+
+    /**
+     * The name of the 3x3 white region in the atlas, used for tinted rectangles.
+     */
+    public static final String WHITE_PIXEL_REGION = "white-pixel";
+
+    /**
+     * The path of the arena background texture, kept out of the atlas for its size.
+     */
+    public static final String ARENA_BACKGROUND_PATH = "arena_textures/arena_background.png";
+
+    /**
+     * The names of the pieces, the team followed by the piece type.
+     */
+    private static final String[] PIECE_NAMES = {
+        "black-king", "black-queen", "black-bishop", "black-knight", "black-rook", "black-pawn",
+        "white-king", "white-queen", "white-bishop", "white-knight", "white-rook", "white-pawn"
+    };
+
+    /**
+     * Acquires the texture atlas of the pieces and the arena sprites from an {@link AssetCache}, if it was packed.
+     * A non-null atlas must be released with {@link AssetCache#release(String)} of {@link #ATLAS_PATH}.
+     *
+     * @param assets the cache
+     * @return the {@link TextureAtlas}, or null if {@link #ATLAS_PATH} does not exist
+     */
+    public static TextureAtlas acquireAtlas(AssetCache assets) {
+        return Gdx.files.internal(ATLAS_PATH).exists() ? assets.acquire(ATLAS_PATH, TextureAtlas.class) : null;
+    }
+
+    /**
+     * Gets the path of the texture of a piece or an arena sprite, relative to the assets.
+     *
+     * @param regionName the name of its region in the atlas, such as {@code chess_pieces/white-pawn}
+     * @return the path of the texture file
+     */
+    public static String texturePath(String regionName) {
+        return regionName + ".png";
+    }
+
+    /**
+     * Finds the white texel of an atlas, taken from the middle of the white region so filtering
+     * never blends in the neighbouring sprites.
+     *
+     * @param atlas the atlas
+     * @return a 1x1 white region, or null if the atlas has no {@link #WHITE_PIXEL_REGION}
+     */
+    public static TextureRegion findWhitePixel(TextureAtlas atlas) {
+        TextureRegion region = atlas.findRegion(WHITE_PIXEL_REGION);
+        return (region != null) ? new TextureRegion(region, 1, 1, 1, 1) : null;
+    }
+
     /**
      * Loads and stores textures for all chess pieces.
      * The textures are categorized by team (black and white) and piece type.
@@ -40,4 +116,52 @@ public class TextureLoader {
 
         return textures;
     }
+
+    /**
+     * Acquires the textures of all chess pieces from an {@link AssetCache}.
+     * They must be released with {@link #releasePieceTextures(AssetCache)}.
+     *
+     * @param assets the cache
+     * @return a {@link HashMap} of the textures indexed by piece name, as {@link #loadPieceTextures()}
+     */
+    public static HashMap<String, Texture> acquirePieceTextures(AssetCache assets) {
+        HashMap<String, Texture> textures = new HashMap<>();
+        for (String name : PIECE_NAMES) {
+            textures.put(name, assets.acquire(texturePath(PIECE_REGION_PREFIX + name), Texture.class));
+        }
+        return textures;
+    }
+
+    /**
+     * Queues every asset of the menus, the board and the arena to be loaded by {@link AssetCache#update(int)}:
+     * the skin, the atlas if it was packed or the separate piece and arena sprite textures, and the arena background.
+     * The references added by the queue are held by the game for the whole session, so the screens acquiring
+     * these assets later never wait for them.
+     *
+     * @param assets the cache
+     */
+    public static void preloadGameAssets(AssetCache assets) {
+        assets.preload(SKIN_PATH, Skin.class);
+        if (Gdx.files.internal(ATLAS_PATH).exists()) {
+            assets.preload(ATLAS_PATH, TextureAtlas.class);
+        } else {
+            for (String name : PIECE_NAMES) {
+                assets.preload(texturePath(PIECE_REGION_PREFIX + name), Texture.class);
+            }
+            assets.preload(texturePath(ARENA_REGION_PREFIX + "gun"), Texture.class);
+            assets.preload(texturePath(ARENA_REGION_PREFIX + "projectile"), Texture.class);
+        }
+        assets.preload(ARENA_BACKGROUND_PATH, Texture.class);
+    }
+
+    /**
+     * Releases the textures acquired by {@link #acquirePieceTextures(AssetCache)}.
+     *
+     * @param assets the cache
+     */
+    public static void releasePieceTextures(AssetCache assets) {
+        for (String name : PIECE_NAMES) {
+            assets.release(texturePath(PIECE_REGION_PREFIX + name));
+        }
+    }
 }
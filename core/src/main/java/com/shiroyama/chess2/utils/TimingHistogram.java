@@ -0,0 +1,191 @@
+package com.shiroyama.chess2.utils;
+
+import java.util.Arrays;
+
+/**
+ * Histogram of durations in nanoseconds with log-linear buckets, in the manner of HdrHistogram.
+ * Each power of two is split into 32 buckets, so any recorded duration is known within about 3%,
+ * from a nanosecond up to over a minute, in a fixed array of counts.
+ *
+ * <p>Recording only increments a count and allocates nothing, so it can be done every frame.
+ * The histogram is not thread-safe; it is meant to be recorded and read on the render thread.
+ */
+public class TimingHistogram {
+
+    /**
+     * The number of bits of a duration kept by its bucket.
+     */
+    private static final int SUB_BUCKET_BITS = 5;
+
+    /**
+     * The number of buckets per power of two.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The longest duration told apart from longer ones, about 68 seconds.
+     * Longer durations are counted in the last bucket.
+     */
+    public static final long MAX_TRACKED_NANOS = (1L << 36) - 1;
+
+    /**
+     * The number of durations recorded in each bucket.
+     */
+    private final long[] counts = new long[bucketIndex(MAX_TRACKED_NANOS) + 1];
+
+    /**
+     * The number of recorded durations.
+     */
+    private long count;
+
+    /**
+     * The sum of the recorded durations in nanoseconds.
+     */
+    private long sum;
+
+    /**
+     * The shortest and the longest recorded duration in nanoseconds.
+     */
+    private long min = Long.MAX_VALUE, max;
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos the duration in nanoseconds, negative durations counting as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[bucketIndex(Math.min(value, MAX_TRACKED_NANOS))]++;
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Removes every recorded duration.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    /**
+     * Gets the number of recorded durations.
+     *
+     * @return the number of durations
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the longest recorded duration.
+     *
+     * @return the duration in nanoseconds, 0 if none was recorded
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Gets the shortest recorded duration.
+     *
+     * @return the duration in nanoseconds, 0 if none was recorded
+     */
+    public long getMin() {
+        return (count > 0) ? min : 0;
+    }
+
+    /**
+     * Gets the mean of the recorded durations.
+     *
+     * @return the mean in nanoseconds, 0 if none was recorded
+     */
+    public double getMean() {
+        return (count > 0) ? (double) sum / count : 0.0;
+    }
+
+    /**
+     * Gets the duration a share of the recorded durations do not exceed.
+     * The result is the upper bound of the bucket holding that duration, at most the longest recorded duration.
+     *
+     * @param percentile the share in percent, between 0 and 100
+     * @return the duration in nanoseconds, 0 if none was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Gets the number of buckets.
+     *
+     * @return the number of buckets
+     */
+    public int getBucketCount() {
+        return counts.length;
+    }
+
+    /**
+     * Gets the number of durations recorded in a bucket.
+     *
+     * @param bucket the index of the bucket
+     * @return the number of durations
+     */
+    public long getBucketCountAt(int bucket) {
+        return counts[bucket];
+    }
+
+    /**
+     * Finds the bucket of a duration.
+     *
+     * @param nanos the duration in nanoseconds, between 0 and {@link #MAX_TRACKED_NANOS}
+     * @return the index of the bucket
+     */
+    static int bucketIndex(long nanos) {
+        if (nanos < 2 * SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int shift = 64 - Long.numberOfLeadingZeros(nanos) - (SUB_BUCKET_BITS + 1);
+        return 2 * SUB_BUCKETS + (shift - 1) * SUB_BUCKETS + (int) (nanos >>> shift) - SUB_BUCKETS;
+    }
+
+    /**
+     * Gets the shortest duration of a bucket.
+     *
+     * @param bucket the index of the bucket
+     * @return the duration in nanoseconds
+     */
+    public static long bucketLowerBound(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket - 2 * SUB_BUCKETS) / SUB_BUCKETS + 1;
+        long subBucket = (bucket - 2 * SUB_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+        return subBucket << shift;
+    }
+
+    /**
+     * Gets the longest duration of a bucket.
+     *
+     * @param bucket the index of the bucket
+     * @return the duration in nanoseconds
+     */
+    public static long bucketUpperBound(int bucket) {
+        return bucketLowerBound(bucket + 1) - 1;
+    }
+}
@@ -10,7 +10,19 @@
  * <ul>
  *   <li>{@link com.shiroyama.chess2.utils.ConfigurationManager} - Manages game settings including
  *       piece stats (HP and attack rate) and graphical preferences</li>
- *   <li>{@link com.shiroyama.chess2.utils.TextureLoader} - Handles loading and caching of chess
+ *   <li>{@link com.shiroyama.chess2.utils.PieceStats} - Immutable snapshot of the HP and attack rate
+ *       of every piece type, swapped as a whole when the stats change</li>
+ *   <li>{@link com.shiroyama.chess2.utils.StatsFileWatcher} - Reloads the piece stats on a background
+ *       thread when the stats file changes</li>
+ *   <li>{@link com.shiroyama.chess2.utils.AssetCache} - Shares textures, atlases and skins between the screens,
+ *       loading an asset on its first use and disposing it when no screen holds it anymore</li>
+ *   <li>{@link com.shiroyama.chess2.utils.GameEventSink} - Records moves, shots and hits in a ring buffer
+ *       and logs them on a background thread, with {@link com.shiroyama.chess2.utils.GameEvent} and
+ *       {@link com.shiroyama.chess2.utils.GameEventType} describing the events</li>
+ *   <li>{@link com.shiroyama.chess2.utils.FrameProfiler} - Times every frame and the drawing and updating
+ *       subsystems, one {@link com.shiroyama.chess2.utils.TimingHistogram} per
+ *       {@link com.shiroyama.chess2.utils.FrameSection}, and writes their percentiles to a report</li>
+ *   <li>{@link com.shiroyama.chess2.utils.TextureLoader} - Handles loading of the packed texture atlas and of chess
  *       piece textures for both teams</li>
  *   <li>{@link com.shiroyama.chess2.utils.PieceMovementHandler} - Controls piece movement within
  *       screen boundaries with appropriate speed calculations</li>
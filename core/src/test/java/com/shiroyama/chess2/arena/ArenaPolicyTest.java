@@ -0,0 +1,52 @@
+package com.shiroyama.chess2.arena;
+
+import com.shiroyama.chess2.chessboard.model.TargetPoint;
+import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+import com.shiroyama.chess2.chessboard.pieces.Team;
+import com.shiroyama.chess2.chessboard.utils.DuelResolver;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArenaPolicyTest {
+
+    private static final float WIDTH = 12.8f;
+    private static final float HEIGHT = 9.6f;
+
+    @Test
+    void testCreateResolver() {
+        assertNull(ArenaPolicy.INTERACTIVE.createResolver(WIDTH, HEIGHT, 0L));
+        assertTrue(ArenaPolicy.SIMULATED.createResolver(WIDTH, HEIGHT, 0L) instanceof SimulatedDuelResolver);
+        assertTrue(ArenaPolicy.INSTANT.createResolver(WIDTH, HEIGHT, 0L) instanceof DuelPredictor);
+    }
+
+    @Test
+    void testNextWrapsAround() {
+        assertEquals(ArenaPolicy.SIMULATED, ArenaPolicy.INTERACTIVE.next());
+        assertEquals(ArenaPolicy.INSTANT, ArenaPolicy.SIMULATED.next());
+        assertEquals(ArenaPolicy.INTERACTIVE, ArenaPolicy.INSTANT.next());
+    }
+
+    @Test
+    void testSimulatedResolverIsSeeded() {
+        for (int duel = 0; duel < 5; duel++) {
+            PieceInfo[] first = resolveFresh(ArenaPolicy.SIMULATED.createResolver(WIDTH, HEIGHT, 42L), duel);
+            PieceInfo[] second = resolveFresh(ArenaPolicy.SIMULATED.createResolver(WIDTH, HEIGHT, 42L), duel);
+            assertEquals(first[0].getTeam(), second[0].getTeam());
+            assertEquals(first[0].getHp(), second[0].getHp());
+            assertTrue(first[0].getHp() >= 1);
+            assertEquals(0, first[1].getHp());
+        }
+    }
+
+    private static PieceInfo[] resolveFresh(DuelResolver resolver, int skipped) {
+        PieceInfo attacker = null, defender = null, winner = null;
+        for (int duel = 0; duel <= skipped; duel++) {
+            attacker = new PieceInfo(Team.WHITE, PieceType.KNIGHT, new TargetPoint(1, 1), 4, 1.5f);
+            defender = new PieceInfo(Team.BLACK, PieceType.BISHOP, new TargetPoint(2, 3), 3, 2.5f);
+            winner = resolver.resolve(attacker, defender);
+        }
+        return new PieceInfo[] {winner, (winner == attacker) ? defender : attacker};
+    }
+}
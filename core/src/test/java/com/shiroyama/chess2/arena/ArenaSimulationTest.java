@@ -0,0 +1,58 @@
+package com.shiroyama.chess2.arena;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArenaSimulationTest {
+
+    private ArenaSimulation simulation;
+
+    @BeforeEach
+    void setUp() {
+        simulation = new ArenaSimulation(12.8f, 9.6f, ArenaSimulation.DEFAULT_STEP);
+    }
+
+    @Test
+    void testSameSeedSameResult() {
+        boolean won = simulation.run(10, 1.5f, 10, 2f, 42L);
+        int attackerHp = simulation.getAttackerHp();
+        int defenderHp = simulation.getDefenderHp();
+        float elapsed = simulation.getElapsed();
+
+        assertEquals(won, simulation.run(10, 1.5f, 10, 2f, 42L));
+        assertEquals(attackerHp, simulation.getAttackerHp());
+        assertEquals(defenderHp, simulation.getDefenderHp());
+        assertEquals(elapsed, simulation.getElapsed());
+    }
+
+    @Test
+    void testDuelEnds() {
+        boolean won = simulation.run(3, 2.5f, 1, 1f, 7L);
+        assertTrue(simulation.getElapsed() < ArenaSimulation.MAX_DURATION);
+        assertTrue(simulation.getAttackerHp() <= 0 || simulation.getDefenderHp() <= 0);
+        assertEquals(simulation.getDefenderHp() <= 0, won);
+    }
+
+    @Test
+    void testStrongerPieceWinsMoreOften() {
+        int strongWins = 0;
+        int weakWins = 0;
+        for (long seed = 0; seed < 200; seed++) {
+            if (simulation.run(15, 3f, 1, 1f, seed)) {
+                strongWins++;
+            }
+            if (simulation.run(1, 1f, 15, 3f, seed)) {
+                weakWins++;
+            }
+        }
+        assertTrue(strongWins > weakWins);
+    }
+
+    @Test
+    void testRejectsInvalidArena() {
+        assertThrows(IllegalArgumentException.class, () -> new ArenaSimulation(1f, 10f, ArenaSimulation.DEFAULT_STEP));
+        assertThrows(IllegalArgumentException.class, () -> new ArenaSimulation(10f, 10f, 0f));
+    }
+}
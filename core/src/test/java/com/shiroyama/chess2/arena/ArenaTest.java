@@ -4,6 +4,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Graphics;
 import com.shiroyama.chess2.chessboard.model.TargetPoint;
 import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+import com.shiroyama.chess2.chessboard.pieces.Team;
 import org.junit.Before;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,8 +12,6 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 
-import java.util.List;
-
 import static org.junit.jupiter.api.Assertions.*;
 
 class ArenaTest {
@@ -47,8 +46,8 @@ class ArenaTest {
 
         arena.update(1f);
 
-        Mockito.verify(mockAttacker).shoot(Mockito.any(TargetPoint.class), Mockito.anyList());
-        Mockito.verify(mockDefender).shoot(Mockito.any(TargetPoint.class), Mockito.anyList());
+        Mockito.verify(mockAttacker).shoot(Mockito.any(TargetPoint.class), Mockito.any(ProjectilePool.class));
+        Mockito.verify(mockDefender).shoot(Mockito.any(TargetPoint.class), Mockito.any(ProjectilePool.class));
     }
 
     @Test
@@ -83,8 +82,44 @@ class ArenaTest {
 
     @Test
     void testGetProjectiles() {
-        List<Projectile> projectiles = arena.getProjectiles();
+        ProjectilePool projectiles = arena.getProjectiles();
         assertNotNull(projectiles);
         assertTrue(projectiles.isEmpty());
     }
+
+    @Test
+    void testExplicitBoundsRemoveProjectiles() {
+        Gdx.graphics = null;
+        Arena bounded = new Arena(mockAttacker, mockDefender, new TargetPoint(10f, 10f));
+        bounded.startCombat();
+        Mockito.when(mockAttacker.getAttackRate()).thenReturn(1f);
+        Mockito.when(mockDefender.getAttackRate()).thenReturn(1f);
+        Mockito.when(mockAttacker.getHp()).thenReturn(5);
+        Mockito.when(mockDefender.getHp()).thenReturn(5);
+
+        bounded.getProjectiles().spawn(Team.WHITE, 9.9f, 5f, 20f, 5f);
+        bounded.update(0.5f);
+
+        assertTrue(bounded.getProjectiles().isEmpty());
+    }
+
+    @Test
+    void testHitTakesHpAndRemovesProjectile() {
+        Arena bounded = new Arena(mockAttacker, mockDefender, new TargetPoint(10f, 10f));
+        bounded.startCombat();
+        Mockito.when(mockAttacker.getAttackRate()).thenReturn(0.1f);
+        Mockito.when(mockDefender.getAttackRate()).thenReturn(0.1f);
+        Mockito.when(mockAttacker.getTeam()).thenReturn(Team.WHITE);
+        Mockito.when(mockDefender.getTeam()).thenReturn(Team.BLACK);
+        Mockito.when(mockDefender.getHp()).thenReturn(5);
+
+        bounded.getProjectiles().spawn(Team.WHITE, 1.5f, 1.5f, 2.5f, 2.5f);
+        bounded.getProjectiles().spawn(Team.BLACK, 5f, 5f, 6f, 6f);
+        bounded.update(0.1f);
+
+        Mockito.verify(mockDefender).setHp(4);
+        Mockito.verify(mockAttacker, Mockito.never()).setHp(Mockito.anyInt());
+        assertEquals(1, bounded.getProjectiles().size());
+        assertEquals(Team.BLACK, bounded.getProjectiles().getTeam(0));
+    }
 }
@@ -0,0 +1,73 @@
+package com.shiroyama.chess2.arena;
+
+import com.shiroyama.chess2.chessboard.pieces.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollisionGridTest {
+
+    private CollisionGrid grid;
+    private ProjectilePool projectiles;
+
+    @BeforeEach
+    void setUp() {
+        grid = new CollisionGrid(10f, 10f, 1f);
+        projectiles = new ProjectilePool(4);
+    }
+
+    @Test
+    void testFindHit() {
+        grid.addPiece(0, Team.WHITE, 1f, 1f);
+        grid.addPiece(1, Team.BLACK, 5.5f, 5.5f);
+
+        int white = projectiles.spawn(Team.WHITE, 6.2f, 6.2f, 7f, 7f);
+        int black = projectiles.spawn(Team.BLACK, 6.2f, 6.2f, 7f, 7f);
+        int miss = projectiles.spawn(Team.WHITE, 3f, 3f, 4f, 4f);
+
+        assertEquals(1, grid.findHit(projectiles, white));
+        assertEquals(CollisionGrid.NO_HIT, grid.findHit(projectiles, black));
+        assertEquals(CollisionGrid.NO_HIT, grid.findHit(projectiles, miss));
+    }
+
+    @Test
+    void testLowestIdWinsAndClear() {
+        grid.addPiece(3, Team.BLACK, 2f, 2f);
+        grid.addPiece(2, Team.BLACK, 2.5f, 2.5f);
+        int i = projectiles.spawn(Team.WHITE, 2.6f, 2.6f, 3f, 3f);
+        assertEquals(2, grid.findHit(projectiles, i));
+
+        grid.clear();
+        assertEquals(CollisionGrid.NO_HIT, grid.findHit(projectiles, i));
+    }
+
+    @Test
+    void testMatchesBruteForce() {
+        Random random = new Random(1);
+        float[] x = new float[20];
+        float[] y = new float[20];
+        for (int id = 0; id < x.length; id++) {
+            x[id] = random.nextFloat() * 11f - 0.5f;
+            y[id] = random.nextFloat() * 11f - 0.5f;
+            grid.addPiece(id, (id % 2 == 0) ? Team.WHITE : Team.BLACK, x[id], y[id]);
+        }
+
+        for (int n = 0; n < 500; n++) {
+            projectiles.clear();
+            Team team = (n % 2 == 0) ? Team.WHITE : Team.BLACK;
+            int i = projectiles.spawn(team, random.nextFloat() * 12f - 1f, random.nextFloat() * 12f - 1f, -5f, -5f);
+
+            int expected = CollisionGrid.NO_HIT;
+            for (int id = 0; id < x.length && expected == CollisionGrid.NO_HIT; id++) {
+                boolean enemy = (id % 2 == 0) != (team == Team.WHITE);
+                if (enemy && projectiles.overlaps(i, x[id], y[id])) {
+                    expected = id;
+                }
+            }
+            assertEquals(expected, grid.findHit(projectiles, i));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.shiroyama.chess2.arena;
+
+import com.shiroyama.chess2.chessboard.engine.DuelOdds;
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DuelBatchRunnerTest {
+
+    private DuelBatchRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        Properties stats = new Properties();
+        stats.setProperty("QUEEN.hp", "4");
+        stats.setProperty("KING.hp", "4");
+        stats.setProperty("KNIGHT.hp", "4");
+        stats.setProperty("ROOK.hp", "4");
+        runner = DuelBatchRunner.fromStats(stats);
+    }
+
+    @Test
+    void testRunAll() {
+        List<DuelStats> results = runner.runAll(300, 5L);
+        assertEquals(36, results.size());
+        for (DuelStats stats : results) {
+            assertEquals(300, stats.getDuels());
+            assertTrue(stats.getMeanDuration() > 0);
+        }
+
+        DuelStats pawnVsPawn = results.get(0);
+        assertEquals(PieceType.PAWN, pawnVsPawn.getAttackerType());
+        assertEquals(PieceType.PAWN, pawnVsPawn.getDefenderType());
+        assertEquals(pawnVsPawn.getAttackerWins(),
+            pawnVsPawn.getAttackerHpLeftCount(0) + pawnVsPawn.getAttackerHpLeftCount(1));
+    }
+
+    @Test
+    void testRejectsNoDuels() {
+        assertThrows(IllegalArgumentException.class, () -> runner.runAll(0, 5L));
+        assertThrows(IllegalArgumentException.class, () -> runner.runAll(-1, 5L));
+        assertThrows(IllegalArgumentException.class, () -> runner.buildOdds(0, 5L));
+    }
+
+    @Test
+    void testDeterministic() {
+        List<DuelStats> first = runner.runAll(300, 5L);
+        List<DuelStats> second = runner.runAll(300, 5L);
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getAttackerWins(), second.get(i).getAttackerWins());
+        }
+    }
+
+    @Test
+    void testWriteCsv() {
+        StringWriter out = new StringWriter();
+        DuelBatchRunner.writeCsv(runner.runAll(10, 1L), out);
+        String[] lines = out.toString().split("\\R");
+        assertEquals(37, lines.length);
+        assertTrue(lines[0].startsWith("attacker,defender,"));
+        assertTrue(lines[1].startsWith("PAWN,PAWN,1,1,10,"));
+    }
+
+    @Test
+    void testBuildOdds() {
+        DuelOdds odds = runner.buildOdds(50, 2L);
+        float chance = odds.getWinChance(PieceType.QUEEN.ordinal(), 4, PieceType.PAWN.ordinal(), 1);
+        assertTrue(chance > 0.5f);
+        assertTrue(odds.getAttackerHp(PieceType.QUEEN.ordinal(), 4, PieceType.PAWN.ordinal(), 1) <= 4);
+    }
+}
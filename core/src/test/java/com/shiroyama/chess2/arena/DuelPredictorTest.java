@@ -0,0 +1,87 @@
+package com.shiroyama.chess2.arena;
+
+import com.shiroyama.chess2.chessboard.model.TargetPoint;
+import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+import com.shiroyama.chess2.chessboard.pieces.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DuelPredictorTest {
+
+    private static final float WIDTH = 12.8f;
+    private static final float HEIGHT = 9.6f;
+
+    private DuelPredictor predictor;
+
+    @BeforeEach
+    void setUp() {
+        predictor = new DuelPredictor(WIDTH, HEIGHT);
+    }
+
+    @Test
+    void testFlightTime() {
+        assertEquals((5 - ProjectilePool.PROJECTILE_SIZE) / ProjectilePool.PROJECTILE_SPEED,
+            DuelPredictor.flightTime(0, 0, -0.5f, 5), 1e-6);
+        assertEquals(0.0, DuelPredictor.flightTime(2, 2, 1.8f, 1.8f), 1e-9);
+    }
+
+    @Test
+    void testMatchesSteppedArena() {
+        int[][] matchups = {{5, 3, 4, 1}, {3, 1, 6, 3}, {10, 2, 10, 2}, {4, 1, 2, 1}, {1, 3, 8, 1}};
+        for (int[] matchup : matchups) {
+            PieceInfo attacker = new PieceInfo(Team.WHITE, PieceType.ROOK, new TargetPoint(WIDTH / 2f, HEIGHT * 0.8f),
+                matchup[0], matchup[1]);
+            PieceInfo defender = new PieceInfo(Team.BLACK, PieceType.ROOK, new TargetPoint(WIDTH / 2f, HEIGHT * 0.2f),
+                matchup[2], matchup[3]);
+            DuelPrediction prediction = predictor.predict(matchup[0], matchup[1], matchup[2], matchup[3]);
+
+            Arena arena = new Arena(attacker, defender, new TargetPoint(WIDTH, HEIGHT));
+            arena.startCombat();
+            float elapsed = 0f;
+            while (!arena.isCombatOver()) {
+                arena.update(1f / 240f);
+                elapsed += 1f / 240f;
+            }
+
+            assertEquals(arena.attackerWon(), prediction.attackerWon());
+            assertEquals(elapsed, prediction.getDuration(), 0.05f);
+            assertEquals(attacker.getHp(), prediction.getAttackerHp());
+            assertEquals(defender.getHp(), prediction.getDefenderHp());
+        }
+    }
+
+    @Test
+    void testTieGoesToAttacker() {
+        DuelPrediction prediction = DuelPredictor.predict(3, 1f, 0f, 0f, 3, 1f, 0.1f, 0.1f);
+        assertTrue(prediction.attackerWon());
+        assertEquals(0, prediction.getAttackerHp());
+        assertEquals(0, prediction.getDefenderHp());
+        assertEquals(3f, prediction.getDuration(), 1e-6f);
+    }
+
+    @Test
+    void testPieceThatCannotShootLoses() {
+        DuelPrediction prediction = predictor.predict(20, 0f, 1, 1f);
+        assertFalse(prediction.attackerWon());
+        assertEquals(20f / 1f + (float) DuelPredictor.flightTime(WIDTH / 2f, HEIGHT * 0.2f, WIDTH / 2f, HEIGHT * 0.8f),
+            prediction.getDuration(), 1e-4f);
+
+        prediction = predictor.predict(1, 0f, 1, 0f);
+        assertFalse(prediction.attackerWon());
+        assertTrue(Float.isInfinite(prediction.getDuration()));
+    }
+
+    @Test
+    void testResolveSetsHp() {
+        PieceInfo attacker = new PieceInfo(Team.WHITE, PieceType.QUEEN, new TargetPoint(3, 3), 6, 3f);
+        PieceInfo defender = new PieceInfo(Team.BLACK, PieceType.PAWN, new TargetPoint(3, 2), 3, 1f);
+
+        assertSame(attacker, predictor.resolve(attacker, defender));
+        assertEquals(0, defender.getHp());
+        assertEquals(6, attacker.getHp());
+        assertEquals(new TargetPoint(3, 3), attacker.getPosition());
+    }
+}
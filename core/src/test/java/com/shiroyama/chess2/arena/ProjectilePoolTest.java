@@ -0,0 +1,55 @@
+package com.shiroyama.chess2.arena;
+
+import com.shiroyama.chess2.chessboard.pieces.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectilePoolTest {
+
+    private ProjectilePool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ProjectilePool(2);
+    }
+
+    @Test
+    void testSpawnAndUpdate() {
+        int i = pool.spawn(Team.WHITE, 0f, 0f, 3f, 4f);
+        assertEquals(0, i);
+        assertEquals(3f, pool.getVelocityX(i), 1e-5f);
+        assertEquals(4f, pool.getVelocityY(i), 1e-5f);
+
+        pool.update(0.5f);
+        assertEquals(1.5f, pool.getX(i), 1e-5f);
+        assertEquals(2f, pool.getY(i), 1e-5f);
+        assertEquals(-1, pool.spawn(Team.WHITE, 1f, 1f, 1f, 1f));
+    }
+
+    @Test
+    void testGrowAndSwapRemove() {
+        for (int i = 0; i < 5; i++) {
+            pool.spawn((i % 2 == 0) ? Team.WHITE : Team.BLACK, i, 0f, i, 10f);
+        }
+        assertEquals(5, pool.size());
+
+        pool.remove(1);
+        assertEquals(4, pool.size());
+        assertEquals(4f, pool.getX(1));
+        assertEquals(Team.WHITE, pool.getTeam(1));
+
+        pool.clear();
+        assertTrue(pool.isEmpty());
+    }
+
+    @Test
+    void testOverlapsAndBounds() {
+        int i = pool.spawn(Team.WHITE, 1f, 1f, 5f, 5f);
+        assertTrue(pool.overlaps(i, 1f, 1f));
+        assertFalse(pool.overlaps(i, 10f, 10f));
+        assertFalse(pool.isOutOfBounds(i, 10f, 10f));
+        assertTrue(pool.isOutOfBounds(i, 0.5f, 0.5f));
+    }
+}
@@ -0,0 +1,61 @@
+package com.shiroyama.chess2.chessboard.engine;
+
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DuelOddsTest {
+
+    private static final int PAWN = PieceType.PAWN.ordinal();
+    private static final int QUEEN = PieceType.QUEEN.ordinal();
+
+    private DuelOdds odds;
+
+    @BeforeEach
+    void setUp() {
+        odds = DuelOdds.defaults();
+    }
+
+    @Test
+    void testEvenDuel() {
+        assertEquals(0.5f, odds.getWinChance(QUEEN, 10, QUEEN, 10), 1e-5f);
+        assertEquals(0.5f, odds.getWinChance(PAWN, 1, PAWN, 1), 1e-5f);
+    }
+
+    @Test
+    void testChanceFollowsHpAndRate() {
+        assertTrue(odds.getWinChance(QUEEN, 15, PAWN, 1) > 0.9f);
+        assertTrue(odds.getWinChance(PAWN, 1, QUEEN, 15) < 0.1f);
+        assertTrue(odds.getWinChance(QUEEN, 10, QUEEN, 5) > odds.getWinChance(QUEEN, 5, QUEEN, 5));
+        assertTrue(odds.getAttackerHp(QUEEN, 15, PAWN, 1) <= 15);
+        assertTrue(odds.getDefenderHp(QUEEN, 15, PAWN, 1) >= 1);
+    }
+
+    @Test
+    void testHpAboveTableIsClamped() {
+        assertEquals(odds.getWinChance(QUEEN, DuelOdds.MAX_HP, PAWN, 1), odds.getWinChance(QUEEN, 100, PAWN, 1));
+    }
+
+    @Test
+    void testSaveAndLoad() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        odds.save(out);
+        DuelOdds loaded = DuelOdds.load(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(odds.getWinChance(QUEEN, 7, PAWN, 3), loaded.getWinChance(QUEEN, 7, PAWN, 3));
+        assertEquals(odds.getAttackerHp(QUEEN, 7, PAWN, 3), loaded.getAttackerHp(QUEEN, 7, PAWN, 3));
+        assertThrows(IOException.class, () -> DuelOdds.load(new ByteArrayInputStream(new byte[12])));
+    }
+
+    @Test
+    void testAnalyticRejectsBadRates() {
+        assertThrows(IllegalArgumentException.class, () -> DuelOdds.analytic(new float[] {1f}));
+        assertThrows(IllegalArgumentException.class, () -> DuelOdds.analytic(new float[] {1f, 1f, 1f, 0f, 1f, 1f}));
+    }
+}
@@ -0,0 +1,137 @@
+package com.shiroyama.chess2.chessboard.engine;
+
+import com.shiroyama.chess2.chessboard.model.BitBoard;
+import com.shiroyama.chess2.chessboard.model.BoardState;
+import com.shiroyama.chess2.chessboard.model.TargetPoint;
+import com.shiroyama.chess2.chessboard.pieces.MoveGenerator;
+import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+import com.shiroyama.chess2.chessboard.pieces.Rules;
+import com.shiroyama.chess2.chessboard.pieces.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerftTest {
+
+    private Perft perft;
+
+    @BeforeEach
+    void setUp() {
+        perft = new Perft();
+    }
+
+    private void assertPerft(String position, long... expected) {
+        BitBoard board = Perft.parseBoard(position);
+        Team team = Perft.parseTeam(position);
+        for (int depth = 1; depth <= expected.length; depth++) {
+            assertEquals(expected[depth - 1], perft.perft(board, team, depth), position + " depth " + depth);
+        }
+    }
+
+    /**
+     * Checks that the tree perft counts is the one {@link Rules} produces: at every node down to the depth,
+     * the moves of {@link MoveGenerator} must be the moves {@code Rules.GetValidMoves} gives every piece
+     * of the team to move, the promotions to different pieces counting as one move.
+     */
+    private void assertMatchesRules(String position, int depth) {
+        BitBoard bits = Perft.parseBoard(position);
+        BoardState board = new BoardState();
+        for (int x = 0; x < 8; x++) {
+            for (int y = 0; y < 8; y++) {
+                int pieceKind = bits.getPieceKind(BitBoard.square(x, y));
+                board.pieces[x][y] = (pieceKind == BitBoard.EMPTY) ? null : new PieceInfo(BitBoard.teamOf(pieceKind),
+                    BitBoard.typeOf(pieceKind), new TargetPoint(x, y), 1, 1f);
+            }
+        }
+        board.syncBitBoard();
+        assertMatchesRules(board, Perft.parseTeam(position), depth, new int[depth + 1][MoveGenerator.MAX_MOVES]);
+    }
+
+    private void assertMatchesRules(BoardState board, Team team, int depth, int[][] buffers) {
+        int[] buffer = buffers[depth];
+        int count = MoveGenerator.generateMoves(board.getBitBoard(), team, buffer);
+        Set<Integer> generated = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            generated.add(MoveGenerator.getFrom(buffer[i]) * 64 + MoveGenerator.getTo(buffer[i]));
+        }
+
+        Set<Integer> expected = new HashSet<>();
+        ArrayList<TargetPoint> list = new ArrayList<>();
+        for (int x = 0; x < 8; x++) {
+            for (int y = 0; y < 8; y++) {
+                PieceInfo piece = board.pieces[x][y];
+                if (piece != null && piece.getTeam() == team) {
+                    list.clear();
+                    Rules.GetValidMoves(list, new TargetPoint(x, y), piece, board);
+                    for (TargetPoint point : list) {
+                        expected.add(BitBoard.square(x, y) * 64 + BitBoard.square(point));
+                    }
+                }
+            }
+        }
+        assertEquals(expected, generated, "Moves of " + team + " differ at depth " + depth);
+
+        if (depth == 0) {
+            return;
+        }
+        Team opponent = (team == Team.WHITE) ? Team.BLACK : Team.WHITE;
+        for (int i = 0; i < count; i++) {
+            board.makeMove(buffer[i]);
+            assertMatchesRules(board, opponent, depth - 1, buffers);
+            board.unmakeMove();
+        }
+    }
+
+    @Test
+    void testStartPosition() {
+        // Differs from standard chess from depth 3, the double step of a pawn may jump over a piece.
+        assertPerft(Perft.START_POSITION, 20, 400, 8982, 201378);
+        assertMatchesRules(Perft.START_POSITION, 3);
+    }
+
+    @Test
+    void testOpenCenter() {
+        String position = "r1bkqb1r/ppp2ppp/2n2n2/3pp3/3PP3/2N2N2/PPP2PPP/R1BKQB1R w";
+        assertPerft(position, 39, 1523, 60280);
+        assertMatchesRules(position, 3);
+    }
+
+    @Test
+    void testPromotions() {
+        String position = "3k4/1P4P1/8/8/2p5/8/1p4p1/3K4 w";
+        assertPerft(position, 13, 186, 3116, 55264);
+        assertMatchesRules(position, 3);
+    }
+
+    @Test
+    void testCrowdedPosition() {
+        String position = "r2k3r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R2K3R b";
+        assertPerft(position, 44, 2106, 91893);
+        assertMatchesRules(position, 3);
+    }
+
+    @Test
+    void testParse() {
+        BitBoard board = Perft.parseBoard(Perft.START_POSITION);
+        assertEquals(BitBoard.pieceKind(Team.BLACK, PieceType.KING), board.getPieceKind(BitBoard.square(3, 0)));
+        assertEquals(BitBoard.pieceKind(Team.WHITE, PieceType.QUEEN), board.getPieceKind(BitBoard.square(4, 7)));
+        assertEquals(32, Long.bitCount(board.getOccupancy()));
+        assertEquals(Team.WHITE, Perft.parseTeam(Perft.START_POSITION));
+        assertEquals(Team.BLACK, Perft.parseTeam("8/8/8/8/8/8/8/8 b"));
+        assertThrows(IllegalArgumentException.class, () -> Perft.parseBoard("8/8/8"));
+    }
+
+    @Test
+    void testLeavesBoardUnchanged() {
+        BitBoard board = Perft.parseBoard(Perft.START_POSITION);
+        long occupied = board.getOccupancy();
+        perft.perft(board, Team.WHITE, 3);
+        assertEquals(occupied, board.getOccupancy());
+    }
+}
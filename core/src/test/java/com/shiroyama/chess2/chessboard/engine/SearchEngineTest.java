@@ -0,0 +1,85 @@
+package com.shiroyama.chess2.chessboard.engine;
+
+import com.shiroyama.chess2.chessboard.model.BitBoard;
+import com.shiroyama.chess2.chessboard.model.BoardState;
+import com.shiroyama.chess2.chessboard.model.TargetPoint;
+import com.shiroyama.chess2.chessboard.pieces.MoveGenerator;
+import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+import com.shiroyama.chess2.chessboard.pieces.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchEngineTest {
+
+    private SearchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new SearchEngine(new TranspositionTable(1));
+    }
+
+    private static void place(BoardState board, Team team, PieceType type, int x, int y, int hp) {
+        board.pieces[x][y] = new PieceInfo(team, type, new TargetPoint(x, y), hp, 1f);
+    }
+
+    @Test
+    void testTakesHangingQueen() {
+        BoardState board = new BoardState();
+        board.pieces = new PieceInfo[8][8];
+        place(board, Team.WHITE, PieceType.KING, 3, 7, 20);
+        place(board, Team.WHITE, PieceType.ROOK, 4, 7, 20);
+        place(board, Team.BLACK, PieceType.KING, 3, 0, 20);
+        place(board, Team.BLACK, PieceType.QUEEN, 4, 4, 1);
+        board.syncBitBoard();
+
+        int move = engine.findBestMove(board, 500);
+        assertEquals(BitBoard.square(4, 7), MoveGenerator.getFrom(move));
+        assertEquals(BitBoard.square(4, 4), MoveGenerator.getTo(move));
+        assertTrue(MoveGenerator.isCapture(move));
+    }
+
+    @Test
+    void testAvoidsHopelessDuel() {
+        BoardState board = new BoardState();
+        board.pieces = new PieceInfo[8][8];
+        place(board, Team.WHITE, PieceType.KING, 0, 7, 20);
+        place(board, Team.WHITE, PieceType.QUEEN, 4, 7, 1);
+        place(board, Team.BLACK, PieceType.KING, 7, 0, 20);
+        place(board, Team.BLACK, PieceType.ROOK, 4, 4, 31);
+        board.syncBitBoard();
+
+        int move = engine.findBestMove(board, 200);
+        assertFalse(MoveGenerator.isCapture(move) && MoveGenerator.getTo(move) == BitBoard.square(4, 4));
+    }
+
+    @Test
+    void testReturnsLegalMoveAndRestoresBoard() {
+        BoardState board = new BoardState();
+        long hash = board.getHash();
+
+        int move = engine.findBestMove(board, 200);
+
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generateMoves(board, Team.WHITE, moves);
+        boolean found = false;
+        for (int i = 0; i < count; i++) {
+            found |= moves[i] == move;
+        }
+        assertTrue(found);
+        assertTrue(engine.getCompletedDepth() >= 1);
+        assertEquals(hash, board.getHash());
+        assertEquals(0, board.getUndoCount());
+    }
+
+    @Test
+    void testRespectsTimeBudget() {
+        BoardState board = new BoardState();
+        long start = System.nanoTime();
+        engine.findBestMove(board, 100);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        assertTrue(elapsedMillis < 1000, "Search took " + elapsedMillis + " ms");
+    }
+}
@@ -0,0 +1,89 @@
+package com.shiroyama.chess2.chessboard.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    private TranspositionTable table;
+
+    @BeforeEach
+    void setUp() {
+        table = new TranspositionTable(1);
+    }
+
+    @Test
+    void testCapacity() {
+        assertEquals(65536, table.capacity());
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+    }
+
+    @Test
+    void testStoreAndProbe() {
+        long key = 0x123456789ABCDEFL;
+        table.store(key, 7, -250, TranspositionTable.LOWER, 1234);
+
+        long data = table.probe(key);
+        assertNotEquals(TranspositionTable.MISS, data);
+        assertEquals(7, TranspositionTable.getDepth(data));
+        assertEquals(-250, TranspositionTable.getScore(data));
+        assertEquals(TranspositionTable.LOWER, TranspositionTable.getBound(data));
+        assertEquals(1234, TranspositionTable.getMove(data));
+
+        assertEquals(TranspositionTable.MISS, table.probe(key + table.capacity()));
+        table.clear();
+        assertEquals(TranspositionTable.MISS, table.probe(key));
+    }
+
+    @Test
+    void testReplacement() {
+        long key = 42L;
+        table.store(key, 6, 10, TranspositionTable.EXACT, 77);
+        table.store(key, 3, 20, TranspositionTable.UPPER, 0);
+        assertEquals(6, TranspositionTable.getDepth(table.probe(key)));
+
+        table.store(key, 8, 30, TranspositionTable.LOWER, 0);
+        long data = table.probe(key);
+        assertEquals(30, TranspositionTable.getScore(data));
+        assertEquals(77, TranspositionTable.getMove(data));
+
+        long other = key + table.capacity();
+        table.store(other, 2, 0, TranspositionTable.EXACT, 0);
+        assertEquals(8, TranspositionTable.getDepth(table.probe(key)));
+        table.newSearch();
+        table.store(other, 2, 0, TranspositionTable.EXACT, 0);
+        assertEquals(TranspositionTable.MISS, table.probe(key));
+        assertEquals(2, TranspositionTable.getDepth(table.probe(other)));
+    }
+
+    @Test
+    void testConcurrentAccess() throws InterruptedException {
+        AtomicInteger corrupted = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            long seed = t;
+            threads[t] = new Thread(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < 200000; i++) {
+                    long key = random.nextInt(4096) * 0x9E3779B97F4A7C15L;
+                    int score = (int) (key >>> 40);
+                    table.store(key, random.nextInt(20), score, TranspositionTable.EXACT, (int) (key & 0xFFFF));
+                    long data = table.probe(key);
+                    if (data != TranspositionTable.MISS && TranspositionTable.getScore(data) != score) {
+                        corrupted.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, corrupted.get());
+    }
+}
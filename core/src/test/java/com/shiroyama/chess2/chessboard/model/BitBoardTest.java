@@ -0,0 +1,81 @@
+package com.shiroyama.chess2.chessboard.model;
+
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+import com.shiroyama.chess2.chessboard.pieces.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitBoardTest {
+
+    private BitBoard bitBoard;
+
+    @BeforeEach
+    void setUp() {
+        bitBoard = new BitBoard();
+    }
+
+    @Test
+    void testSquare() {
+        assertEquals(0, BitBoard.square(0, 0));
+        assertEquals(63, BitBoard.square(7, 7));
+        assertEquals(BitBoard.square(3, 6), BitBoard.square(new TargetPoint(3, 6)));
+        assertEquals(3, BitBoard.squareX(BitBoard.square(3, 6)));
+        assertEquals(6, BitBoard.squareY(BitBoard.square(3, 6)));
+    }
+
+    @Test
+    void testPieceKind() {
+        for (Team team : Team.values()) {
+            for (PieceType type : PieceType.values()) {
+                int kind = BitBoard.pieceKind(team, type);
+                assertEquals(team, BitBoard.teamOf(kind));
+                assertEquals(type, BitBoard.typeOf(kind));
+            }
+        }
+    }
+
+    @Test
+    void testAddAndRemovePiece() {
+        int kind = BitBoard.pieceKind(Team.BLACK, PieceType.ROOK);
+        int square = BitBoard.square(2, 3);
+
+        bitBoard.addPiece(kind, square);
+        assertTrue(bitBoard.isOccupied(square));
+        assertEquals(kind, bitBoard.getPieceKind(square));
+        assertEquals(1L << square, bitBoard.getPieces(Team.BLACK, PieceType.ROOK));
+        assertEquals(1L << square, bitBoard.getOccupancy(Team.BLACK));
+        assertEquals(0L, bitBoard.getOccupancy(Team.WHITE));
+
+        bitBoard.removePiece(kind, square);
+        assertFalse(bitBoard.isOccupied(square));
+        assertEquals(BitBoard.EMPTY, bitBoard.getPieceKind(square));
+        assertEquals(0L, bitBoard.getOccupancy());
+    }
+
+    @Test
+    void testMovePiece() {
+        int kind = BitBoard.pieceKind(Team.WHITE, PieceType.KNIGHT);
+        int from = BitBoard.square(1, 7);
+        int to = BitBoard.square(2, 5);
+
+        bitBoard.addPiece(kind, from);
+        bitBoard.movePiece(kind, from, to);
+
+        assertFalse(bitBoard.isOccupied(from));
+        assertTrue(bitBoard.isOccupied(to));
+        assertEquals(kind, bitBoard.getPieceKind(to));
+        assertEquals(1L << to, bitBoard.getPieces(kind));
+    }
+
+    @Test
+    void testCopyFrom() {
+        bitBoard.addPiece(BitBoard.pieceKind(Team.WHITE, PieceType.KING), BitBoard.square(3, 7));
+        BitBoard copy = new BitBoard();
+        copy.copyFrom(bitBoard);
+
+        assertEquals(bitBoard.getOccupancy(), copy.getOccupancy());
+        assertEquals(bitBoard.getPieceKind(BitBoard.square(3, 7)), copy.getPieceKind(BitBoard.square(3, 7)));
+    }
+}
@@ -0,0 +1,249 @@
+package com.shiroyama.chess2.chessboard.model;
+
+import com.shiroyama.chess2.chessboard.pieces.MoveGenerator;
+import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+import com.shiroyama.chess2.chessboard.pieces.Team;
+import com.shiroyama.chess2.utils.ScoreBoardManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardStateTest {
+
+    private BoardState boardState;
+
+    @BeforeEach
+    void setUp() {
+        boardState = new BoardState();
+    }
+
+    @Test
+    void testInitWithDefaultStats() {
+        assertEquals(32, Long.bitCount(boardState.getBitBoard().getOccupancy()));
+
+        PieceInfo whiteQueen = boardState.getPiece(new TargetPoint(4, 7));
+        assertEquals(PieceType.QUEEN, whiteQueen.getPieceType());
+        assertEquals(Team.WHITE, whiteQueen.getTeam());
+        assertEquals(PieceInfo.getDefaultHp(PieceType.QUEEN), whiteQueen.getHp());
+        assertEquals(PieceInfo.getDefaultAttackRate(PieceType.QUEEN), whiteQueen.getAttackRate());
+    }
+
+    @Test
+    void testCaptureWithoutListener() {
+        TargetPoint from = new TargetPoint(4, 7);
+        TargetPoint to = new TargetPoint(4, 1);
+        PieceInfo queen = boardState.getPiece(from);
+
+        boardState.movePiece(from, to);
+
+        assertNull(boardState.getPiece(from));
+        assertSame(queen, boardState.getPiece(to));
+        assertEquals(31, Long.bitCount(boardState.getBitBoard().getOccupancy()));
+    }
+
+    @Test
+    void testPromotionWithoutListener() {
+        TargetPoint from = new TargetPoint(0, 1);
+        TargetPoint to = new TargetPoint(0, 0);
+        boardState.pieces[0][0] = null;
+        boardState.pieces[0][1] = new PieceInfo(Team.WHITE, PieceType.PAWN, from, 1, 1f);
+        boardState.syncBitBoard();
+
+        boardState.movePiece(from, to);
+        assertEquals(PieceType.PAWN, boardState.getPiece(to).getPieceType());
+    }
+
+    @Test
+    void testScoreBoard() {
+        ScoreBoardManager scoreBoardManager = new ScoreBoardManager();
+        boardState.setScoreBoardManager(scoreBoardManager);
+
+        boardState.movePiece(new TargetPoint(0, 6), new TargetPoint(0, 5));
+        assertEquals(1, scoreBoardManager.getMoveCount());
+    }
+
+    @Test
+    void testMakeAndUnmakeCapture() {
+        int from = BitBoard.square(4, 7);
+        int to = BitBoard.square(4, 1);
+        PieceInfo queen = boardState.pieces[4][7];
+        PieceInfo pawn = boardState.pieces[4][1];
+        TargetPoint queenPosition = queen.getPosition();
+        int queenHp = queen.getHp();
+
+        boardState.makeMove(MoveGenerator.encode(from, to, MoveGenerator.CAPTURE), true, 4);
+        assertSame(queen, boardState.pieces[4][1]);
+        assertNull(boardState.pieces[4][7]);
+        assertEquals(4, queen.getHp());
+        assertEquals(new TargetPoint(4, 1), queen.getPosition());
+        assertEquals(31, Long.bitCount(boardState.getBitBoard().getOccupancy()));
+
+        boardState.unmakeMove();
+        assertSame(queen, boardState.pieces[4][7]);
+        assertSame(pawn, boardState.pieces[4][1]);
+        assertSame(queenPosition, queen.getPosition());
+        assertEquals(queenHp, queen.getHp());
+        assertEquals(0, boardState.getUndoCount());
+    }
+
+    @Test
+    void testMakeMoveDefenderWins() {
+        int from = BitBoard.square(4, 7);
+        int to = BitBoard.square(4, 1);
+        PieceInfo pawn = boardState.pieces[4][1];
+        int pawnHp = pawn.getHp();
+
+        boardState.makeMove(MoveGenerator.encode(from, to, MoveGenerator.CAPTURE), false, 7);
+        assertNull(boardState.pieces[4][7]);
+        assertSame(pawn, boardState.pieces[4][1]);
+        assertEquals(7, pawn.getHp());
+        assertEquals(BitBoard.EMPTY, boardState.getBitBoard().getPieceKind(from));
+
+        boardState.unmakeMove();
+        assertEquals(PieceType.QUEEN, boardState.pieces[4][7].getPieceType());
+        assertEquals(pawnHp, pawn.getHp());
+        assertEquals(32, Long.bitCount(boardState.getBitBoard().getOccupancy()));
+    }
+
+    @Test
+    void testMakeAndUnmakePromotion() {
+        boardState.pieces[0][0] = null;
+        boardState.pieces[0][1] = new PieceInfo(Team.WHITE, PieceType.PAWN, new TargetPoint(0, 1), 1, 1f);
+        boardState.syncBitBoard();
+        PieceInfo pawn = boardState.pieces[0][1];
+
+        boardState.makeMove(MoveGenerator.encode(BitBoard.square(0, 1), BitBoard.square(0, 0), MoveGenerator.promotionFlag(PieceType.KNIGHT)));
+        assertEquals(PieceType.KNIGHT, pawn.getPieceType());
+        assertEquals(BitBoard.pieceKind(Team.WHITE, PieceType.KNIGHT), boardState.getBitBoard().getPieceKind(BitBoard.square(0, 0)));
+
+        boardState.unmakeMove();
+        assertEquals(PieceType.PAWN, pawn.getPieceType());
+        assertEquals(BitBoard.pieceKind(Team.WHITE, PieceType.PAWN), boardState.getBitBoard().getPieceKind(BitBoard.square(0, 1)));
+    }
+
+    @Test
+    void testUnmakeRestoresRandomGame() {
+        BitBoard initial = new BitBoard();
+        initial.copyFrom(boardState.getBitBoard());
+        PieceInfo[][] grid = new PieceInfo[8][8];
+        for (int x = 0; x < 8; x++) {
+            grid[x] = boardState.pieces[x].clone();
+        }
+
+        Random random = new Random(7);
+        int[] buffer = new int[MoveGenerator.MAX_MOVES];
+        Team team = Team.WHITE;
+        for (int ply = 0; ply < 60; ply++) {
+            int count = MoveGenerator.generateMoves(boardState, team, buffer);
+            if (count == 0) {
+                break;
+            }
+            boardState.makeMove(buffer[random.nextInt(count)], random.nextBoolean(), 1 + random.nextInt(5));
+            team = (team == Team.WHITE) ? Team.BLACK : Team.WHITE;
+            assertEquals(team, boardState.getSideToMove());
+            assertEquals(Zobrist.hash(boardState.pieces, team), boardState.getHash());
+        }
+        while (boardState.getUndoCount() > 0) {
+            boardState.unmakeMove();
+            assertEquals(Zobrist.hash(boardState.pieces, boardState.getSideToMove()), boardState.getHash());
+        }
+
+        for (int square = 0; square < 64; square++) {
+            assertEquals(initial.getPieceKind(square), boardState.getBitBoard().getPieceKind(square));
+        }
+        for (int x = 0; x < 8; x++) {
+            for (int y = 0; y < 8; y++) {
+                assertSame(grid[x][y], boardState.pieces[x][y]);
+                if (grid[x][y] != null) {
+                    assertEquals(PieceInfo.getDefaultHp(grid[x][y].getPieceType()), grid[x][y].getHp());
+                    assertEquals(new TargetPoint(x, y), grid[x][y].getPosition());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testHashFollowsGameMoves() {
+        long initial = boardState.getHash();
+        assertEquals(Zobrist.hash(boardState.pieces, Team.WHITE), initial);
+
+        boardState.setSideToMove(Team.BLACK);
+        assertNotEquals(initial, boardState.getHash());
+        boardState.setSideToMove(Team.WHITE);
+        assertEquals(initial, boardState.getHash());
+
+        TargetPoint from = new TargetPoint(4, 7);
+        TargetPoint to = new TargetPoint(4, 1);
+        boardState.movePiece(new TargetPoint(4, 6), new TargetPoint(4, 4));
+        assertEquals(Zobrist.hash(boardState.pieces, Team.WHITE), boardState.getHash());
+
+        PieceInfo queen = boardState.getPiece(from);
+        queen.setHp(2);
+        boardState.resolveAttack(from, to, queen);
+        assertEquals(Zobrist.hash(boardState.pieces, Team.WHITE), boardState.getHash());
+
+        boardState.promotePiece(queen, PieceType.KNIGHT);
+        assertEquals(Zobrist.hash(boardState.pieces, Team.WHITE), boardState.getHash());
+    }
+
+    @Test
+    void testHashIncludesHp() {
+        int move = MoveGenerator.encode(BitBoard.square(4, 7), BitBoard.square(4, 1), MoveGenerator.CAPTURE);
+        boardState.makeMove(move, true, 5);
+        long wounded = boardState.getHash();
+        boardState.unmakeMove();
+        boardState.makeMove(move, true, 15);
+        assertNotEquals(wounded, boardState.getHash());
+    }
+
+    @Test
+    void testCopyIsIndependent() {
+        boardState.setSideToMove(Team.BLACK);
+        BoardState copy = new BoardState(boardState);
+        assertEquals(boardState.getHash(), copy.getHash());
+        assertEquals(Team.BLACK, copy.getSideToMove());
+
+        copy.makeMove(MoveGenerator.encode(BitBoard.square(0, 1), BitBoard.square(0, 2), 0));
+        assertNotEquals(boardState.getHash(), copy.getHash());
+        assertNotNull(boardState.getPiece(new TargetPoint(0, 1)));
+        assertNotSame(boardState.getPiece(new TargetPoint(4, 7)), copy.getPiece(new TargetPoint(4, 7)));
+    }
+
+    @Test
+    void testCaptureWithResolver() {
+        TargetPoint from = new TargetPoint(4, 7);
+        TargetPoint to = new TargetPoint(4, 1);
+        PieceInfo queen = boardState.getPiece(from);
+        PieceInfo pawn = boardState.getPiece(to);
+        ScoreBoardManager scoreBoardManager = new ScoreBoardManager();
+        boardState.setScoreBoardManager(scoreBoardManager);
+        boardState.setOnAttackListener((attacker, defender) -> fail("Resolved captures do not start a combat"));
+        boardState.setDuelResolver((attacker, defender) -> {
+            defender.setHp(1);
+            return defender;
+        });
+
+        boardState.movePiece(from, to);
+
+        assertNull(boardState.getPiece(from));
+        assertSame(pawn, boardState.getPiece(to));
+        assertEquals(1, pawn.getHp());
+        assertEquals(31, Long.bitCount(boardState.getBitBoard().getOccupancy()));
+        assertEquals(1, (int) scoreBoardManager.getCapturedPieces(Team.BLACK).get(queen.getPieceType()));
+        assertFalse(boardState.isGameOver());
+    }
+
+    @Test
+    void testResolvedKingCaptureEndsGame() {
+        boardState.setDuelResolver((attacker, defender) -> attacker);
+
+        boardState.movePiece(new TargetPoint(4, 7), new TargetPoint(3, 0));
+
+        assertTrue(boardState.isGameOver());
+        assertEquals(Team.WHITE, boardState.getWinningTeam());
+    }
+}
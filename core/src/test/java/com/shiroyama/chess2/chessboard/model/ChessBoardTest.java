@@ -10,16 +10,22 @@ import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
 import com.shiroyama.chess2.chessboard.pieces.PieceType;
 import com.shiroyama.chess2.chessboard.pieces.Team;
 import com.shiroyama.chess2.chessboard.utils.AttackListener;
 import com.shiroyama.chess2.chessboard.utils.PromotionListener;
+import com.shiroyama.chess2.utils.TextureLoader;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.io.File;
 import java.util.HashMap;
 import java.util.logging.FileHandler;
 
@@ -123,9 +129,11 @@ class ChessBoardTest {
 
         PieceInfo blackPiece = new PieceInfo(Team.BLACK, PieceType.PAWN, targetPos);
         chessBoard.pieces[1][5] = blackPiece;
+        chessBoard.syncBitBoard();
 
         chessBoard.movePiece(attackerPos, targetPos);
         Mockito.verify(mockAttackListener).onAttack(Mockito.any(PieceInfo.class), Mockito.eq(blackPiece));
+        assertMirrorsPieces();
     }
 
     @Test
@@ -136,9 +144,44 @@ class ChessBoardTest {
 
         chessBoard.pieces[0][1] = whitePawn;
         chessBoard.pieces[0][0] = null;
+        chessBoard.syncBitBoard();
 
         chessBoard.movePiece(fromPos, toPos);
         Mockito.verify(mockPromotionListener).onPromote(whitePawn);
+        assertMirrorsPieces();
+    }
+
+    private void assertMirrorsPieces(){
+        BitBoard expected = new BitBoard();
+        expected.load(chessBoard.pieces);
+        for (int square = 0; square < 64; square++){
+            assertEquals(expected.getPieceKind(square), chessBoard.getBitBoard().getPieceKind(square), "Square " + square);
+        }
+        assertEquals(Zobrist.hash(chessBoard.pieces, chessBoard.getSideToMove()), chessBoard.getHash());
+    }
+
+    @Test
+    void testBitBoardSync() {
+        BitBoard bitBoard = chessBoard.getBitBoard();
+        assertEquals(32, Long.bitCount(bitBoard.getOccupancy()));
+        assertEquals(BitBoard.pieceKind(Team.WHITE, PieceType.KING), bitBoard.getPieceKind(BitBoard.square(3, 7)));
+
+        TargetPoint from = new TargetPoint(4, 6);
+        TargetPoint to = new TargetPoint(4, 4);
+        chessBoard.movePiece(from, to);
+        assertFalse(bitBoard.isOccupied(BitBoard.square(from)));
+        assertEquals(BitBoard.pieceKind(Team.WHITE, PieceType.PAWN), bitBoard.getPieceKind(BitBoard.square(to)));
+
+        chessBoard.promotePiece(chessBoard.getPiece(to), PieceType.QUEEN);
+        assertEquals(BitBoard.pieceKind(Team.WHITE, PieceType.QUEEN), bitBoard.getPieceKind(BitBoard.square(to)));
+
+        TargetPoint attackerPos = new TargetPoint(4, 4);
+        TargetPoint defenderPos = new TargetPoint(4, 1);
+        PieceInfo winner = chessBoard.getPiece(attackerPos);
+        chessBoard.resolveAttack(attackerPos, defenderPos, winner);
+        assertFalse(bitBoard.isOccupied(BitBoard.square(attackerPos)));
+        assertEquals(BitBoard.pieceKind(Team.WHITE, PieceType.QUEEN), bitBoard.getPieceKind(BitBoard.square(defenderPos)));
+        assertEquals(31, Long.bitCount(bitBoard.getOccupancy()));
     }
 
     @Test
@@ -158,4 +201,54 @@ class ChessBoardTest {
         chessBoard.setPromoting(true);
         assertTrue(chessBoard.isPromoting());
     }
+
+    @Test
+    void testDrawFromAtlas(){
+        Texture texture = mockTextures.get("white-pawn");
+        TextureAtlas atlas = new TextureAtlas();
+        for (String name : mockTextures.keySet()){
+            atlas.addRegion(TextureLoader.PIECE_REGION_PREFIX + name, texture, 0, 0, 8, 8);
+        }
+        atlas.addRegion(TextureLoader.WHITE_PIXEL_REGION, texture, 8, 0, 3, 3);
+        ChessBoard atlasBoard = new ChessBoard(400, atlas);
+
+        atlasBoard.draw(mockBatch, 0, 0);
+
+        Mockito.verify(mockBatch, Mockito.times(64 + 32)).draw(Mockito.any(TextureRegion.class),
+            Mockito.anyFloat(), Mockito.anyFloat(), Mockito.anyFloat(), Mockito.anyFloat());
+        Mockito.verify(mockBatch, Mockito.never()).draw(Mockito.any(Texture.class), Mockito.anyFloat(), Mockito.anyFloat());
+        assertEquals(1, countTextureSwitches());
+    }
+
+    @Test
+    void testDrawFromPackedAtlas(){
+        String atlasPath = System.getProperty("chess2.atlas");
+        Assumptions.assumeTrue(atlasPath != null && new File(atlasPath).exists(), "The atlas was not packed");
+        TextureAtlas atlas = new TextureAtlas(Gdx.files.absolute(atlasPath));
+        assertEquals(1, atlas.getTextures().size);
+        assertNotNull(atlas.findRegion(TextureLoader.PIECE_REGION_PREFIX + "white-king"));
+        assertNotNull(atlas.findRegion(TextureLoader.ARENA_REGION_PREFIX + "gun"));
+
+        new ChessBoard(400, atlas).draw(mockBatch, 0, 0);
+
+        assertEquals(1, countTextureSwitches());
+    }
+
+    /**
+     * Counts how often the texture changes between the regions drawn on the mocked batch, the first one included.
+     */
+    private int countTextureSwitches(){
+        ArgumentCaptor<TextureRegion> regions = ArgumentCaptor.forClass(TextureRegion.class);
+        Mockito.verify(mockBatch, Mockito.atLeastOnce()).draw(regions.capture(),
+            Mockito.anyFloat(), Mockito.anyFloat(), Mockito.anyFloat(), Mockito.anyFloat());
+        int switches = 0;
+        Texture last = null;
+        for (TextureRegion region : regions.getAllValues()){
+            if (region.getTexture() != last){
+                switches++;
+                last = region.getTexture();
+            }
+        }
+        return switches;
+    }
 }
@@ -0,0 +1,94 @@
+package com.shiroyama.chess2.chessboard.pieces;
+
+import com.shiroyama.chess2.chessboard.model.BitBoard;
+import com.shiroyama.chess2.chessboard.model.BoardState;
+import com.shiroyama.chess2.chessboard.model.TargetPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveGeneratorTest {
+
+    private BoardState chessBoard;
+    private int[] buffer;
+
+    @BeforeEach
+    void setUp() {
+        chessBoard = new BoardState();
+        buffer = new int[MoveGenerator.MAX_MOVES];
+    }
+
+    @Test
+    void testEncode() {
+        int move = MoveGenerator.encode(12, 63, MoveGenerator.CAPTURE | MoveGenerator.promotionFlag(PieceType.KNIGHT));
+        assertEquals(12, MoveGenerator.getFrom(move));
+        assertEquals(63, MoveGenerator.getTo(move));
+        assertTrue(MoveGenerator.isCapture(move));
+        assertEquals(PieceType.KNIGHT, MoveGenerator.getPromotion(move));
+
+        int quiet = MoveGenerator.encode(8, 16, 0);
+        assertFalse(MoveGenerator.isCapture(quiet));
+        assertNull(MoveGenerator.getPromotion(quiet));
+    }
+
+    @Test
+    void testInitialMoveCount() {
+        assertEquals(20, MoveGenerator.generateMoves(chessBoard, Team.WHITE, buffer));
+        assertEquals(20, MoveGenerator.generateMoves(chessBoard, Team.BLACK, buffer));
+    }
+
+    @Test
+    void testPromotion() {
+        BitBoard bitBoard = new BitBoard();
+        bitBoard.addPiece(BitBoard.pieceKind(Team.WHITE, PieceType.PAWN), BitBoard.square(0, 1));
+        bitBoard.addPiece(BitBoard.pieceKind(Team.BLACK, PieceType.ROOK), BitBoard.square(1, 0));
+
+        int count = MoveGenerator.generateMoves(bitBoard, Team.WHITE, buffer);
+        assertEquals(8, count);
+        for (int i = 0; i < count; i++) {
+            assertNotNull(MoveGenerator.getPromotion(buffer[i]));
+        }
+    }
+
+    @Test
+    void testMatchesRules() {
+        assertSameMoves();
+
+        chessBoard.movePiece(new TargetPoint(4, 6), new TargetPoint(4, 4));
+        chessBoard.movePiece(new TargetPoint(3, 1), new TargetPoint(3, 3));
+        chessBoard.movePiece(new TargetPoint(5, 7), new TargetPoint(1, 3));
+        chessBoard.movePiece(new TargetPoint(6, 0), new TargetPoint(5, 2));
+        chessBoard.movePiece(new TargetPoint(4, 7), new TargetPoint(7, 3));
+        assertSameMoves();
+    }
+
+    private void assertSameMoves() {
+        for (int x = 0; x < 8; x++) {
+            for (int y = 0; y < 8; y++) {
+                PieceInfo piece = chessBoard.pieces[x][y];
+                if (piece == null) {
+                    continue;
+                }
+                ArrayList<TargetPoint> list = new ArrayList<>();
+                Rules.GetValidMoves(list, new TargetPoint(x, y), piece, chessBoard);
+                Set<Integer> expected = new HashSet<>();
+                for (TargetPoint point : list) {
+                    expected.add(BitBoard.square(point));
+                }
+
+                int count = MoveGenerator.generateMoves(chessBoard.getBitBoard(), BitBoard.square(x, y), buffer, 0);
+                Set<Integer> actual = new HashSet<>();
+                for (int i = 0; i < count; i++) {
+                    assertEquals(BitBoard.square(x, y), MoveGenerator.getFrom(buffer[i]));
+                    actual.add(MoveGenerator.getTo(buffer[i]));
+                }
+                assertEquals(expected, actual, piece.getName() + " at " + x + "-" + y);
+            }
+        }
+    }
+}
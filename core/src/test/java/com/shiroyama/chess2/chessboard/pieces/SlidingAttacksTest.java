@@ -0,0 +1,59 @@
+package com.shiroyama.chess2.chessboard.pieces;
+
+import com.shiroyama.chess2.chessboard.model.BitBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingAttacksTest {
+
+    private static final int[][] BISHOP_DIRECTIONS = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+    private static final int[][] ROOK_DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+
+    @Test
+    void testEmptyBoard() {
+        assertEquals(13, Long.bitCount(SlidingAttacks.bishopAttacks(BitBoard.square(3, 3), 0L)));
+        assertEquals(14, Long.bitCount(SlidingAttacks.rookAttacks(BitBoard.square(0, 0), 0L)));
+        assertEquals(27, Long.bitCount(SlidingAttacks.queenAttacks(BitBoard.square(4, 4), 0L)));
+    }
+
+    @Test
+    void testBlockerIncluded() {
+        long occupied = 1L << BitBoard.square(0, 3);
+        long attacks = SlidingAttacks.rookAttacks(BitBoard.square(0, 0), occupied);
+        assertTrue((attacks & occupied) != 0);
+        assertEquals(0L, attacks & (1L << BitBoard.square(0, 4)));
+    }
+
+    @Test
+    void testMatchesRayWalk() {
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            long occupied = random.nextLong() & random.nextLong();
+            for (int square = 0; square < 64; square++) {
+                assertEquals(rayWalk(square, occupied, BISHOP_DIRECTIONS), SlidingAttacks.bishopAttacks(square, occupied));
+                assertEquals(rayWalk(square, occupied, ROOK_DIRECTIONS), SlidingAttacks.rookAttacks(square, occupied));
+            }
+        }
+    }
+
+    private long rayWalk(int square, long occupied, int[][] directions) {
+        long attacks = 0L;
+        for (int[] direction : directions) {
+            int x = BitBoard.squareX(square) + direction[0];
+            int y = BitBoard.squareY(square) + direction[1];
+            while (x >= 0 && x <= 7 && y >= 0 && y <= 7) {
+                long bit = 1L << BitBoard.square(x, y);
+                attacks |= bit;
+                if ((occupied & bit) != 0) {
+                    break;
+                }
+                x += direction[0];
+                y += direction[1];
+            }
+        }
+        return attacks;
+    }
+}
@@ -0,0 +1,98 @@
+package com.shiroyama.chess2.utils;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetCacheTest {
+
+    private static final String PAWN = "chess_pieces/white-pawn.png";
+
+    private AssetCache assets;
+
+    @BeforeEach
+    void setUp() {
+        new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {}
+        }, new HeadlessApplicationConfiguration());
+
+        Gdx.gl = Mockito.mock(GL20.class);
+        Gdx.gl20 = Mockito.mock(GL20.class);
+
+        assets = new AssetCache();
+    }
+
+    @AfterEach
+    void tearDown() {
+        assets.dispose();
+    }
+
+    @Test
+    void testAcquireSharesLoadedAsset() {
+        Texture first = assets.acquire(PAWN, Texture.class);
+        Texture second = assets.acquire(PAWN, Texture.class);
+
+        assertSame(first, second);
+        assertEquals(2, assets.getReferenceCount(PAWN));
+    }
+
+    @Test
+    void testReleaseUnloadsAfterLastReference() {
+        assets.acquire(PAWN, Texture.class);
+        assets.acquire(PAWN, Texture.class);
+
+        assets.release(PAWN);
+        assertTrue(assets.isLoaded(PAWN));
+        assertEquals(1, assets.getReferenceCount(PAWN));
+
+        assets.release(PAWN);
+        assertFalse(assets.isLoaded(PAWN));
+        assertEquals(0, assets.getReferenceCount(PAWN));
+    }
+
+    @Test
+    void testReleaseUnheldAssetDoesNothing() {
+        assertDoesNotThrow(() -> assets.release(PAWN));
+        assertFalse(assets.isLoaded(PAWN));
+    }
+
+    @Test
+    void testPreloadLoadsOnUpdate() {
+        assets.preload(PAWN, Texture.class);
+        assertFalse(assets.isLoaded(PAWN));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!assets.update(10)) {
+            assertTrue(System.currentTimeMillis() < deadline, "loading timed out");
+        }
+
+        assertTrue(assets.isLoaded(PAWN));
+        assertEquals(1f, assets.getProgress());
+        assertEquals(1, assets.getReferenceCount(PAWN));
+    }
+
+    @Test
+    void testPieceTexturesRoundTrip() {
+        HashMap<String, Texture> textures = TextureLoader.acquirePieceTextures(assets);
+
+        assertEquals(12, textures.size());
+        assertSame(textures.get("white-pawn"), assets.acquire(PAWN, Texture.class));
+        assertEquals(2, assets.getReferenceCount(PAWN));
+
+        TextureLoader.releasePieceTextures(assets);
+        assertEquals(1, assets.getReferenceCount(PAWN));
+        assertFalse(assets.isLoaded("chess_pieces/black-king.png"));
+    }
+}
@@ -0,0 +1,100 @@
+package com.shiroyama.chess2.utils;
+
+import com.shiroyama.chess2.chessboard.model.TargetPoint;
+import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+import com.shiroyama.chess2.chessboard.pieces.Team;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventSinkTest {
+
+    private GameEventSink sink;
+    private PieceInfo pawn;
+    private PieceInfo rook;
+
+    @BeforeEach
+    void setUp() {
+        sink = new GameEventSink(4);
+        sink.setTracing(true);
+        pawn = new PieceInfo(Team.WHITE, PieceType.PAWN, new TargetPoint(4, 6), 3, 1f);
+        rook = new PieceInfo(Team.BLACK, PieceType.ROOK, new TargetPoint(4, 4), 5, 2f);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sink.stop();
+    }
+
+    @Test
+    void testDrainInPublishOrder() {
+        sink.move(pawn, new TargetPoint(4, 6), new TargetPoint(4, 5));
+        sink.duel(pawn, rook, false);
+        sink.hit(rook, 4);
+
+        List<String> lines = new ArrayList<>();
+        assertEquals(3, sink.drain(event -> lines.add(event.toString())));
+        assertEquals("white-pawn moved from {4-6} to {4-5}.", lines.get(0));
+        assertEquals("white-pawn attacked black-rook, black-rook won.", lines.get(1));
+        assertEquals("black-rook hit, 4 HP left.", lines.get(2));
+        assertEquals(0, sink.drain(event -> fail("drained twice")));
+    }
+
+    @Test
+    void testEventFields() {
+        sink.click(new TargetPoint(2, 3));
+
+        sink.drain(event -> {
+            assertEquals(GameEventType.CLICK, event.getType());
+            assertNull(event.getTeam());
+            assertEquals(2, event.getFromX());
+            assertEquals(3, event.getFromY());
+            assertTrue(event.getTimeNanos() != 0);
+        });
+    }
+
+    @Test
+    void testFullBufferDropsNewEvents() {
+        for (int i = 0; i < 6; i++) {
+            sink.shot(pawn);
+        }
+
+        assertEquals(2, sink.getDroppedCount());
+        assertEquals(4, sink.drain(event -> assertEquals(GameEventType.SHOT, event.getType())));
+
+        sink.shot(rook);
+        sink.drain(event -> assertEquals(Team.BLACK, event.getTeam()));
+    }
+
+    @Test
+    void testTracingOffRecordsNothing() {
+        sink.setTracing(false);
+        sink.promotion(pawn);
+
+        assertEquals(0, sink.drain(event -> fail("recorded while tracing is off")));
+    }
+
+    @Test
+    void testCapacityRoundsUpToPowerOfTwo() {
+        assertEquals(8, new GameEventSink(5).getCapacity());
+        assertEquals(1, new GameEventSink(1).getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new GameEventSink(0));
+    }
+
+    @Test
+    void testStopDrainsWaitingEvents() {
+        sink.start();
+        assertTrue(sink.isRunning());
+        sink.attack(pawn, rook);
+
+        sink.stop();
+        assertFalse(sink.isRunning());
+        assertEquals(0, sink.drain(event -> fail("left in the buffer")));
+    }
+}
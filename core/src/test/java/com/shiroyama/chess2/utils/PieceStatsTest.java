@@ -0,0 +1,69 @@
+package com.shiroyama.chess2.utils;
+
+import com.shiroyama.chess2.chessboard.pieces.PieceInfo;
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PieceStatsTest {
+
+    private Properties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new Properties();
+        properties.setProperty("QUEEN.hp", " 25 ");
+        properties.setProperty("QUEEN.attackRate", "4.5");
+        properties.setProperty("ROOK.hp", "many");
+        properties.setProperty("ROOK.attackRate", "3.5");
+    }
+
+    @Test
+    void testFromProperties() {
+        PieceStats stats = PieceStats.fromProperties(properties);
+        assertEquals(25, stats.getHp(PieceType.QUEEN));
+        assertEquals(4.5f, stats.getAttackRate(PieceType.QUEEN));
+        assertEquals(PieceInfo.getDefaultHp(PieceType.ROOK), stats.getHp(PieceType.ROOK));
+        assertEquals(3.5f, stats.getAttackRate(PieceType.ROOK));
+        assertEquals(PieceInfo.getDefaultAttackRate(PieceType.PAWN), stats.getAttackRate(PieceType.PAWN));
+    }
+
+    @Test
+    void testParseRejectsIncompleteStats() {
+        assertThrows(IllegalArgumentException.class, () -> PieceStats.parse(properties));
+        assertThrows(IllegalArgumentException.class, () -> PieceStats.parse(new Properties()));
+
+        Properties complete = PieceStats.defaults().withHp(PieceType.KING, 30).toProperties();
+        assertEquals(30, PieceStats.parse(complete).getHp(PieceType.KING));
+        complete.setProperty("PAWN.attackRate", "fast");
+        assertThrows(IllegalArgumentException.class, () -> PieceStats.parse(complete));
+    }
+
+    @Test
+    void testWithLeavesSnapshotUnchanged() {
+        PieceStats stats = PieceStats.defaults();
+        PieceStats changed = stats.withHp(PieceType.KING, 5).withAttackRate(PieceType.KING, 2f);
+
+        assertEquals(PieceInfo.getDefaultHp(PieceType.KING), stats.getHp(PieceType.KING));
+        assertEquals(PieceInfo.getDefaultAttackRate(PieceType.KING), stats.getAttackRate(PieceType.KING));
+        assertEquals(5, changed.getHp(PieceType.KING));
+        assertEquals(2f, changed.getAttackRate(PieceType.KING));
+
+        changed.getHpArray()[PieceType.KING.ordinal()] = 99;
+        assertEquals(5, changed.getHp(PieceType.KING));
+    }
+
+    @Test
+    void testPropertiesRoundTrip() {
+        PieceStats stats = PieceStats.fromProperties(properties);
+        PieceStats copy = PieceStats.fromProperties(stats.toProperties());
+        for (PieceType pieceType : PieceType.values()) {
+            assertEquals(stats.getHp(pieceType), copy.getHp(pieceType));
+            assertEquals(stats.getAttackRate(pieceType), copy.getAttackRate(pieceType));
+        }
+    }
+}
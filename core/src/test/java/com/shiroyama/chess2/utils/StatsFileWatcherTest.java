@@ -0,0 +1,108 @@
+package com.shiroyama.chess2.utils;
+
+import com.shiroyama.chess2.chessboard.pieces.PieceType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatsFileWatcherTest {
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private BlockingQueue<PieceStats> reloads;
+    private StatsFileWatcher watcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = directory.resolve("stats.cfg");
+        write(PieceStats.defaults().withHp(PieceType.QUEEN, 15));
+        reloads = new LinkedBlockingQueue<>();
+        watcher = new StatsFileWatcher(file, reloads::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        watcher.stop();
+    }
+
+    @Test
+    void testParse() throws IOException {
+        assertEquals(15, StatsFileWatcher.parse(file).getHp(PieceType.QUEEN));
+    }
+
+    @Test
+    void testReloadsChangedFile() throws Exception {
+        watcher.start();
+        assertTrue(watcher.isRunning());
+
+        write(PieceStats.defaults().withHp(PieceType.QUEEN, 30).withAttackRate(PieceType.QUEEN, 6f));
+
+        PieceStats stats = reloads.poll(10, TimeUnit.SECONDS);
+        assertNotNull(stats);
+        assertEquals(30, stats.getHp(PieceType.QUEEN));
+        assertEquals(6f, stats.getAttackRate(PieceType.QUEEN));
+    }
+
+    @Test
+    void testKeepsStatsOfBrokenFile() throws Exception {
+        watcher.start();
+
+        write("QUEEN.hp=30\n");
+        assertNull(reloads.poll(1, TimeUnit.SECONDS));
+        write("");
+        assertNull(reloads.poll(1, TimeUnit.SECONDS));
+        Properties malformed = PieceStats.defaults().toProperties();
+        malformed.setProperty("KING.hp", "thirty");
+        write(malformed);
+        assertNull(reloads.poll(1, TimeUnit.SECONDS));
+
+        write(PieceStats.defaults().withHp(PieceType.KING, 30));
+        PieceStats stats = reloads.poll(10, TimeUnit.SECONDS);
+        assertNotNull(stats);
+        assertEquals(30, stats.getHp(PieceType.KING));
+    }
+
+    @Test
+    void testIgnoresOtherFiles() throws Exception {
+        watcher.start();
+        Files.write(directory.resolve("other.cfg"), "QUEEN.hp=30\n".getBytes(StandardCharsets.ISO_8859_1));
+        assertNull(reloads.poll(500, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testStop() throws IOException {
+        watcher.start();
+        watcher.start();
+        watcher.stop();
+        assertFalse(watcher.isRunning());
+    }
+
+    private void write(String content) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private void write(PieceStats stats) throws IOException {
+        write(stats.toProperties());
+    }
+
+    private void write(Properties properties) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            properties.store(out, null);
+        }
+    }
+}
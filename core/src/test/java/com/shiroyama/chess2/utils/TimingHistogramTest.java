@@ -0,0 +1,81 @@
+package com.shiroyama.chess2.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingHistogramTest {
+
+    private TimingHistogram histogram;
+
+    @BeforeEach
+    void setUp() {
+        histogram = new TimingHistogram();
+    }
+
+    @Test
+    void testBucketsCoverDurationsWithinThreePercent() {
+        for (long nanos = 1; nanos < TimingHistogram.MAX_TRACKED_NANOS; nanos = nanos * 3 / 2 + 1) {
+            int bucket = TimingHistogram.bucketIndex(nanos);
+            long lower = TimingHistogram.bucketLowerBound(bucket);
+            long upper = TimingHistogram.bucketUpperBound(bucket);
+            assertTrue(lower <= nanos && nanos <= upper, nanos + " outside [" + lower + ", " + upper + "]");
+            assertTrue(upper - lower <= Math.max(0, lower / 32), "Bucket of " + nanos + " too wide");
+        }
+        assertEquals(histogram.getBucketCount() - 1, TimingHistogram.bucketIndex(TimingHistogram.MAX_TRACKED_NANOS));
+    }
+
+    @Test
+    void testPercentiles() {
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1_000_000L);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(1_000_000L, histogram.getMin());
+        assertEquals(100_000_000L, histogram.getMax());
+        assertEquals(50_500_000.0, histogram.getMean(), 1.0);
+        assertEquals(50_000_000.0, histogram.getValueAtPercentile(50), 50_000_000 * 0.04);
+        assertEquals(99_000_000.0, histogram.getValueAtPercentile(99), 99_000_000 * 0.04);
+        assertEquals(100_000_000L, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void testLongDurationsAreClamped() {
+        histogram.record(-5);
+        histogram.record(TimingHistogram.MAX_TRACKED_NANOS * 4);
+        assertEquals(0, histogram.getMin());
+        assertEquals(TimingHistogram.MAX_TRACKED_NANOS * 4, histogram.getMax());
+        assertEquals(1, histogram.getBucketCountAt(histogram.getBucketCount() - 1));
+    }
+
+    @Test
+    void testReset() {
+        histogram.record(42);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    void testProfilerReport() {
+        FrameProfiler profiler = new FrameProfiler();
+        profiler.stop(FrameSection.ARENA_UPDATE, profiler.start());
+        assertEquals(1, profiler.getHistogram(FrameSection.ARENA_UPDATE).getCount());
+
+        StringWriter out = new StringWriter();
+        profiler.writeReport(out);
+        String report = out.toString();
+        for (FrameSection section : FrameSection.values()) {
+            assertTrue(report.contains("\n" + section.name() + ","), "Missing " + section);
+        }
+        assertTrue(report.contains("section,count,mean,p50,p90,p99,p99.9,max"));
+
+        profiler.reset();
+        assertEquals(0, profiler.getHistogram(FrameSection.ARENA_UPDATE).getCount());
+    }
+}
@@ -0,0 +1,122 @@
+package com.shiroyama.chess2.lwjgl3;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link AsyncAppender} counting the events it drops, configured in {@code logback.xml}.
+ * Once its queue is mostly full it drops the events below WARN, and with {@code neverBlock} it drops any event
+ * finding the queue full, so the logging thread never waits for the disk. Both kinds of drops are counted,
+ * and reported as a warning of the logback status when the appender stops.
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    /**
+     * The number of events dropped because the queue was above the discarding threshold.
+     */
+    private final LongAdder discarded = new LongAdder();
+
+    /**
+     * The number of events which found the queue full, dropped if the appender never blocks.
+     */
+    private final LongAdder overflowed = new LongAdder();
+
+    /**
+     * Checks whether an event may be dropped, which happens if it may and the queue is above the threshold.
+     * It is only called in that case, so every discardable event is counted as dropped.
+     *
+     * @param event the event
+     * @return true if the event is below WARN, false otherwise
+     */
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            discarded.increment();
+        }
+        return discardable;
+    }
+
+    /**
+     * Prepares an event for the queue, counting it as dropped if it will find the queue full.
+     * The count may be off by the few events the worker takes in the meantime.
+     *
+     * @param event the event
+     */
+    @Override
+    protected void preprocess(ILoggingEvent event) {
+        super.preprocess(event);
+        if (isNeverBlock() && getRemainingCapacity() == 0) {
+            overflowed.increment();
+        }
+    }
+
+    /**
+     * Stops the appender after flushing its queue, reporting the dropped events.
+     */
+    @Override
+    public void stop() {
+        super.stop();
+        long dropped = getDroppedCount();
+        if (dropped > 0) {
+            addWarn(getName() + " dropped " + dropped + " events: " + getDiscardedCount()
+                + " below the discarding threshold, " + getOverflowCount() + " with the queue full.");
+        }
+    }
+
+    /**
+     * Gets the number of events dropped because the queue was above the discarding threshold.
+     *
+     * @return the number of events
+     */
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    /**
+     * Gets the number of events dropped because the queue was full.
+     *
+     * @return the number of events
+     */
+    public long getOverflowCount() {
+        return overflowed.sum();
+    }
+
+    /**
+     * Gets the number of events dropped for either reason.
+     *
+     * @return the number of events
+     */
+    public long getDroppedCount() {
+        return getDiscardedCount() + getOverflowCount();
+    }
+
+    /**
+     * Sums the events dropped by the {@code CountingAsyncAppender}s of the root logger.
+     *
+     * @return the number of events, 0 if logback is not the SLF4J backend
+     */
+    public static long getTotalDroppedCount() {
+        ILoggerFactory factory = LoggerFactory.getILoggerFactory();
+        if (!(factory instanceof LoggerContext)) {
+            return 0;
+        }
+        long total = 0;
+        Logger root = ((LoggerContext) factory).getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        for (Iterator<Appender<ILoggingEvent>> it = root.iteratorForAppenders(); it.hasNext(); ) {
+            Appender<ILoggingEvent> appender = it.next();
+            if (appender instanceof CountingAsyncAppender) {
+                total += ((CountingAsyncAppender) appender).getDroppedCount();
+            }
+        }
+        return total;
+    }
+}
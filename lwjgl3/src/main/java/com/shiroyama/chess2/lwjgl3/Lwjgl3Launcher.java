@@ -3,12 +3,21 @@ package com.shiroyama.chess2.lwjgl3;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 import com.shiroyama.chess2.ChessGame;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /** Launches the desktop (LWJGL3) application. */
 public class Lwjgl3Launcher {
+    private static final Logger logger = LoggerFactory.getLogger(Lwjgl3Launcher.class);
+
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
         createApplication();
+        // The application has closed; report what the asynchronous log appenders had to drop to keep up.
+        long dropped = CountingAsyncAppender.getTotalDroppedCount();
+        if (dropped > 0) {
+            logger.warn("{} log events were dropped while the game was running.", dropped);
+        }
     }
 
     private static Lwjgl3Application createApplication() {